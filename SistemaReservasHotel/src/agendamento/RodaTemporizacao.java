@@ -0,0 +1,153 @@
+package agendamento;
+
+import java.util.List;
+
+/**
+ * Roda de temporização com hash (hashed timing wheel) para prazos de expiração.
+ *
+ * O tempo é dividido em ticks de duração fixa e cada tick cai em uma das posições de um vetor
+ * circular; cada posição guarda uma lista duplamente ligada dos temporizadores que vencem nos
+ * ticks mapeados para ela. Agendar e cancelar são O(1), independentemente de quantos
+ * temporizadores estejam pendentes. Ao avançar o relógio, apenas as posições dos ticks
+ * decorridos são visitadas e os vencidos são entregues em lote.
+ *
+ * A roda é passiva: não tem thread própria e só avança quando {@link #avancar} é chamado,
+ * na thread de quem a possui. Não é segura para uso concorrente.
+ *
+ * @param <T> Tipo do item associado a cada temporizador
+ */
+public class RodaTemporizacao<T> {
+
+    /**
+     * Temporizador agendado na roda; serve de alça para o cancelamento.
+     */
+    public static final class Temporizador<T> {
+        private final T item;
+        private final long tickVencimento;
+        private Temporizador<T> anterior, proximo;
+        private boolean pendente;
+
+        private Temporizador(T item, long tickVencimento) {
+            this.item = item;
+            this.tickVencimento = tickVencimento;
+        }
+
+        public T getItem() {
+            return item;
+        }
+
+        /**
+         * @return true enquanto não venceu nem foi cancelado
+         */
+        public boolean isPendente() {
+            return pendente;
+        }
+    }
+
+    private final Temporizador<T>[] posicoes;   // cabeças das listas
+    private final int mascara;
+    private final long duracaoTick;              // em milissegundos
+    private long tickAtual;                      // último tick processado
+    private int pendentes;
+
+    /**
+     * @param totalPosicoes Posições da roda (arredondado para potência de 2)
+     * @param duracaoTick   Duração de um tick em milissegundos (precisão da expiração)
+     * @param agora         Instante inicial em milissegundos
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public RodaTemporizacao(int totalPosicoes, long duracaoTick, long agora) {
+        if (totalPosicoes <= 0) throw new IllegalArgumentException("Número de posições deve ser maior que zero.");
+        if (duracaoTick <= 0) throw new IllegalArgumentException("Duração do tick deve ser maior que zero.");
+        int tamanho = Integer.highestOneBit(totalPosicoes);
+        if (tamanho < totalPosicoes) tamanho <<= 1;
+        this.posicoes = (Temporizador<T>[]) new Temporizador[tamanho];
+        this.mascara = tamanho - 1;
+        this.duracaoTick = duracaoTick;
+        this.tickAtual = Math.floorDiv(agora, duracaoTick);
+    }
+
+    /**
+     * Agenda um item para vencer no instante dado (arredondado para cima ao tick seguinte).
+     *
+     * @param item       Item a entregar no vencimento
+     * @param vencimento Instante de vencimento em milissegundos
+     * @return temporizador, para cancelamento
+     */
+    public Temporizador<T> agendar(T item, long vencimento) {
+        long tick = Math.max(Math.floorDiv(vencimento + duracaoTick - 1, duracaoTick), tickAtual + 1);
+        Temporizador<T> t = new Temporizador<>(item, tick);
+        int posicao = (int) (tick & mascara);
+        t.proximo = posicoes[posicao];
+        if (t.proximo != null) t.proximo.anterior = t;
+        posicoes[posicao] = t;
+        t.pendente = true;
+        pendentes++;
+        return t;
+    }
+
+    /**
+     * Retira o temporizador da roda antes do vencimento.
+     *
+     * @return true se estava pendente
+     */
+    public boolean cancelar(Temporizador<T> temporizador) {
+        if (!temporizador.pendente) return false;
+        desligar(temporizador);
+        return true;
+    }
+
+    /**
+     * Avança o relógio até {@code agora} e coleta os itens vencidos.
+     *
+     * @param agora    Instante atual em milissegundos
+     * @param vencidos Lista onde os itens vencidos são acrescentados
+     * @return quantidade de itens vencidos
+     */
+    public int avancar(long agora, List<T> vencidos) {
+        long tickAlvo = Math.floorDiv(agora, duracaoTick);
+        int antes = vencidos.size();
+        if (tickAlvo - tickAtual > posicoes.length) {
+            // parado por mais de uma volta: uma passada por todas as posições basta
+            for (Temporizador<T> cabeca : posicoes.clone()) {
+                coletar(cabeca, tickAlvo, vencidos);
+            }
+            tickAtual = tickAlvo;
+        }
+        while (tickAtual < tickAlvo) {
+            tickAtual++;
+            coletar(posicoes[(int) (tickAtual & mascara)], tickAtual, vencidos);
+        }
+        return vencidos.size() - antes;
+    }
+
+    public int pendentes() {
+        return pendentes;
+    }
+
+    // ==========================
+    // MÉTODOS AUXILIARES
+    // ==========================
+
+    // Percorre uma posição entregando os temporizadores vencidos até o tick; os de voltas futuras ficam
+    private void coletar(Temporizador<T> cabeca, long tick, List<T> vencidos) {
+        Temporizador<T> t = cabeca;
+        while (t != null) {
+            Temporizador<T> seguinte = t.proximo;
+            if (t.tickVencimento <= tick) {
+                desligar(t);
+                vencidos.add(t.item);
+            }
+            t = seguinte;
+        }
+    }
+
+    private void desligar(Temporizador<T> t) {
+        if (t.anterior != null) t.anterior.proximo = t.proximo;
+        else posicoes[(int) (t.tickVencimento & mascara)] = t.proximo;
+        if (t.proximo != null) t.proximo.anterior = t.anterior;
+        t.anterior = t.proximo = null;
+        t.pendente = false;
+        pendentes--;
+    }
+}
@@ -0,0 +1,207 @@
+package analitica;
+
+import eventos.OuvinteReservas;
+import gerenciador.GerenciadorReservas;
+import historico.HistoricoReservas;
+import modelos.Cpf;
+import modelos.Quarto;
+import modelos.Reserva;
+
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Analítica aproximada, em memória constante, sobre todo o histórico de reservas.
+ *
+ * - Filtro de Bloom: "este CPF já cancelou alguma vez?" (sem falsos negativos)
+ * - HyperLogLog por mês de check-in: clientes distintos em um período
+ * - Count-Min: reservas por cliente, cancelamentos por cliente e reservas por quarto
+ *
+ * Os sketches são alimentados a cada cadastro e arquivamento e contam eventos desde que
+ * foram criados (uma reserva cancelada continua contando como reserva feita).
+ * Instâncias criadas com os mesmos parâmetros podem ser mescladas (ex: períodos ou hotéis diferentes).
+ */
+public class AnaliticaAproximada implements OuvinteReservas {
+
+    private final int precisaoHll;
+    private final FiltroBloom cancelaram;
+    private final TreeMap<YearMonth, HyperLogLog> clientesPorMes;
+    private final CountMinSketch reservasPorCliente;
+    private final CountMinSketch cancelamentosPorCliente;
+    private final CountMinSketch reservasPorQuarto;
+
+    /**
+     * @param capacidadeClientes Número esperado de clientes distintos (dimensiona o filtro de Bloom)
+     * @param taxaFalsoPositivo  Taxa de falsos positivos do filtro de Bloom (ex: 0.01)
+     * @param precisaoHll        Precisão dos contadores HyperLogLog (ex: 14)
+     * @param epsilon            Erro relativo dos sketches Count-Min (ex: 0.001)
+     * @param delta              Probabilidade de falha dos sketches Count-Min (ex: 0.01)
+     */
+    public AnaliticaAproximada(long capacidadeClientes, double taxaFalsoPositivo, int precisaoHll,
+                               double epsilon, double delta) {
+        this.precisaoHll = precisaoHll;
+        this.cancelaram = new FiltroBloom(capacidadeClientes, taxaFalsoPositivo);
+        this.clientesPorMes = new TreeMap<>();
+        this.reservasPorCliente = new CountMinSketch(epsilon, delta);
+        this.cancelamentosPorCliente = new CountMinSketch(epsilon, delta);
+        this.reservasPorQuarto = new CountMinSketch(epsilon, delta);
+    }
+
+    /**
+     * Parâmetros padrão: 1 milhão de clientes, 1% de falsos positivos,
+     * HyperLogLog com erro de ~0,8% e Count-Min com epsilon 0,001 e delta 0,01.
+     */
+    public AnaliticaAproximada() {
+        this(1_000_000, 0.01, 14, 0.001, 0.01);
+    }
+
+    /**
+     * Carrega o estado atual e registra a analítica como ouvinte do gerenciador e do histórico.
+     *
+     * @param gerenciador Gerenciador de reservas ativas
+     * @param historico   Histórico de cancelamentos
+     * @param analitica   Analítica a conectar
+     * @return a própria analítica
+     */
+    public static AnaliticaAproximada conectar(GerenciadorReservas gerenciador, HistoricoReservas historico,
+                                               AnaliticaAproximada analitica) {
+        for (Reserva r : gerenciador.listarReservas()) {
+            analitica.reservaCadastrada(r);
+        }
+        for (Reserva r : historico.listarReservasCanceladas()) {
+            analitica.reservaCadastrada(r);
+            analitica.reservaArquivada(r);
+        }
+        gerenciador.adicionarOuvinte(analitica);
+        historico.adicionarOuvinte(analitica);
+        return analitica;
+    }
+
+    // ==========================
+    // EVENTOS
+    // ==========================
+
+    @Override
+    public synchronized void reservaCadastrada(Reserva reserva) {
+        long cpf = reserva.getCliente().getCpfNumerico().getNumero();
+        clientesPorMes.computeIfAbsent(YearMonth.from(reserva.getDataCheckIn()), m -> new HyperLogLog(precisaoHll))
+                .adicionar(cpf);
+        reservasPorCliente.adicionar(cpf);
+        reservasPorQuarto.adicionar(reserva.getQuarto().getNumero());
+    }
+
+    /**
+     * Uma modificação não é uma nova reserva: os contadores de reservas ficam como estão,
+     * apenas o cliente passa a contar também no mês do novo check-in.
+     */
+    @Override
+    public synchronized void reservaModificada(Reserva antiga, Reserva nova) {
+        clientesPorMes.computeIfAbsent(YearMonth.from(nova.getDataCheckIn()), m -> new HyperLogLog(precisaoHll))
+                .adicionar(nova.getCliente().getCpfNumerico().getNumero());
+    }
+
+    @Override
+    public synchronized void reservaArquivada(Reserva reserva) {
+        long cpf = reserva.getCliente().getCpfNumerico().getNumero();
+        cancelaram.adicionar(cpf);
+        cancelamentosPorCliente.adicionar(cpf);
+    }
+
+    // ==========================
+    // CONSULTAS
+    // ==========================
+
+    /**
+     * @param cpf CPF do cliente
+     * @return false se o cliente com certeza nunca cancelou; true se possivelmente cancelou
+     *         (erro dado por {@link #taxaFalsoPositivoCancelamentos()})
+     */
+    public synchronized boolean possivelmenteCancelou(Cpf cpf) {
+        return cancelaram.contemPossivelmente(cpf.getNumero());
+    }
+
+    /**
+     * Estima quantos clientes distintos tiveram check-in entre dois meses (inclusive).
+     *
+     * @param inicio Primeiro mês
+     * @param fim    Último mês
+     * @return estimativa de clientes distintos (erro padrão relativo em {@link #erroPadraoClientesDistintos()})
+     */
+    public synchronized long clientesDistintos(YearMonth inicio, YearMonth fim) {
+        HyperLogLog uniao = new HyperLogLog(precisaoHll);
+        for (HyperLogLog hll : clientesPorMes.subMap(inicio, true, fim, true).values()) {
+            uniao.mesclar(hll);
+        }
+        return uniao.estimar();
+    }
+
+    /**
+     * @return estimativa (limite superior) de reservas feitas pelo cliente
+     */
+    public synchronized long reservasDoCliente(Cpf cpf) {
+        return reservasPorCliente.estimar(cpf.getNumero());
+    }
+
+    /**
+     * @return estimativa (limite superior) de cancelamentos do cliente
+     */
+    public synchronized long cancelamentosDoCliente(Cpf cpf) {
+        return cancelamentosPorCliente.estimar(cpf.getNumero());
+    }
+
+    /**
+     * @return estimativa (limite superior) de reservas feitas para o quarto
+     */
+    public synchronized long reservasDoQuarto(Quarto quarto) {
+        return reservasPorQuarto.estimar(quarto.getNumero());
+    }
+
+    // ==========================
+    // LIMITES DE ERRO
+    // ==========================
+
+    public synchronized double taxaFalsoPositivoCancelamentos() {
+        return cancelaram.taxaFalsoPositivoEstimada();
+    }
+
+    public double erroPadraoClientesDistintos() {
+        return new HyperLogLog(precisaoHll).erroPadrao();
+    }
+
+    /**
+     * @return erro absoluto máximo das frequências por cliente (com probabilidade 1 - delta)
+     */
+    public synchronized double erroMaximoReservasPorCliente() {
+        return reservasPorCliente.erroMaximo();
+    }
+
+    public synchronized double erroMaximoCancelamentosPorCliente() {
+        return cancelamentosPorCliente.erroMaximo();
+    }
+
+    public synchronized double erroMaximoReservasPorQuarto() {
+        return reservasPorQuarto.erroMaximo();
+    }
+
+    // ==========================
+    // MESCLA
+    // ==========================
+
+    /**
+     * Soma os sketches de outra analítica a esta (ex: outro período ou outro hotel).
+     * A outra analítica não deve estar recebendo eventos durante a mescla.
+     *
+     * @param outra Analítica criada com os mesmos parâmetros
+     */
+    public synchronized void mesclar(AnaliticaAproximada outra) {
+        if (outra == this) return;
+        cancelaram.mesclar(outra.cancelaram);
+        for (Map.Entry<YearMonth, HyperLogLog> e : outra.clientesPorMes.entrySet()) {
+            clientesPorMes.computeIfAbsent(e.getKey(), m -> new HyperLogLog(precisaoHll)).mesclar(e.getValue());
+        }
+        reservasPorCliente.mesclar(outra.reservasPorCliente);
+        cancelamentosPorCliente.mesclar(outra.cancelamentosPorCliente);
+        reservasPorQuarto.mesclar(outra.reservasPorQuarto);
+    }
+}
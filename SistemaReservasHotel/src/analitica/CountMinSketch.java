@@ -0,0 +1,115 @@
+package analitica;
+
+/**
+ * Sketch Count-Min para frequências aproximadas de chaves long.
+ * A estimativa nunca é menor que a frequência real e, com probabilidade 1 - delta,
+ * excede a real em no máximo epsilon · (total de ocorrências).
+ * Sketches com as mesmas dimensões podem ser mesclados.
+ */
+public class CountMinSketch {
+
+    private final int largura;
+    private final int profundidade;
+    private final long[][] contadores;
+    private final long[] sementes;
+    private final double epsilon;
+    private final double delta;
+    private long total;
+
+    /**
+     * @param epsilon Erro relativo ao total de ocorrências (ex: 0.001)
+     * @param delta   Probabilidade de o erro passar de epsilon (ex: 0.01)
+     */
+    public CountMinSketch(double epsilon, double delta) {
+        if (epsilon <= 0 || epsilon >= 1) throw new IllegalArgumentException("Epsilon deve estar entre 0 e 1.");
+        if (delta <= 0 || delta >= 1) throw new IllegalArgumentException("Delta deve estar entre 0 e 1.");
+        this.epsilon = epsilon;
+        this.delta = delta;
+        this.largura = (int) Math.ceil(Math.E / epsilon);
+        this.profundidade = (int) Math.ceil(Math.log(1 / delta));
+        this.contadores = new long[profundidade][largura];
+        this.sementes = new long[profundidade];
+        for (int i = 0; i < profundidade; i++) {
+            sementes[i] = Hashes.misturar(i + 1);
+        }
+    }
+
+    // ==========================
+    // OPERAÇÕES
+    // ==========================
+
+    public void adicionar(long chave) {
+        adicionar(chave, 1);
+    }
+
+    /**
+     * @param chave      Chave
+     * @param ocorrencias Quantidade a somar (não negativa)
+     */
+    public void adicionar(long chave, long ocorrencias) {
+        if (ocorrencias < 0) throw new IllegalArgumentException("Ocorrências não podem ser negativas.");
+        for (int i = 0; i < profundidade; i++) {
+            contadores[i][coluna(chave, i)] += ocorrencias;
+        }
+        total += ocorrencias;
+    }
+
+    /**
+     * @param chave Chave consultada
+     * @return frequência estimada (limite superior da real)
+     */
+    public long estimar(long chave) {
+        long minimo = Long.MAX_VALUE;
+        for (int i = 0; i < profundidade; i++) {
+            minimo = Math.min(minimo, contadores[i][coluna(chave, i)]);
+        }
+        return minimo;
+    }
+
+    /**
+     * Soma outro sketch a este.
+     *
+     * @param outro Sketch criado com os mesmos epsilon e delta
+     */
+    public void mesclar(CountMinSketch outro) {
+        if (outro.largura != largura || outro.profundidade != profundidade)
+            throw new IllegalArgumentException("Sketches com dimensões diferentes não podem ser mesclados.");
+        for (int i = 0; i < profundidade; i++) {
+            for (int j = 0; j < largura; j++) {
+                contadores[i][j] += outro.contadores[i][j];
+            }
+        }
+        total += outro.total;
+    }
+
+    // ==========================
+    // LIMITES DE ERRO
+    // ==========================
+
+    /**
+     * @return erro absoluto máximo (com probabilidade 1 - delta): epsilon · total
+     */
+    public double erroMaximo() {
+        return epsilon * total;
+    }
+
+    public double getEpsilon() {
+        return epsilon;
+    }
+
+    public double getDelta() {
+        return delta;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    // ==========================
+    // MÉTODOS AUXILIARES
+    // ==========================
+
+    private int coluna(long chave, int linha) {
+        return (int) Long.remainderUnsigned(Hashes.misturar(chave ^ sementes[linha]), largura);
+    }
+}
@@ -0,0 +1,103 @@
+package analitica;
+
+/**
+ * Filtro de Bloom sobre chaves long.
+ * Responde "com certeza não contém" ou "possivelmente contém", com taxa de falsos
+ * positivos configurada na criação. Filtros com os mesmos parâmetros podem ser mesclados.
+ */
+public class FiltroBloom {
+
+    private final long[] bits;
+    private final int totalBits;
+    private final int totalHashes;
+    private final long capacidade;
+    private long inseridos;
+
+    /**
+     * @param capacidade        Quantidade esperada de elementos
+     * @param taxaFalsoPositivo Taxa de falsos positivos desejada com a capacidade cheia (ex: 0.01)
+     */
+    public FiltroBloom(long capacidade, double taxaFalsoPositivo) {
+        if (capacidade <= 0) throw new IllegalArgumentException("Capacidade deve ser maior que zero.");
+        if (taxaFalsoPositivo <= 0 || taxaFalsoPositivo >= 1)
+            throw new IllegalArgumentException("Taxa de falsos positivos deve estar entre 0 e 1.");
+
+        // m = -n·ln(p) / (ln 2)²  e  k = (m/n)·ln 2
+        double m = -capacidade * Math.log(taxaFalsoPositivo) / (Math.log(2) * Math.log(2));
+        this.totalBits = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, Math.ceil(m)));
+        this.totalHashes = Math.max(1, (int) Math.round((double) totalBits / capacidade * Math.log(2)));
+        this.bits = new long[(totalBits + 63) >>> 6];
+        this.capacidade = capacidade;
+    }
+
+    // ==========================
+    // OPERAÇÕES
+    // ==========================
+
+    public void adicionar(long chave) {
+        long h1 = Hashes.misturar(chave);
+        long h2 = Hashes.misturar2(chave);
+        for (int i = 0; i < totalHashes; i++) {
+            int bit = posicao(h1 + i * h2);
+            bits[bit >>> 6] |= 1L << bit;
+        }
+        inseridos++;
+    }
+
+    /**
+     * @param chave Chave consultada
+     * @return false se a chave com certeza nunca foi adicionada; true se possivelmente foi
+     */
+    public boolean contemPossivelmente(long chave) {
+        long h1 = Hashes.misturar(chave);
+        long h2 = Hashes.misturar2(chave);
+        for (int i = 0; i < totalHashes; i++) {
+            int bit = posicao(h1 + i * h2);
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Soma outro filtro a este (união dos conjuntos).
+     *
+     * @param outro Filtro criado com os mesmos parâmetros
+     */
+    public void mesclar(FiltroBloom outro) {
+        if (outro.totalBits != totalBits || outro.totalHashes != totalHashes)
+            throw new IllegalArgumentException("Filtros com parâmetros diferentes não podem ser mesclados.");
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] |= outro.bits[i];
+        }
+        inseridos += outro.inseridos;
+    }
+
+    // ==========================
+    // LIMITES DE ERRO
+    // ==========================
+
+    /**
+     * Taxa de falsos positivos esperada com a quantidade atual de inserções: (1 - e^(-k·n/m))^k.
+     *
+     * @return probabilidade de falso positivo
+     */
+    public double taxaFalsoPositivoEstimada() {
+        return Math.pow(1 - Math.exp(-(double) totalHashes * inseridos / totalBits), totalHashes);
+    }
+
+    public long getInseridos() {
+        return inseridos;
+    }
+
+    public long getCapacidade() {
+        return capacidade;
+    }
+
+    // ==========================
+    // MÉTODOS AUXILIARES
+    // ==========================
+
+    private int posicao(long hash) {
+        return (int) Long.remainderUnsigned(hash, totalBits);
+    }
+}
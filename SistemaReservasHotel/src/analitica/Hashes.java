@@ -0,0 +1,28 @@
+package analitica;
+
+/**
+ * Funções de hash de 64 bits usadas pelos sketches.
+ */
+final class Hashes {
+
+    private Hashes() {
+    }
+
+    /**
+     * Mistura os bits de um valor (finalizador do SplitMix64).
+     * Barato e com boa distribuição mesmo para chaves sequenciais, como CPFs e números de quarto.
+     */
+    static long misturar(long x) {
+        x += 0x9E3779B97F4A7C15L;
+        x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        return x ^ (x >>> 31);
+    }
+
+    /**
+     * Segundo hash, independente do primeiro, para hashing duplo (h1 + i·h2).
+     */
+    static long misturar2(long x) {
+        return misturar(x ^ 0xC2B2AE3D27D4EB4FL);
+    }
+}
@@ -0,0 +1,106 @@
+package analitica;
+
+/**
+ * Contador aproximado de elementos distintos (HyperLogLog) sobre chaves long.
+ * Usa 2^precisao registradores de 1 byte; o erro padrão é 1,04 / √(2^precisao)
+ * (cerca de 0,8% com precisão 14, em 16 KB). Contadores com a mesma precisão podem ser mesclados.
+ */
+public class HyperLogLog {
+
+    private final int precisao;
+    private final byte[] registradores;
+
+    /**
+     * @param precisao Número de bits usados para escolher o registrador (4 a 18)
+     */
+    public HyperLogLog(int precisao) {
+        if (precisao < 4 || precisao > 18)
+            throw new IllegalArgumentException("Precisão deve estar entre 4 e 18.");
+        this.precisao = precisao;
+        this.registradores = new byte[1 << precisao];
+    }
+
+    // ==========================
+    // OPERAÇÕES
+    // ==========================
+
+    public void adicionar(long chave) {
+        long h = Hashes.misturar(chave);
+        int indice = (int) (h >>> (64 - precisao));
+        // posição do primeiro bit 1 nos bits restantes (o bit sentinela limita o valor)
+        long resto = (h << precisao) | (1L << (precisao - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(resto) + 1);
+        if (rank > registradores[indice]) {
+            registradores[indice] = rank;
+        }
+    }
+
+    /**
+     * @return estimativa da quantidade de elementos distintos adicionados
+     */
+    public long estimar() {
+        int m = registradores.length;
+        double soma = 0;
+        int zeros = 0;
+        for (byte r : registradores) {
+            soma += 1.0 / (1L << r);
+            if (r == 0) zeros++;
+        }
+        double estimativa = alfa(m) * m * m / soma;
+
+        // correção para cardinalidades pequenas: contagem linear
+        if (estimativa <= 2.5 * m && zeros > 0) {
+            estimativa = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimativa);
+    }
+
+    /**
+     * Une outro contador a este (máximo de cada registrador).
+     *
+     * @param outro Contador com a mesma precisão
+     */
+    public void mesclar(HyperLogLog outro) {
+        if (outro.precisao != precisao)
+            throw new IllegalArgumentException("Contadores com precisões diferentes não podem ser mesclados.");
+        for (int i = 0; i < registradores.length; i++) {
+            if (outro.registradores[i] > registradores[i]) {
+                registradores[i] = outro.registradores[i];
+            }
+        }
+    }
+
+    public HyperLogLog copiar() {
+        HyperLogLog copia = new HyperLogLog(precisao);
+        System.arraycopy(registradores, 0, copia.registradores, 0, registradores.length);
+        return copia;
+    }
+
+    // ==========================
+    // LIMITES DE ERRO
+    // ==========================
+
+    /**
+     * @return erro padrão relativo da estimativa (1,04 / √m)
+     */
+    public double erroPadrao() {
+        return 1.04 / Math.sqrt(registradores.length);
+    }
+
+    public int getPrecisao() {
+        return precisao;
+    }
+
+    // ==========================
+    // MÉTODOS AUXILIARES
+    // ==========================
+
+    private static double alfa(int m) {
+        switch (m) {
+            case 16: return 0.673;
+            case 32: return 0.697;
+            case 64: return 0.709;
+            default: return 0.7213 / (1 + 1.079 / m);
+        }
+    }
+}
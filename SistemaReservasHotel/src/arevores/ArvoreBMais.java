@@ -0,0 +1,360 @@
+package arevores;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Implementação genérica de uma Árvore B+.
+ *
+ * Cada nó guarda dezenas de chaves em um vetor contíguo, então a árvore tem poucos níveis e
+ * cada busca visita poucos nós. Os valores ficam apenas nas folhas, ligadas em sequência:
+ * percursos em ordem e consultas por intervalo descem uma única vez e depois seguem as folhas.
+ *
+ * Inserções no fim da ordem (o caso comum de um histórico, que só cresce) dividem a última
+ * folha deixando a anterior cheia, em vez de pela metade.
+ *
+ * @param <T> Tipo genérico que deve implementar Comparable
+ */
+public class ArvoreBMais<T extends Comparable<T>> implements IndiceOrdenado<T> {
+
+    public static final int ORDEM_PADRAO = 64;
+
+    /**
+     * Classe interna que representa um nó da árvore.
+     * Folha: {@code total} valores em {@code chaves} e ligação com a próxima folha.
+     * Nó interno: {@code total} separadores e {@code total + 1} filhos; o filho i+1 começa em chaves[i].
+     */
+    private static final class Nodo {
+        final boolean folha;
+        final Object[] chaves;
+        final Nodo[] filhos;
+        int total;
+        Nodo proxima; // só em folhas
+
+        Nodo(boolean folha, int capacidade) {
+            this.folha = folha;
+            this.chaves = new Object[capacidade + 1]; // uma posição extra antes da divisão
+            this.filhos = folha ? null : new Nodo[capacidade + 2];
+        }
+    }
+
+    private final int capacidadeFolha;    // valores por folha
+    private final int capacidadeInterno;  // separadores por nó interno
+    private Nodo raiz;
+    private int tamanho;
+
+    // Resultado da última inserção recursiva
+    private boolean inserido;
+    private Object separadorNovo;
+    private Nodo irmaoNovo;
+
+    public ArvoreBMais() {
+        this(ORDEM_PADRAO);
+    }
+
+    /**
+     * @param ordem Máximo de filhos de um nó interno (e de valores de uma folha); mínimo 4
+     */
+    public ArvoreBMais(int ordem) {
+        if (ordem < 4) throw new IllegalArgumentException("Ordem da árvore B+ deve ser pelo menos 4.");
+        this.capacidadeFolha = ordem;
+        this.capacidadeInterno = ordem - 1;
+        this.raiz = new Nodo(true, capacidadeFolha);
+    }
+
+    // =========================================
+    // INSERÇÃO
+    // =========================================
+
+    @Override
+    public boolean inserir(T valor) {
+        inserido = false;
+        irmaoNovo = null;
+        inserirRec(raiz, valor);
+        if (irmaoNovo != null) { // a raiz foi dividida: a árvore ganha um nível
+            Nodo novaRaiz = new Nodo(false, capacidadeInterno);
+            novaRaiz.chaves[0] = separadorNovo;
+            novaRaiz.filhos[0] = raiz;
+            novaRaiz.filhos[1] = irmaoNovo;
+            novaRaiz.total = 1;
+            raiz = novaRaiz;
+            irmaoNovo = null;
+        }
+        if (inserido) tamanho++;
+        return inserido;
+    }
+
+    // Ao voltar, irmaoNovo != null indica que o nó foi dividido e separadorNovo deve subir
+    private void inserirRec(Nodo nodo, T valor) {
+        if (nodo.folha) {
+            int pos = buscar(nodo, valor);
+            if (pos >= 0) return; // já existe
+            pos = -pos - 1;
+            inserirEm(nodo.chaves, nodo.total, pos, valor);
+            nodo.total++;
+            inserido = true;
+            if (nodo.total > capacidadeFolha) dividirFolha(nodo, pos);
+            return;
+        }
+
+        int i = indiceFilho(nodo, valor);
+        inserirRec(nodo.filhos[i], valor);
+        if (irmaoNovo == null) return;
+
+        inserirEm(nodo.chaves, nodo.total, i, separadorNovo);
+        inserirEm(nodo.filhos, nodo.total + 1, i + 1, irmaoNovo);
+        nodo.total++;
+        irmaoNovo = null;
+        if (nodo.total > capacidadeInterno) dividirInterno(nodo);
+    }
+
+    private void dividirFolha(Nodo folha, int posInserida) {
+        // na última folha, com inserção no fim, a folha atual fica cheia (carga crescente)
+        int ficam = (folha.proxima == null && posInserida == folha.total - 1)
+                ? folha.total - 1 : folha.total / 2;
+        Nodo direita = new Nodo(true, capacidadeFolha);
+        direita.total = folha.total - ficam;
+        System.arraycopy(folha.chaves, ficam, direita.chaves, 0, direita.total);
+        Arrays.fill(folha.chaves, ficam, folha.total, null);
+        folha.total = ficam;
+        direita.proxima = folha.proxima;
+        folha.proxima = direita;
+        separadorNovo = direita.chaves[0];
+        irmaoNovo = direita;
+    }
+
+    private void dividirInterno(Nodo nodo) {
+        int meio = nodo.total / 2;
+        Nodo direita = new Nodo(false, capacidadeInterno);
+        direita.total = nodo.total - meio - 1;
+        System.arraycopy(nodo.chaves, meio + 1, direita.chaves, 0, direita.total);
+        System.arraycopy(nodo.filhos, meio + 1, direita.filhos, 0, direita.total + 1);
+        separadorNovo = nodo.chaves[meio];
+        Arrays.fill(nodo.chaves, meio, nodo.total, null);
+        Arrays.fill(nodo.filhos, meio + 1, nodo.total + 1, null);
+        nodo.total = meio;
+        irmaoNovo = direita;
+    }
+
+    // =========================================
+    // REMOÇÃO
+    // =========================================
+
+    @Override
+    public boolean remover(T valor) {
+        boolean removido = removerRec(raiz, valor);
+        if (!raiz.folha && raiz.total == 0) { // a raiz ficou com um único filho: a árvore perde um nível
+            raiz = raiz.filhos[0];
+        }
+        if (removido) tamanho--;
+        return removido;
+    }
+
+    private boolean removerRec(Nodo nodo, T valor) {
+        if (nodo.folha) {
+            int pos = buscar(nodo, valor);
+            if (pos < 0) return false;
+            removerDe(nodo.chaves, nodo.total, pos);
+            nodo.total--;
+            return true;
+        }
+        int i = indiceFilho(nodo, valor);
+        Nodo filho = nodo.filhos[i];
+        boolean removido = removerRec(filho, valor);
+        if (removido && filho.total < minimo(filho)) {
+            reequilibrar(nodo, i);
+        }
+        return removido;
+    }
+
+    // O filho i ficou abaixo do mínimo: empresta de um irmão ou junta-se a ele
+    private void reequilibrar(Nodo pai, int i) {
+        Nodo filho = pai.filhos[i];
+        Nodo esquerdo = i > 0 ? pai.filhos[i - 1] : null;
+        Nodo direito = i < pai.total ? pai.filhos[i + 1] : null;
+
+        if (esquerdo != null && esquerdo.total > minimo(esquerdo)) {
+            emprestarDaEsquerda(pai, i, esquerdo, filho);
+        } else if (direito != null && direito.total > minimo(direito)) {
+            emprestarDaDireita(pai, i, filho, direito);
+        } else if (esquerdo != null) {
+            juntar(pai, i - 1, esquerdo, filho);
+        } else if (direito != null) {
+            juntar(pai, i, filho, direito);
+        }
+    }
+
+    private void emprestarDaEsquerda(Nodo pai, int i, Nodo esquerdo, Nodo filho) {
+        if (filho.folha) {
+            inserirEm(filho.chaves, filho.total, 0, esquerdo.chaves[esquerdo.total - 1]);
+            pai.chaves[i - 1] = filho.chaves[0];
+        } else {
+            inserirEm(filho.chaves, filho.total, 0, pai.chaves[i - 1]);
+            inserirEm(filho.filhos, filho.total + 1, 0, esquerdo.filhos[esquerdo.total]);
+            pai.chaves[i - 1] = esquerdo.chaves[esquerdo.total - 1];
+            esquerdo.filhos[esquerdo.total] = null;
+        }
+        esquerdo.chaves[esquerdo.total - 1] = null;
+        esquerdo.total--;
+        filho.total++;
+    }
+
+    private void emprestarDaDireita(Nodo pai, int i, Nodo filho, Nodo direito) {
+        if (filho.folha) {
+            filho.chaves[filho.total] = direito.chaves[0];
+            removerDe(direito.chaves, direito.total, 0);
+            pai.chaves[i] = direito.chaves[0];
+        } else {
+            filho.chaves[filho.total] = pai.chaves[i];
+            filho.filhos[filho.total + 1] = direito.filhos[0];
+            pai.chaves[i] = direito.chaves[0];
+            removerDe(direito.chaves, direito.total, 0);
+            removerDe(direito.filhos, direito.total + 1, 0);
+        }
+        direito.total--;
+        filho.total++;
+    }
+
+    // Junta o filho k+1 do pai no filho k e remove o separador k
+    private void juntar(Nodo pai, int k, Nodo esquerdo, Nodo direito) {
+        if (esquerdo.folha) {
+            System.arraycopy(direito.chaves, 0, esquerdo.chaves, esquerdo.total, direito.total);
+            esquerdo.total += direito.total;
+            esquerdo.proxima = direito.proxima;
+        } else {
+            esquerdo.chaves[esquerdo.total] = pai.chaves[k];
+            System.arraycopy(direito.chaves, 0, esquerdo.chaves, esquerdo.total + 1, direito.total);
+            System.arraycopy(direito.filhos, 0, esquerdo.filhos, esquerdo.total + 1, direito.total + 1);
+            esquerdo.total += direito.total + 1;
+        }
+        removerDe(pai.chaves, pai.total, k);
+        removerDe(pai.filhos, pai.total + 1, k + 1);
+        pai.total--;
+    }
+
+    private int minimo(Nodo nodo) {
+        return nodo.folha ? capacidadeFolha / 2 : capacidadeInterno / 2;
+    }
+
+    // =========================================
+    // CONSULTAS
+    // =========================================
+
+    @Override
+    public boolean contem(T valor) {
+        Nodo nodo = raiz;
+        while (!nodo.folha) {
+            nodo = nodo.filhos[indiceFilho(nodo, valor)];
+        }
+        return buscar(nodo, valor) >= 0;
+    }
+
+    @Override
+    public List<T> intervalo(T inicio, T fim) {
+        List<T> elementos = new ArrayList<>();
+        Nodo folha = raiz;
+        while (!folha.folha) {
+            folha = folha.filhos[indiceFilho(folha, inicio)];
+        }
+        int pos = buscar(folha, inicio);
+        if (pos < 0) pos = -pos - 1;
+        for (; folha != null; folha = folha.proxima, pos = 0) {
+            for (; pos < folha.total; pos++) {
+                T valor = valor(folha, pos);
+                if (valor.compareTo(fim) > 0) return elementos;
+                elementos.add(valor);
+            }
+        }
+        return elementos;
+    }
+
+    @Override
+    public List<T> getElementosEmOrdem() {
+        List<T> elementos = new ArrayList<>(tamanho);
+        for (Nodo folha = primeiraFolha(); folha != null; folha = folha.proxima) {
+            for (int i = 0; i < folha.total; i++) {
+                elementos.add(valor(folha, i));
+            }
+        }
+        return elementos;
+    }
+
+    // =========================================
+    // RELATÓRIOS
+    // =========================================
+
+    @Override
+    public int tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * @return número de níveis (todas as folhas estão na mesma profundidade)
+     */
+    @Override
+    public int altura() {
+        if (tamanho == 0) return 0;
+        int niveis = 1;
+        for (Nodo nodo = raiz; !nodo.folha; nodo = nodo.filhos[0]) niveis++;
+        return niveis;
+    }
+
+    /**
+     * @return percentual médio de ocupação das folhas
+     */
+    public double ocupacaoFolhas() {
+        int folhas = 0;
+        for (Nodo folha = primeiraFolha(); folha != null; folha = folha.proxima) folhas++;
+        return folhas == 0 ? 0.0 : (double) tamanho / ((long) folhas * capacidadeFolha) * 100;
+    }
+
+    // =========================================
+    // MÉTODOS AUXILIARES
+    // =========================================
+
+    private Nodo primeiraFolha() {
+        Nodo nodo = raiz;
+        while (!nodo.folha) nodo = nodo.filhos[0];
+        return nodo;
+    }
+
+    // Filho onde o valor está ou estaria: quantidade de separadores <= valor
+    private int indiceFilho(Nodo nodo, T valor) {
+        int baixo = 0, alto = nodo.total;
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (valor(nodo, meio).compareTo(valor) <= 0) baixo = meio + 1;
+            else alto = meio;
+        }
+        return baixo;
+    }
+
+    // Busca binária na folha: posição do valor, ou -(ponto de inserção) - 1
+    private int buscar(Nodo folha, T valor) {
+        int baixo = 0, alto = folha.total - 1;
+        while (baixo <= alto) {
+            int meio = (baixo + alto) >>> 1;
+            int cmp = valor(folha, meio).compareTo(valor);
+            if (cmp < 0) baixo = meio + 1;
+            else if (cmp > 0) alto = meio - 1;
+            else return meio;
+        }
+        return -(baixo + 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T valor(Nodo nodo, int i) {
+        return (T) nodo.chaves[i];
+    }
+
+    private static void inserirEm(Object[] vetor, int usados, int pos, Object valor) {
+        System.arraycopy(vetor, pos, vetor, pos + 1, usados - pos);
+        vetor[pos] = valor;
+    }
+
+    private static void removerDe(Object[] vetor, int usados, int pos) {
+        System.arraycopy(vetor, pos + 1, vetor, pos, usados - pos - 1);
+        vetor[usados - 1] = null;
+    }
+}
@@ -9,7 +9,7 @@ import java.util.List;
  *
  * @param <T> Tipo genérico que deve implementar Comparable
  */
-public class ArvoreRubroNegra<T extends Comparable<T>> {
+public class ArvoreRubroNegra<T extends Comparable<T>> implements IndiceOrdenado<T> {
 
     private enum Cor { VERMELHO, PRETO }
 
@@ -28,6 +28,7 @@ public class ArvoreRubroNegra<T extends Comparable<T>> {
     }
 
     private Nodo raiz;
+    private int tamanho;
 
     public ArvoreRubroNegra() {
         raiz = null;
@@ -37,10 +38,20 @@ public class ArvoreRubroNegra<T extends Comparable<T>> {
     // INSERÇÃO
     // =========================================
 
-    public void inserir(T valor) {
+    /**
+     * Insere um valor na árvore. Valores iguais (compareTo == 0) a um já existente são ignorados.
+     *
+     * @param valor Valor a inserir
+     * @return true se inserido, false se já existia um valor igual
+     */
+    @Override
+    public boolean inserir(T valor) {
+        if (contem(valor)) return false;
         Nodo novo = new Nodo(valor);
         raiz = inserirRec(raiz, novo);
         corrigirInsercao(novo);
+        tamanho++;
+        return true;
     }
 
     private Nodo inserirRec(Nodo atual, Nodo novo) {
@@ -136,6 +147,7 @@ public class ArvoreRubroNegra<T extends Comparable<T>> {
     // CONSULTAS
     // =========================================
 
+    @Override
     public boolean contem(T valor) {
         return contemRec(raiz, valor);
     }
@@ -148,6 +160,7 @@ public class ArvoreRubroNegra<T extends Comparable<T>> {
         else return contemRec(nodo.direito, valor);
     }
 
+    @Override
     public List<T> getElementosEmOrdem() {
         List<T> elementos = new ArrayList<>();
         percorrerEmOrdem(raiz, elementos);
@@ -162,10 +175,36 @@ public class ArvoreRubroNegra<T extends Comparable<T>> {
         }
     }
 
+    @Override
+    public List<T> intervalo(T inicio, T fim) {
+        List<T> elementos = new ArrayList<>();
+        percorrerIntervalo(raiz, inicio, fim, elementos);
+        return elementos;
+    }
+
+    // Percurso em ordem que só desce nas subárvores que podem ter valores do intervalo
+    private void percorrerIntervalo(Nodo nodo, T inicio, T fim, List<T> elementos) {
+        if (nodo == null) return;
+        boolean depoisDoInicio = nodo.valor.compareTo(inicio) >= 0;
+        boolean antesDoFim = nodo.valor.compareTo(fim) <= 0;
+        if (depoisDoInicio) percorrerIntervalo(nodo.esquerdo, inicio, fim, elementos);
+        if (depoisDoInicio && antesDoFim) elementos.add(nodo.valor);
+        if (antesDoFim) percorrerIntervalo(nodo.direito, inicio, fim, elementos);
+    }
+
     // =========================================
     // RELATÓRIOS
     // =========================================
 
+    /**
+     * @return número de elementos na árvore, sem percorrê-la
+     */
+    @Override
+    public int tamanho() {
+        return tamanho;
+    }
+
+    @Override
     public int altura() {
         return alturaRec(raiz);
     }
@@ -197,12 +236,14 @@ public class ArvoreRubroNegra<T extends Comparable<T>> {
         }
     }
 
+    @Override
     public boolean remover(T valor) {
         Nodo nodo = buscarNodo(raiz, valor);
         if (nodo == null) {
             return false; // não encontrado
         }
         removerNodo(nodo);
+        tamanho--;
         return true;
     }
 
@@ -0,0 +1,49 @@
+package arevores;
+
+import java.util.List;
+
+/**
+ * Índice ordenado de valores únicos (pela ordem natural), usado como estrutura de apoio
+ * do gerenciador e do histórico. Permite trocar a estrutura de cada componente sem mudar o código dele.
+ *
+ * @param <T> Tipo genérico que deve implementar Comparable
+ */
+public interface IndiceOrdenado<T extends Comparable<T>> {
+
+    /**
+     * Insere um valor. Valores iguais (compareTo == 0) a um já existente são ignorados.
+     *
+     * @param valor Valor a inserir
+     * @return true se inserido, false se já existia um valor igual
+     */
+    boolean inserir(T valor);
+
+    /**
+     * @param valor Valor a remover
+     * @return true se removido, false se não encontrado
+     */
+    boolean remover(T valor);
+
+    boolean contem(T valor);
+
+    /**
+     * Lista os valores entre dois limites (inclusive), em ordem.
+     *
+     * @param inicio Menor valor do intervalo
+     * @param fim    Maior valor do intervalo
+     * @return valores do intervalo
+     */
+    List<T> intervalo(T inicio, T fim);
+
+    List<T> getElementosEmOrdem();
+
+    /**
+     * @return número de elementos, sem percorrer a estrutura
+     */
+    int tamanho();
+
+    /**
+     * @return número de níveis da estrutura
+     */
+    int altura();
+}
@@ -0,0 +1,287 @@
+package catalogo;
+
+import modelos.Quarto;
+import modelos.RegistroEntidades;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Catálogo dos quartos do hotel.
+ * Cada quarto tem um id inteiro denso (o mesmo do {@link RegistroEntidades}),
+ * as categorias são normalizadas em um dicionário de ids e cada categoria
+ * mantém o conjunto (BitSet) dos seus quartos ativos.
+ * Quartos podem ser adicionados e retirados em tempo de execução.
+ */
+public class CatalogoQuartos {
+
+    private final RegistroEntidades registro;
+
+    private final BitSet ativos;            // ids dos quartos ativos
+    private int[] categoriaPorQuarto;       // id do quarto -> id da categoria (-1 se nunca entrou no catálogo)
+    private int totalAtivos;
+    private long versao;                    // incrementada a cada quarto adicionado ou retirado
+
+    private final Map<String, Integer> idPorCategoria;   // nome normalizado -> id
+    private final Map<String, Integer> cacheCategorias;  // texto consultado -> id (evita normalizar de novo)
+    private static final int LIMITE_CACHE_CATEGORIAS = 256;
+    private final List<String> nomesCategorias;
+    private final List<BitSet> quartosPorCategoria;
+
+    /**
+     * @param registro Registro que fornece as instâncias únicas e os ids dos quartos
+     */
+    public CatalogoQuartos(RegistroEntidades registro) {
+        if (registro == null) throw new IllegalArgumentException("Registro não pode ser nulo.");
+        this.registro = registro;
+        this.ativos = new BitSet();
+        this.categoriaPorQuarto = new int[16];
+        Arrays.fill(categoriaPorQuarto, -1);
+        this.totalAtivos = 0;
+        this.idPorCategoria = new HashMap<>();
+        this.cacheCategorias = new HashMap<>();
+        this.nomesCategorias = new ArrayList<>();
+        this.quartosPorCategoria = new ArrayList<>();
+    }
+
+    // ==========================
+    // MANUTENÇÃO DO CATÁLOGO
+    // ==========================
+
+    /**
+     * Adiciona (ou reativa) um quarto no catálogo.
+     *
+     * @param numero    Número do quarto
+     * @param categoria Categoria do quarto
+     * @return Quarto adicionado
+     * @throws IllegalArgumentException se o quarto já estiver ativo, ou se já existiu em outra categoria
+     */
+    public Quarto adicionarQuarto(int numero, String categoria) {
+        Quarto quarto = registro.internarQuarto(numero, categoria);
+        int id = registro.idQuarto(quarto);
+        if (ativos.get(id)) {
+            throw new IllegalArgumentException("Quarto já cadastrado: " + numero);
+        }
+        // a instância do quarto é compartilhada por todas as reservas, inclusive as do histórico:
+        // trocar a categoria dela reescreveria a categoria dessas reservas
+        if (!normalizar(quarto.getCategoria()).equals(normalizar(categoria))) {
+            throw new IllegalArgumentException("Quarto " + numero + " pertence à categoria "
+                    + quarto.getCategoria() + " e não pode ser reativado como " + categoria.trim());
+        }
+
+        int idCat = registrarCategoria(quarto.getCategoria());
+        if (id >= categoriaPorQuarto.length) {
+            int tamanhoAnterior = categoriaPorQuarto.length;
+            categoriaPorQuarto = Arrays.copyOf(categoriaPorQuarto, Math.max(id + 1, tamanhoAnterior * 2));
+            Arrays.fill(categoriaPorQuarto, tamanhoAnterior, categoriaPorQuarto.length, -1);
+        }
+        categoriaPorQuarto[id] = idCat;
+        quartosPorCategoria.get(idCat).set(id);
+        ativos.set(id);
+        totalAtivos++;
+        versao++;
+        return quarto;
+    }
+
+    /**
+     * Retira um quarto do catálogo. O id do quarto continua reservado no registro,
+     * de forma que reservas antigas continuam resolvendo o quarto.
+     *
+     * @param numero Número do quarto
+     * @return true se retirado, false se não estava ativo
+     */
+    public boolean retirarQuarto(int numero) {
+        Quarto quarto = registro.buscarQuarto(numero);
+        if (quarto == null) return false;
+        int id = registro.idQuarto(quarto);
+        if (!ativos.get(id)) return false;
+
+        ativos.clear(id);
+        quartosPorCategoria.get(categoriaPorQuarto[id]).clear(id);
+        totalAtivos--;
+        versao++;
+        return true;
+    }
+
+    // ==========================
+    // CONSULTAS DE QUARTOS
+    // ==========================
+
+    /**
+     * Busca um quarto ativo pelo número em O(1).
+     *
+     * @param numero Número do quarto
+     * @return Quarto ou null se não existir ou estiver retirado
+     */
+    public Quarto buscarQuarto(int numero) {
+        Quarto quarto = registro.buscarQuarto(numero);
+        if (quarto == null || !ativos.get(registro.idQuarto(quarto))) return null;
+        return quarto;
+    }
+
+    /**
+     * @param quarto Quarto
+     * @return id denso do quarto (ativo ou retirado) ou -1 se nunca cadastrado
+     */
+    public int idQuarto(Quarto quarto) {
+        return registro.idQuarto(quarto);
+    }
+
+    public Quarto quartoPorId(int id) {
+        return registro.quartoPorId(id);
+    }
+
+    public boolean estaAtivo(int idQuarto) {
+        return idQuarto >= 0 && ativos.get(idQuarto);
+    }
+
+    /**
+     * @return maior id de quarto possível + 1 (inclui quartos retirados)
+     */
+    public int capacidadeIds() {
+        return registro.totalQuartos();
+    }
+
+    /**
+     * @return quantidade de quartos ativos
+     */
+    public int totalQuartos() {
+        return totalAtivos;
+    }
+
+    /**
+     * @return cópia do conjunto de ids dos quartos ativos
+     */
+    public BitSet idsQuartosAtivos() {
+        return (BitSet) ativos.clone();
+    }
+
+    /**
+     * Lista os quartos ativos em ordem de id.
+     *
+     * @return Lista de quartos
+     */
+    public List<Quarto> listarQuartos() {
+        List<Quarto> quartos = new ArrayList<>(totalAtivos);
+        for (int id = ativos.nextSetBit(0); id >= 0; id = ativos.nextSetBit(id + 1)) {
+            quartos.add(registro.quartoPorId(id));
+        }
+        return quartos;
+    }
+
+    // ==========================
+    // CONSULTAS DE CATEGORIAS
+    // ==========================
+
+    /**
+     * Resolve o id de uma categoria, sem diferenciar maiúsculas/minúsculas e acentos.
+     *
+     * @param categoria Nome da categoria (ex: "Suíte", "suite")
+     * @return id da categoria ou -1 se desconhecida
+     */
+    public int idCategoria(String categoria) {
+        if (categoria == null) return -1;
+        Integer id = cacheCategorias.get(categoria);
+        if (id != null) return id;
+
+        id = idPorCategoria.get(normalizar(categoria));
+        if (id == null) return -1;
+        // limitado: as chaves são textos arbitrários vindos das consultas
+        if (cacheCategorias.size() < LIMITE_CACHE_CATEGORIAS) cacheCategorias.put(categoria, id);
+        return id;
+    }
+
+    public String nomeCategoria(int idCategoria) {
+        return nomesCategorias.get(idCategoria);
+    }
+
+    public int totalCategorias() {
+        return nomesCategorias.size();
+    }
+
+    /**
+     * O registro pode ser compartilhado: um id válido nele não implica que o quarto passou por este catálogo.
+     *
+     * @param idQuarto Id do quarto no registro
+     * @return id da categoria do quarto (ativo ou retirado), ou -1 se o quarto nunca foi cadastrado no catálogo
+     */
+    public int categoriaDoQuarto(int idQuarto) {
+        return idQuarto >= 0 && idQuarto < categoriaPorQuarto.length ? categoriaPorQuarto[idQuarto] : -1;
+    }
+
+    /**
+     * @param idCategoria Id da categoria
+     * @return cópia do conjunto de ids dos quartos ativos da categoria
+     */
+    public BitSet idsQuartosDaCategoria(int idCategoria) {
+        return (BitSet) quartosPorCategoria.get(idCategoria).clone();
+    }
+
+    /**
+     * @param idCategoria Id da categoria
+     * @return quantidade de quartos ativos da categoria
+     */
+    public int totalQuartos(int idCategoria) {
+        return quartosPorCategoria.get(idCategoria).cardinality();
+    }
+
+    /**
+     * Lista os quartos ativos de uma categoria.
+     *
+     * @param categoria Nome da categoria
+     * @return Lista de quartos (vazia se a categoria não existir)
+     */
+    public List<Quarto> quartosDaCategoria(String categoria) {
+        List<Quarto> quartos = new ArrayList<>();
+        int idCat = idCategoria(categoria);
+        if (idCat < 0) return quartos;
+
+        BitSet ids = quartosPorCategoria.get(idCat);
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            quartos.add(registro.quartoPorId(id));
+        }
+        return quartos;
+    }
+
+    /**
+     * Versão do catálogo: muda a cada quarto adicionado ou retirado.
+     *
+     * @return versão atual
+     */
+    public long getVersao() {
+        return versao;
+    }
+
+    public RegistroEntidades getRegistro() {
+        return registro;
+    }
+
+    // ==========================
+    // MÉTODOS AUXILIARES
+    // ==========================
+
+    private int registrarCategoria(String categoria) {
+        String chave = normalizar(categoria);
+        Integer id = idPorCategoria.get(chave);
+        if (id == null) {
+            id = nomesCategorias.size();
+            idPorCategoria.put(chave, id);
+            nomesCategorias.add(categoria);
+            quartosPorCategoria.add(new BitSet());
+        }
+        return id;
+    }
+
+    // Remove espaços, acentos e diferença entre maiúsculas/minúsculas
+    private static String normalizar(String categoria) {
+        String semAcentos = Normalizer.normalize(categoria.trim(), Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "");
+        return semAcentos.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,125 @@
+package eventos;
+
+import modelos.Reserva;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leitor do {@link JornalEventos} que acrescenta cada evento como uma linha em um arquivo,
+ * em uma thread própria, gravando o arquivo a cada lote.
+ *
+ * Formato: {@code sequencia;instante;tipo;cpf;quarto;checkIn;checkOut}, seguido de
+ * {@code ;quartoAnterior;checkInAnterior;checkOutAnterior} nas modificações.
+ */
+public class GravadorJornal implements Closeable {
+
+    private static final int LOTE = 1024;
+
+    private final JornalEventos jornal;
+    private final JornalEventos.Leitor leitor;
+    private final BufferedWriter saida;
+    private final Thread thread;
+    private volatile boolean ativo;
+    private volatile Exception erro;
+
+    /**
+     * Abre o arquivo (acrescentando ao fim) e começa a gravar os eventos publicados a partir de agora.
+     *
+     * @param jornal  Jornal a seguir
+     * @param arquivo Arquivo de destino
+     */
+    public GravadorJornal(JornalEventos jornal, Path arquivo) throws IOException {
+        this.jornal = jornal;
+        this.saida = Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        this.leitor = jornal.novoLeitor();
+        this.ativo = true;
+        this.thread = new Thread(this::executar, "gravador-jornal");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Grava o que ainda falta, fecha o arquivo e desliga o leitor do jornal.
+     *
+     * @throws IOException se a gravação falhou em algum momento
+     * @throws RuntimeException se a thread de gravação parou por um erro inesperado
+     */
+    @Override
+    public void close() throws IOException {
+        ativo = false;
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        jornal.removerLeitor(leitor);
+        saida.close();
+        if (erro instanceof IOException e) throw e;
+        if (erro instanceof RuntimeException e) throw e;
+    }
+
+    /**
+     * @return eventos publicados e ainda não gravados
+     */
+    public long atraso() {
+        return leitor.atraso();
+    }
+
+    // ==========================
+    // MÉTODOS AUXILIARES
+    // ==========================
+
+    private void executar() {
+        try {
+            while (ativo) {
+                if (leitor.lerAguardando(LOTE, this::gravar, 100, TimeUnit.MILLISECONDS) > 0) {
+                    while (leitor.ler(LOTE, this::gravar) > 0) {
+                        // esvazia o que já foi publicado antes de gravar o arquivo
+                    }
+                    saida.flush();
+                }
+            }
+            while (leitor.ler(LOTE, this::gravar) > 0) {
+                // eventos publicados antes do fechamento
+            }
+            saida.flush();
+        } catch (IOException | RuntimeException e) {
+            erro = e instanceof UncheckedIOException u ? u.getCause() : e;
+        } finally {
+            jornal.removerLeitor(leitor); // a thread parou: não segura o produtor com a contrapressão
+        }
+    }
+
+    private void gravar(JornalEventos.Evento evento) {
+        try {
+            StringBuilder linha = new StringBuilder(96);
+            linha.append(evento.getSequencia()).append(';')
+                    .append(evento.getInstante()).append(';')
+                    .append(evento.getTipo()).append(';')
+                    .append(evento.getReserva().getCliente().getCpf()).append(';');
+            anexar(linha, evento.getReserva());
+            if (evento.getAnterior() != null) {
+                linha.append(';');
+                anexar(linha, evento.getAnterior());
+            }
+            saida.append(linha).append('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void anexar(StringBuilder linha, Reserva reserva) {
+        linha.append(reserva.getQuarto().getNumero()).append(';')
+                .append(reserva.getDataCheckIn()).append(';')
+                .append(reserva.getDataCheckOut());
+    }
+}
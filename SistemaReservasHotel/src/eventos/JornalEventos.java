@@ -0,0 +1,272 @@
+package eventos;
+
+import gerenciador.GerenciadorReservas;
+import historico.HistoricoReservas;
+import modelos.Reserva;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Jornal das alterações nas reservas (captura de mudanças) para sistemas externos:
+ * governança, faturamento, sincronização de canais etc.
+ *
+ * É um buffer circular com um produtor e vários leitores. As posições são alocadas uma
+ * única vez e reaproveitadas a cada volta. O produtor publica avançando o cursor, e cada
+ * {@link Leitor} guarda a própria sequência e lê em lotes, sem travas. Quando o leitor mais
+ * lento está uma volta inteira atrás, o produtor espera (contrapressão), então nenhum evento
+ * é perdido.
+ *
+ * O produtor é a thread que altera o gerenciador e o histórico: os eventos chegam pelos
+ * ouvintes e saem na ordem em que as alterações aconteceram. Um leitor que roda na mesma
+ * thread do produtor deve ler antes que o buffer encha, senão o produtor espera para sempre.
+ */
+public class JornalEventos implements OuvinteReservas {
+
+    public enum TipoEvento { CADASTRADA, CANCELADA, MODIFICADA, ARQUIVADA }
+
+    /**
+     * Posição do buffer. O objeto é reaproveitado nas voltas seguintes: o leitor deve copiar
+     * o que precisar guardar antes de devolver o lote.
+     */
+    public static final class Evento {
+        private long sequencia;
+        private TipoEvento tipo;
+        private Reserva reserva;
+        private Reserva anterior;
+        private long instante;
+
+        public long getSequencia() {
+            return sequencia;
+        }
+
+        public TipoEvento getTipo() {
+            return tipo;
+        }
+
+        /**
+         * @return reserva afetada (na modificação, a reserva nova)
+         */
+        public Reserva getReserva() {
+            return reserva;
+        }
+
+        /**
+         * @return reserva antes da modificação, ou null nos outros tipos
+         */
+        public Reserva getAnterior() {
+            return anterior;
+        }
+
+        /**
+         * @return instante da publicação em milissegundos (epoch)
+         */
+        public long getInstante() {
+            return instante;
+        }
+
+        @Override
+        public String toString() {
+            return sequencia + " " + tipo + " " + (anterior != null ? anterior + " -> " : "") + reserva;
+        }
+    }
+
+    /**
+     * Leitor do jornal com a própria sequência (último evento lido).
+     */
+    public final class Leitor {
+        private final AtomicLong sequencia;
+
+        private Leitor(long inicio) {
+            this.sequencia = new AtomicLong(inicio);
+        }
+
+        /**
+         * Entrega ao processador os eventos publicados e ainda não lidos, no máximo {@code maximo} por chamada.
+         *
+         * @param maximo      Tamanho máximo do lote
+         * @param processador Função chamada para cada evento, em ordem
+         * @return quantidade de eventos lidos (0 se não havia nenhum)
+         */
+        public int ler(int maximo, Consumer<Evento> processador) {
+            long atual = sequencia.get();
+            long ate = Math.min(cursor.getAcquire(), atual + maximo);
+            for (long s = atual + 1; s <= ate; s++) {
+                processador.accept(posicoes[(int) (s & mascara)]);
+            }
+            // libera as posições lidas para o produtor
+            sequencia.setRelease(ate);
+            return (int) (ate - atual);
+        }
+
+        /**
+         * Como {@link #ler}, mas espera até o tempo dado se não houver eventos.
+         *
+         * @return quantidade de eventos lidos (0 se o tempo acabou)
+         */
+        public int lerAguardando(int maximo, Consumer<Evento> processador, long tempo, TimeUnit unidade) {
+            long limite = System.nanoTime() + unidade.toNanos(tempo);
+            int espera = 0;
+            while (cursor.getAcquire() == sequencia.get()) {
+                if (System.nanoTime() - limite >= 0) return 0;
+                esperar(espera++);
+            }
+            return ler(maximo, processador);
+        }
+
+        public long getSequencia() {
+            return sequencia.get();
+        }
+
+        /**
+         * @return eventos publicados e ainda não lidos por este leitor
+         */
+        public long atraso() {
+            return cursor.getAcquire() - sequencia.get();
+        }
+    }
+
+    private final Evento[] posicoes;
+    private final int mascara;
+    private final AtomicLong cursor;          // último evento publicado
+    private final List<Leitor> leitores;
+    private long proximaSequencia;            // só o produtor acessa
+    private long minimoLidoEmCache;           // só o produtor acessa
+    private long esperasProdutor;
+
+    /**
+     * @param capacidade Número de posições (arredondado para a potência de 2 seguinte)
+     */
+    public JornalEventos(int capacidade) {
+        if (capacidade <= 0) throw new IllegalArgumentException("Capacidade do jornal deve ser maior que zero.");
+        int tamanho = Integer.highestOneBit(capacidade);
+        if (tamanho < capacidade) tamanho <<= 1;
+        this.posicoes = new Evento[tamanho];
+        for (int i = 0; i < tamanho; i++) posicoes[i] = new Evento();
+        this.mascara = tamanho - 1;
+        this.cursor = new AtomicLong(-1);
+        this.leitores = new CopyOnWriteArrayList<>();
+        this.minimoLidoEmCache = -1;
+    }
+
+    /**
+     * Registra o jornal como ouvinte do gerenciador e do histórico.
+     * O jornal contém as alterações a partir daqui; o estado atual vem de {@code listarReservas()}.
+     *
+     * @return o próprio jornal
+     */
+    public static JornalEventos conectar(GerenciadorReservas gerenciador, HistoricoReservas historico,
+                                         JornalEventos jornal) {
+        gerenciador.adicionarOuvinte(jornal);
+        historico.adicionarOuvinte(jornal);
+        return jornal;
+    }
+
+    // ==========================
+    // LEITORES
+    // ==========================
+
+    /**
+     * Cria um leitor que recebe os eventos publicados a partir de agora.
+     */
+    public Leitor novoLeitor() {
+        // registrado antes de ter posição: enquanto isso o produtor não dá a volta sobre nenhuma posição;
+        // a sequência inicial só é lida depois, então o leitor nunca começa em posições já reescritas
+        Leitor leitor = new Leitor(Long.MIN_VALUE);
+        leitores.add(leitor);
+        leitor.sequencia.setRelease(cursor.getAcquire());
+        return leitor;
+    }
+
+    /**
+     * Desliga um leitor: o produtor deixa de esperar por ele.
+     */
+    public void removerLeitor(Leitor leitor) {
+        leitores.remove(leitor);
+    }
+
+    public long getCursor() {
+        return cursor.get();
+    }
+
+    public int getCapacidade() {
+        return posicoes.length;
+    }
+
+    /**
+     * @return vezes em que o produtor teve que esperar um leitor lento
+     */
+    public long getEsperasProdutor() {
+        return esperasProdutor;
+    }
+
+    // ==========================
+    // EVENTOS
+    // ==========================
+
+    @Override
+    public void reservaCadastrada(Reserva reserva) {
+        publicar(TipoEvento.CADASTRADA, reserva, null);
+    }
+
+    @Override
+    public void reservaCancelada(Reserva reserva) {
+        publicar(TipoEvento.CANCELADA, reserva, null);
+    }
+
+    @Override
+    public void reservaModificada(Reserva antiga, Reserva nova) {
+        publicar(TipoEvento.MODIFICADA, nova, antiga);
+    }
+
+    @Override
+    public void reservaArquivada(Reserva reserva) {
+        publicar(TipoEvento.ARQUIVADA, reserva, null);
+    }
+
+    // ==========================
+    // MÉTODOS AUXILIARES
+    // ==========================
+
+    private void publicar(TipoEvento tipo, Reserva reserva, Reserva anterior) {
+        long sequencia = proximaSequencia++;
+        aguardarEspaco(sequencia);
+        Evento e = posicoes[(int) (sequencia & mascara)];
+        e.sequencia = sequencia;
+        e.tipo = tipo;
+        e.reserva = reserva;
+        e.anterior = anterior;
+        e.instante = System.currentTimeMillis();
+        cursor.setRelease(sequencia);
+    }
+
+    // A posição da sequência só pode ser reescrita depois que todos os leitores passaram da volta anterior
+    private void aguardarEspaco(long sequencia) {
+        long volta = sequencia - posicoes.length;
+        if (volta <= minimoLidoEmCache) return;
+        int espera = 0;
+        while (volta > (minimoLidoEmCache = menorSequenciaLida(sequencia - 1))) {
+            if (espera == 0) esperasProdutor++;
+            esperar(espera++);
+        }
+    }
+
+    private long menorSequenciaLida(long padrao) {
+        long minimo = padrao;
+        for (Leitor l : leitores) {
+            minimo = Math.min(minimo, l.sequencia.getAcquire());
+        }
+        return minimo;
+    }
+
+    // Gira um pouco, depois cede a vez e por fim dorme por intervalos curtos
+    private static void esperar(int tentativa) {
+        if (tentativa < 100) Thread.onSpinWait();
+        else if (tentativa < 200) Thread.yield();
+        else LockSupport.parkNanos(50_000);
+    }
+}
@@ -0,0 +1,49 @@
+package eventos;
+
+import modelos.Reserva;
+
+/**
+ * Interface para componentes que precisam acompanhar as alterações nas reservas
+ * (agregados de relatórios, caches, monitores etc.).
+ * Todos os métodos têm implementação vazia; cada ouvinte sobrescreve apenas o que usa.
+ */
+public interface OuvinteReservas {
+
+    /**
+     * Chamado após uma reserva ser cadastrada no gerenciador.
+     *
+     * @param reserva Reserva cadastrada
+     */
+    default void reservaCadastrada(Reserva reserva) {
+    }
+
+    /**
+     * Chamado após uma reserva ser cancelada (removida das reservas ativas).
+     * O arquivamento no histórico ({@link #reservaArquivada}) só acontece depois que todos os
+     * ouvintes do gerenciador receberam o cancelamento.
+     *
+     * @param reserva Reserva cancelada
+     */
+    default void reservaCancelada(Reserva reserva) {
+    }
+
+    /**
+     * Chamado após uma reserva ativa ter as datas ou o quarto trocados.
+     * Por padrão equivale a cancelar a antiga e cadastrar a nova (sem passar pelo histórico).
+     *
+     * @param antiga Reserva como era antes
+     * @param nova   Reserva que a substituiu
+     */
+    default void reservaModificada(Reserva antiga, Reserva nova) {
+        reservaCancelada(antiga);
+        reservaCadastrada(nova);
+    }
+
+    /**
+     * Chamado após uma reserva cancelada ser adicionada ao histórico.
+     *
+     * @param reserva Reserva arquivada no histórico
+     */
+    default void reservaArquivada(Reserva reserva) {
+    }
+}
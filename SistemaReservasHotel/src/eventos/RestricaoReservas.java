@@ -0,0 +1,29 @@
+package eventos;
+
+import modelos.Reserva;
+
+/**
+ * Regra consultada pelo gerenciador antes de aceitar uma reserva, depois da verificação de
+ * conflito do quarto (ex: limite de vendas por categoria e dia).
+ * Uma recusa faz a operação falhar sem alterar nada.
+ */
+public interface RestricaoReservas {
+
+    /**
+     * @param reserva Reserva prestes a ser cadastrada (ou bloqueio prestes a ser confirmado;
+     *                bloqueios não passam pelas restrições ao serem feitos)
+     * @return true se a reserva pode entrar
+     */
+    boolean permite(Reserva reserva);
+
+    /**
+     * Chamado antes de uma modificação. Por padrão avalia a reserva nova como se fosse um cadastro.
+     *
+     * @param antiga Reserva como está hoje (ainda ativa)
+     * @param nova   Reserva que vai substituí-la
+     * @return true se a modificação pode ser feita
+     */
+    default boolean permiteModificacao(Reserva antiga, Reserva nova) {
+        return permite(nova);
+    }
+}
@@ -1,13 +1,29 @@
 package gerenciador;
 
+import agendamento.RodaTemporizacao;
+import agendamento.RodaTemporizacao.Temporizador;
+import modelos.Cpf;
 import modelos.Reserva;
 import modelos.Quarto;
 import historico.HistoricoReservas;
 import arevores.ArvoreRubroNegra;
+import arevores.IndiceOrdenado;
+import catalogo.CatalogoQuartos;
+import eventos.OuvinteReservas;
+import eventos.RestricaoReservas;
+import metricas.MetricasOperacao;
+import metricas.RegistroMetricas;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 /**
  * Classe que gerencia as reservas ativas do hotel.
@@ -15,17 +31,151 @@ import java.util.List;
  */
 public class GerenciadorReservas {
 
-    private ArvoreRubroNegra<Reserva> reservasAtivas;
+    private static final String COMPONENTE_METRICAS = "GerenciadorReservas";
+
+    // Roda de expiração dos bloqueios: ticks de 1 s, uma volta a cada ~17 min
+    private static final int POSICOES_RODA = 1024;
+    private static final long TICK_RODA_MS = 1000;
+
+    private IndiceOrdenado<Reserva> reservasAtivas;
     private HistoricoReservas historico;
 
+    // Índice das reservas ativas por cliente, em ordem de check-in
+    private Map<Cpf, TreeSet<Reserva>> reservasPorCliente;
+
+    // Reservas ativas e bloqueios de cada quarto por data de check-in (estadias de um quarto não se sobrepõem)
+    private Map<Quarto, TreeMap<LocalDate, Reserva>> ocupacaoPorQuarto;
+
+    // Componentes notificados a cada cadastro e cancelamento
+    private List<OuvinteReservas> ouvintes;
+
+    // Regras consultadas antes de aceitar uma reserva (ex: inventário por categoria)
+    private List<RestricaoReservas> restricoes;
+
+    // Incrementada a cada alteração nas reservas ativas (usada para invalidar caches)
+    private long versao;
+
+    // Se false, as mensagens de cada operação não são impressas (ex: benchmarks e cargas em lote)
+    private boolean verboso;
+
+    // Bloqueios provisórios (quarto segurado enquanto o hóspede paga) e seus prazos
+    private Map<Reserva, Temporizador<Reserva>> bloqueios;
+    private RodaTemporizacao<Reserva> expiracaoBloqueios;
+    private Clock relogio;
+
+    // Latência e falhas de cada operação pública; só a operação chamada de fora é medida,
+    // não as que ela usa por dentro
+    private String componenteMetricas;
+    private MetricasOperacao metricaCadastro;
+    private MetricasOperacao metricaConflito;
+    private MetricasOperacao metricaCancelamento;
+    private MetricasOperacao metricaModificacao;
+    private MetricasOperacao metricaConsultaCliente;
+    private MetricasOperacao metricaListagem;
+    private MetricasOperacao metricaDisponiveis;
+    private MetricasOperacao metricaBloqueio;
+    private MetricasOperacao metricaConfirmacao;
+
     /**
-     * Construtor do Gerenciador.
+     * Construtor do Gerenciador, com as reservas ativas em uma árvore Rubro-Negra.
      *
      * @param historico Histórico de reservas canceladas
      */
     public GerenciadorReservas(HistoricoReservas historico) {
-        this.reservasAtivas = new ArvoreRubroNegra<>();
+        this(historico, new ArvoreRubroNegra<>());
+    }
+
+    /**
+     * Construtor do Gerenciador com a estrutura das reservas ativas escolhida pelo chamador.
+     *
+     * @param historico      Histórico de reservas canceladas
+     * @param reservasAtivas Índice vazio onde as reservas ativas serão mantidas
+     */
+    public GerenciadorReservas(HistoricoReservas historico, IndiceOrdenado<Reserva> reservasAtivas) {
+        if (reservasAtivas.tamanho() > 0)
+            throw new IllegalArgumentException("O índice de reservas ativas deve começar vazio.");
+        this.reservasAtivas = reservasAtivas;
         this.historico = historico;
+        this.reservasPorCliente = new HashMap<>();
+        this.ocupacaoPorQuarto = new HashMap<>();
+        this.ouvintes = new ArrayList<>();
+        this.restricoes = new ArrayList<>();
+        this.verboso = true;
+        this.bloqueios = new HashMap<>();
+        this.relogio = Clock.systemUTC();
+        this.expiracaoBloqueios = new RodaTemporizacao<>(POSICOES_RODA, TICK_RODA_MS, relogio.millis());
+        iniciarMetricas(COMPONENTE_METRICAS);
+    }
+
+    /**
+     * Separa as métricas deste gerenciador das demais instâncias (ex: uma por propriedade da rede).
+     * Sem rótulo, as medições vão para o componente "GerenciadorReservas", comum a todos.
+     *
+     * @param rotulo Identificação da instância (ex: "propriedade-1")
+     */
+    public void setRotuloMetricas(String rotulo) {
+        if (rotulo == null || rotulo.isBlank())
+            throw new IllegalArgumentException("Rótulo das métricas não pode ser vazio.");
+        String anterior = componenteMetricas;
+        iniciarMetricas(COMPONENTE_METRICAS + "[" + rotulo.trim() + "]");
+        // o componente sem rótulo é comum a todas as instâncias; o de um rótulo antigo era só desta
+        if (!anterior.equals(COMPONENTE_METRICAS) && !anterior.equals(componenteMetricas)) {
+            RegistroMetricas.global().removerComponente(anterior);
+        }
+    }
+
+    private void iniciarMetricas(String componente) {
+        componenteMetricas = componente;
+        RegistroMetricas registro = RegistroMetricas.global();
+        metricaCadastro = registro.operacao(componente, "cadastrarReserva");
+        metricaConflito = registro.operacao(componente, "verificarConflito");
+        metricaCancelamento = registro.operacao(componente, "cancelarReserva");
+        metricaModificacao = registro.operacao(componente, "modificarReserva");
+        metricaConsultaCliente = registro.operacao(componente, "consultarReservaPorCliente");
+        metricaListagem = registro.operacao(componente, "listarReservas");
+        metricaDisponiveis = registro.operacao(componente, "listarQuartosDisponiveis");
+        metricaBloqueio = registro.operacao(componente, "bloquearQuarto");
+        metricaConfirmacao = registro.operacao(componente, "confirmarBloqueio");
+    }
+
+    /**
+     * Troca o relógio usado nos prazos dos bloqueios (ex: relógio controlado em simulações).
+     *
+     * @param relogio Novo relógio
+     * @throws IllegalStateException se houver bloqueios pendentes
+     */
+    public void setRelogio(Clock relogio) {
+        if (!bloqueios.isEmpty())
+            throw new IllegalStateException("Não é possível trocar o relógio com bloqueios pendentes.");
+        this.relogio = relogio;
+        this.expiracaoBloqueios = new RodaTemporizacao<>(POSICOES_RODA, TICK_RODA_MS, relogio.millis());
+    }
+
+    /**
+     * Liga ou desliga as mensagens impressas a cada operação.
+     *
+     * @param verboso true para imprimir (padrão), false para operar em silêncio
+     */
+    public void setVerboso(boolean verboso) {
+        this.verboso = verboso;
+    }
+
+    /**
+     * Registra um componente para ser notificado das alterações nas reservas ativas.
+     *
+     * @param ouvinte Ouvinte a registrar
+     */
+    public void adicionarOuvinte(OuvinteReservas ouvinte) {
+        ouvintes.add(ouvinte);
+    }
+
+    /**
+     * Registra uma regra consultada antes de cada cadastro, confirmação de bloqueio e modificação.
+     *
+     * @param restricao Restrição a registrar
+     */
+    public void adicionarRestricao(RestricaoReservas restricao) {
+        restricoes.add(restricao);
     }
 
     // ============================================================
@@ -39,17 +189,45 @@ public class GerenciadorReservas {
      * @return true se cadastrada com sucesso, false se houver conflito
      */
     public boolean cadastrarReserva(Reserva reserva) {
-        if (verificarConflito(reserva.getQuarto(), reserva.getDataCheckIn(), reserva.getDataCheckOut())) {
-            System.out.println("Erro: Conflito de reserva para o quarto " + reserva.getQuarto().getNumero());
+        long inicio = System.nanoTime();
+        boolean cadastrada = cadastrar(reserva);
+        metricaCadastro.registrar(inicio, cadastrada);
+        return cadastrada;
+    }
+
+    private boolean cadastrar(Reserva reserva) {
+        if (haConflito(reserva.getQuarto(), reserva.getDataCheckIn(), reserva.getDataCheckOut())) {
+            exibir("Erro: Conflito de reserva para o quarto " + reserva.getQuarto().getNumero());
             return false;
         }
-        reservasAtivas.inserir(reserva);
-        System.out.println("Reserva cadastrada com sucesso: " + reserva);
+        if (!restricoesPermitem(reserva)) return false;
+        efetivar(reserva);
+        return true;
+    }
+
+    private boolean restricoesPermitem(Reserva reserva) {
+        for (RestricaoReservas r : restricoes) {
+            if (!r.permite(reserva)) {
+                exibir("Erro: Reserva recusada por restrição: " + reserva);
+                return false;
+            }
+        }
         return true;
     }
 
+    // Torna a reserva ativa: árvore, índice por cliente, versão e ouvintes
+    private void efetivar(Reserva reserva) {
+        reservasAtivas.inserir(reserva);
+        adicionarAoIndiceCliente(reserva);
+        ocupar(reserva);
+        versao++;
+        exibir("Reserva cadastrada com sucesso: " + reserva);
+        for (OuvinteReservas o : ouvintes) o.reservaCadastrada(reserva);
+    }
+
     /**
      * Verifica se o quarto está disponível entre as datas fornecidas.
+     * Bloqueios provisórios ainda no prazo também contam como conflito.
      *
      * @param quarto   Quarto a verificar
      * @param checkIn  Data de check-in
@@ -57,14 +235,132 @@ public class GerenciadorReservas {
      * @return true se houver conflito, false se disponível
      */
     public boolean verificarConflito(Quarto quarto, LocalDate checkIn, LocalDate checkOut) {
-        for (Reserva r : reservasAtivas.getElementosEmOrdem()) {
-            if (r.getQuarto().equals(quarto)) {
-                if (!(checkOut.isBefore(r.getDataCheckIn()) || checkIn.isAfter(r.getDataCheckOut()))) {
-                    return true; // conflito encontrado
-                }
-            }
+        long inicio = System.nanoTime();
+        boolean conflito = haConflito(quarto, checkIn, checkOut);
+        metricaConflito.registrar(inicio);
+        return conflito;
+    }
+
+    private boolean haConflito(Quarto quarto, LocalDate checkIn, LocalDate checkOut) {
+        expirarBloqueios();
+        return ocupante(quarto, checkIn, checkOut, null) != null;
+    }
+
+    /**
+     * Busca a reserva ou bloqueio que ocupa o quarto no período, em O(log n): como as estadias de
+     * um quarto não se sobrepõem, basta olhar a última que começa até o check-out pedido.
+     *
+     * @param ignorar Reserva desconsiderada na busca (ex: a própria reserva sendo modificada), ou null
+     * @return ocupante do período, ou null se o quarto está livre
+     */
+    private Reserva ocupante(Quarto quarto, LocalDate checkIn, LocalDate checkOut, Reserva ignorar) {
+        TreeMap<LocalDate, Reserva> ocupacao = ocupacaoPorQuarto.get(quarto);
+        if (ocupacao == null) return null;
+        Map.Entry<LocalDate, Reserva> anterior = ocupacao.floorEntry(checkOut);
+        if (anterior != null && anterior.getValue().equals(ignorar)) {
+            anterior = ocupacao.lowerEntry(anterior.getKey());
+        }
+        if (anterior == null || anterior.getValue().getDataCheckOut().isBefore(checkIn)) return null;
+        return anterior.getValue();
+    }
+
+    // ============================================================
+    // BLOQUEIOS PROVISÓRIOS
+    // ============================================================
+
+    /**
+     * Segura o quarto da reserva por um prazo, sem efetivá-la. Enquanto o bloqueio vale,
+     * o quarto conta como ocupado em {@link #verificarConflito}.
+     *
+     * O bloqueio segura apenas o quarto: as restrições (ex: limite de vendas da categoria) não
+     * reservam unidade para ele e só são consultadas em {@link #confirmarBloqueio}, que pode
+     * recusar a confirmação se a categoria tiver se esgotado nesse meio tempo.
+     *
+     * @param reserva  Reserva pretendida
+     * @param validade Prazo do bloqueio (ex: 15 minutos)
+     * @return true se bloqueado, false se houver conflito
+     */
+    public boolean bloquearQuarto(Reserva reserva, Duration validade) {
+        if (validade.isNegative() || validade.isZero())
+            throw new IllegalArgumentException("Validade do bloqueio deve ser positiva.");
+        long inicio = System.nanoTime();
+        boolean bloqueado = !haConflito(reserva.getQuarto(), reserva.getDataCheckIn(), reserva.getDataCheckOut());
+        if (bloqueado) {
+            long vencimento = relogio.millis() + validade.toMillis();
+            bloqueios.put(reserva, expiracaoBloqueios.agendar(reserva, vencimento));
+            ocupar(reserva);
+            exibir("Quarto bloqueado por " + validade.toSeconds() + " s: " + reserva);
+        } else {
+            exibir("Erro: Conflito de reserva para o quarto " + reserva.getQuarto().getNumero());
+        }
+        metricaBloqueio.registrar(inicio, bloqueado);
+        return bloqueado;
+    }
+
+    /**
+     * Transforma um bloqueio no prazo em reserva ativa, em um único passo: o quarto não fica
+     * livre em nenhum momento entre o bloqueio e a reserva.
+     *
+     * @param reserva Reserva bloqueada antes com {@link #bloquearQuarto}
+     * @return true se confirmada, false se o bloqueio não existe, já expirou ou foi recusado por
+     *         uma restrição (nesse caso o bloqueio continua até o prazo)
+     */
+    public boolean confirmarBloqueio(Reserva reserva) {
+        long inicio = System.nanoTime();
+        expirarBloqueios();
+        boolean confirmada = bloqueios.containsKey(reserva) && restricoesPermitem(reserva);
+        if (confirmada) {
+            expiracaoBloqueios.cancelar(bloqueios.remove(reserva));
+            desocupar(reserva);
+            efetivar(reserva);
+        } else if (!bloqueios.containsKey(reserva)) {
+            exibir("Bloqueio não encontrado ou expirado: " + reserva);
+        }
+        metricaConfirmacao.registrar(inicio, confirmada);
+        return confirmada;
+    }
+
+    /**
+     * Desfaz um bloqueio antes do prazo (ex: pagamento recusado).
+     *
+     * @return true se o bloqueio existia
+     */
+    public boolean liberarBloqueio(Reserva reserva) {
+        Temporizador<Reserva> temporizador = bloqueios.remove(reserva);
+        if (temporizador == null) return false;
+        expiracaoBloqueios.cancelar(temporizador);
+        desocupar(reserva);
+        return true;
+    }
+
+    /**
+     * Libera de uma vez todos os bloqueios vencidos. É chamado antes de cada verificação de
+     * conflito e confirmação; também pode ser chamado periodicamente pela thread dona do gerenciador.
+     *
+     * @return quantidade de bloqueios liberados
+     */
+    public int expirarBloqueios() {
+        if (bloqueios.isEmpty()) return 0;
+        List<Reserva> vencidos = new ArrayList<>();
+        expiracaoBloqueios.avancar(relogio.millis(), vencidos);
+        for (Reserva r : vencidos) {
+            bloqueios.remove(r);
+            desocupar(r);
         }
-        return false; // sem conflito
+        return vencidos.size();
+    }
+
+    /**
+     * @return bloqueios ainda no prazo
+     */
+    public List<Reserva> listarBloqueios() {
+        expirarBloqueios();
+        return new ArrayList<>(bloqueios.keySet());
+    }
+
+    public int totalBloqueios() {
+        expirarBloqueios();
+        return bloqueios.size();
     }
 
     // ============================================================
@@ -78,17 +374,87 @@ public class GerenciadorReservas {
      * @return true se cancelada com sucesso, false se não encontrada
      */
     public boolean cancelarReserva(Reserva reserva) {
-        // Remoção balanceada na RBTree
-        boolean removido = reservasAtivas.remover(reserva);
+        long inicio = System.nanoTime();
+        boolean cancelada = cancelar(reserva);
+        metricaCancelamento.registrar(inicio, cancelada);
+        return cancelada;
+    }
+
+    private boolean cancelar(Reserva reserva) {
+        // só a própria reserva: outra com o mesmo check-in e quarto seria igual para a árvore
+        boolean removido = estaAtiva(reserva) && reservasAtivas.remover(reserva);
         if (removido) {
+            removerDoIndiceCliente(reserva);
+            desocupar(reserva);
+            versao++;
+            exibir("Reserva cancelada com sucesso: " + reserva);
+            for (OuvinteReservas o : ouvintes) o.reservaCancelada(reserva);
+            // só depois do cancelamento: os ouvintes do histórico veem o arquivamento em seguida a ele
             historico.adicionarReservaCancelada(reserva);
-            System.out.println("Reserva cancelada com sucesso: " + reserva);
             return true;
         }
-        System.out.println("Reserva não encontrada: " + reserva);
+        exibir("Reserva não encontrada: " + reserva);
         return false;
     }
 
+    // ============================================================
+    // MODIFICAÇÃO DE RESERVAS
+    // ============================================================
+
+    /**
+     * Troca as datas e/ou o quarto de uma reserva ativa, sem passar pelo histórico de cancelamentos.
+     * O novo período é verificado contra todas as reservas e bloqueios, menos a própria reserva;
+     * havendo conflito nada muda. A reserva original não é alterada: a nova entra no lugar dela
+     * na árvore e nos índices, e os ouvintes recebem {@link OuvinteReservas#reservaModificada}.
+     *
+     * @param reserva       Reserva ativa a modificar
+     * @param quarto        Novo quarto (pode ser o mesmo)
+     * @param dataCheckIn   Nova data de entrada
+     * @param dataCheckOut  Nova data de saída
+     * @return a reserva modificada, ou null se a original não está ativa ou há conflito
+     */
+    public Reserva modificarReserva(Reserva reserva, Quarto quarto, LocalDate dataCheckIn, LocalDate dataCheckOut) {
+        long inicio = System.nanoTime();
+        Reserva modificada = modificar(reserva, new Reserva(reserva.getCliente(), quarto, dataCheckIn, dataCheckOut));
+        metricaModificacao.registrar(inicio, modificada != null);
+        return modificada;
+    }
+
+    private Reserva modificar(Reserva antiga, Reserva nova) {
+        if (!estaAtiva(antiga)) {
+            exibir("Reserva não encontrada: " + antiga);
+            return null;
+        }
+        expirarBloqueios();
+        if (ocupante(nova.getQuarto(), nova.getDataCheckIn(), nova.getDataCheckOut(), antiga) != null) {
+            exibir("Erro: Conflito de reserva para o quarto " + nova.getQuarto().getNumero());
+            return null;
+        }
+        for (RestricaoReservas r : restricoes) {
+            if (!r.permiteModificacao(antiga, nova)) {
+                exibir("Erro: Modificação recusada por restrição: " + nova);
+                return null;
+            }
+        }
+        reservasAtivas.remover(antiga);
+        removerDoIndiceCliente(antiga);
+        desocupar(antiga);
+        reservasAtivas.inserir(nova);
+        adicionarAoIndiceCliente(nova);
+        ocupar(nova);
+        versao++;
+        exibir("Reserva modificada com sucesso: " + nova);
+        for (OuvinteReservas o : ouvintes) o.reservaModificada(antiga, nova);
+        return nova;
+    }
+
+    // A reserva (com o mesmo cliente, quarto e datas) está entre as ativas
+    private boolean estaAtiva(Reserva reserva) {
+        TreeMap<LocalDate, Reserva> ocupacao = ocupacaoPorQuarto.get(reserva.getQuarto());
+        return ocupacao != null && reserva.equals(ocupacao.get(reserva.getDataCheckIn()))
+                && !bloqueios.containsKey(reserva);
+    }
+
     // ============================================================
     // CONSULTAS
     // ============================================================
@@ -100,12 +466,22 @@ public class GerenciadorReservas {
      * @return Reserva encontrada ou null
      */
     public Reserva consultarReservaPorCliente(String cpf) {
-        for (Reserva r : reservasAtivas.getElementosEmOrdem()) {
-            if (r.getCliente().getCpf().equals(cpf)) {
-                return r;
-            }
-        }
-        return null;
+        Cpf chave = Cpf.tentarParse(cpf);
+        return chave != null ? consultarReservaPorCliente(chave) : null;
+    }
+
+    /**
+     * Consulta a reserva de check-in mais próximo de um cliente.
+     *
+     * @param cpf CPF do cliente
+     * @return Reserva encontrada ou null
+     */
+    public Reserva consultarReservaPorCliente(Cpf cpf) {
+        long inicio = System.nanoTime();
+        TreeSet<Reserva> reservas = reservasPorCliente.get(cpf);
+        Reserva encontrada = reservas != null ? reservas.first() : null;
+        metricaConsultaCliente.registrar(inicio, encontrada != null);
+        return encontrada;
     }
 
     /**
@@ -114,7 +490,10 @@ public class GerenciadorReservas {
      * @return Lista de reservas
      */
     public List<Reserva> listarReservas() {
-        return reservasAtivas.getElementosEmOrdem();
+        long inicio = System.nanoTime();
+        List<Reserva> reservas = reservasAtivas.getElementosEmOrdem();
+        metricaListagem.registrar(inicio);
+        return reservas;
     }
 
     /**
@@ -126,6 +505,7 @@ public class GerenciadorReservas {
      * @return Lista de quartos disponíveis
      */
     public List<Quarto> listarQuartosDisponiveis(List<Quarto> todosQuartos, LocalDate data, String categoria) {
+        long inicio = System.nanoTime();
         List<Quarto> disponiveis = new ArrayList<>();
         for (Quarto q : todosQuartos) {
             if (!q.getCategoria().equalsIgnoreCase(categoria)) continue;
@@ -144,6 +524,38 @@ public class GerenciadorReservas {
                 disponiveis.add(q);
             }
         }
+        metricaDisponiveis.registrar(inicio);
+        return disponiveis;
+    }
+
+    /**
+     * Lista quartos disponíveis em uma data e categoria usando o catálogo de quartos.
+     * Consulta a ocupação de cada quarto da categoria em O(log n), como {@link #verificarConflito}:
+     * quartos com reserva ativa ou bloqueio provisório no prazo não aparecem.
+     *
+     * @param catalogo  Catálogo de quartos
+     * @param data      Data desejada
+     * @param categoria Categoria desejada
+     * @return Lista de quartos disponíveis
+     */
+    public List<Quarto> listarQuartosDisponiveis(CatalogoQuartos catalogo, LocalDate data, String categoria) {
+        long inicio = System.nanoTime();
+        List<Quarto> disponiveis = quartosDisponiveis(catalogo, data, categoria);
+        metricaDisponiveis.registrar(inicio);
+        return disponiveis;
+    }
+
+    private List<Quarto> quartosDisponiveis(CatalogoQuartos catalogo, LocalDate data, String categoria) {
+        List<Quarto> disponiveis = new ArrayList<>();
+        int idCategoria = catalogo.idCategoria(categoria);
+        if (idCategoria < 0) return disponiveis;
+
+        expirarBloqueios();
+        BitSet quartos = catalogo.idsQuartosDaCategoria(idCategoria);
+        for (int id = quartos.nextSetBit(0); id >= 0; id = quartos.nextSetBit(id + 1)) {
+            Quarto quarto = catalogo.quartoPorId(id);
+            if (ocupante(quarto, data, data, null) == null) disponiveis.add(quarto);
+        }
         return disponiveis;
     }
 
@@ -153,6 +565,57 @@ public class GerenciadorReservas {
      * @return total de reservas
      */
     public int totalReservasAtivas() {
-        return reservasAtivas.getElementosEmOrdem().size();
+        return reservasAtivas.tamanho();
+    }
+
+    /**
+     * Altura do índice de reservas ativas (na árvore Rubro-Negra, percorre a árvore inteira).
+     *
+     * @return altura da árvore
+     */
+    public int alturaArvore() {
+        return reservasAtivas.altura();
+    }
+
+    /**
+     * Versão das reservas ativas: muda a cada cadastro ou cancelamento.
+     *
+     * @return versão atual
+     */
+    public long getVersao() {
+        return versao;
+    }
+
+    // ============================================================
+    // MÉTODOS AUXILIARES
+    // ============================================================
+
+    private void adicionarAoIndiceCliente(Reserva reserva) {
+        reservasPorCliente.computeIfAbsent(reserva.getCliente().getCpfNumerico(), k -> new TreeSet<>()).add(reserva);
+    }
+
+    private void ocupar(Reserva reserva) {
+        ocupacaoPorQuarto.computeIfAbsent(reserva.getQuarto(), k -> new TreeMap<>()).put(reserva.getDataCheckIn(), reserva);
+    }
+
+    private void desocupar(Reserva reserva) {
+        TreeMap<LocalDate, Reserva> ocupacao = ocupacaoPorQuarto.get(reserva.getQuarto());
+        if (ocupacao != null) {
+            ocupacao.remove(reserva.getDataCheckIn(), reserva);
+            if (ocupacao.isEmpty()) ocupacaoPorQuarto.remove(reserva.getQuarto());
+        }
+    }
+
+    private void removerDoIndiceCliente(Reserva reserva) {
+        Cpf cpf = reserva.getCliente().getCpfNumerico();
+        TreeSet<Reserva> reservas = reservasPorCliente.get(cpf);
+        if (reservas != null) {
+            reservas.remove(reserva);
+            if (reservas.isEmpty()) reservasPorCliente.remove(cpf);
+        }
+    }
+
+    private void exibir(String mensagem) {
+        if (verboso) System.out.println(mensagem);
     }
 }
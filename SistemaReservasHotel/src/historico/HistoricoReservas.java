@@ -1,20 +1,121 @@
 package historico;
 
+import modelos.Cpf;
+import modelos.RegistroEntidades;
 import modelos.Reserva;
-import arevores.ArvoreRubroNegra;
+import modelos.TabelaReservasCompactas;
+import arevores.ArvoreBMais;
+import arevores.IndiceOrdenado;
+import eventos.OuvinteReservas;
+import metricas.MetricasOperacao;
+import metricas.RegistroMetricas;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * Classe que gerencia o histórico de reservas canceladas.
- * Utiliza uma árvore Rubro-Negra para manter a ordenação e permitir consultas rápidas.
+ * Por padrão utiliza uma árvore B+: o histórico só cresce e é consultado em varreduras,
+ * o que favorece folhas largas e ligadas em sequência.
+ *
+ * As reservas ficam em uma {@link TabelaReservasCompactas} (16 bytes por reserva); o índice guarda
+ * só a chave de ordenação e a linha da tabela, e os objetos {@link Reserva} são recriados na listagem.
  */
 public class HistoricoReservas {
 
-    private ArvoreRubroNegra<Reserva> reservasCanceladas;
+    private static final String COMPONENTE_METRICAS = "HistoricoReservas";
+
+    private IndiceOrdenado<ReservaArquivada> reservasCanceladas;
+    private TabelaReservasCompactas tabela;   // linha = ordem de arquivamento
+    private List<OuvinteReservas> ouvintes;
+    private long versao; // incrementada a cada reserva arquivada
+
+    // id do cliente no registro -> cancelamentos arquivados; responde "este CPF já cancelou?" sem varrer a tabela
+    private int[] cancelamentosPorCliente;
+
+    // Se false, as mensagens de cada operação não são impressas (ex: benchmarks e cargas em lote)
+    private boolean verboso;
+
+    private String componenteMetricas;
+    private MetricasOperacao metricaArquivamento;
+    private MetricasOperacao metricaListagem;
+    private MetricasOperacao metricaBuscaCliente;
 
     public HistoricoReservas() {
-        this.reservasCanceladas = new ArvoreRubroNegra<>();
+        this(new RegistroEntidades());
+    }
+
+    /**
+     * @param registro Registro de quartos e clientes (o mesmo do sistema, para não duplicar as instâncias)
+     */
+    public HistoricoReservas(RegistroEntidades registro) {
+        this(registro, new ArvoreBMais<>());
+    }
+
+    /**
+     * @param reservasCanceladas Índice vazio onde o histórico será mantido (ex: ArvoreRubroNegra)
+     */
+    public HistoricoReservas(IndiceOrdenado<ReservaArquivada> reservasCanceladas) {
+        this(new RegistroEntidades(), reservasCanceladas);
+    }
+
+    /**
+     * @param registro           Registro de quartos e clientes
+     * @param reservasCanceladas Índice vazio onde o histórico será mantido (ex: ArvoreRubroNegra)
+     */
+    public HistoricoReservas(RegistroEntidades registro, IndiceOrdenado<ReservaArquivada> reservasCanceladas) {
+        if (reservasCanceladas.tamanho() > 0)
+            throw new IllegalArgumentException("O índice do histórico deve começar vazio.");
+        this.reservasCanceladas = reservasCanceladas;
+        this.tabela = new TabelaReservasCompactas(registro);
+        this.ouvintes = new ArrayList<>();
+        this.cancelamentosPorCliente = new int[16];
+        this.verboso = true;
+        iniciarMetricas(COMPONENTE_METRICAS);
+    }
+
+    /**
+     * Separa as métricas deste histórico das demais instâncias (ex: uma por propriedade da rede).
+     *
+     * @param rotulo Identificação da instância (ex: "propriedade-1")
+     */
+    public void setRotuloMetricas(String rotulo) {
+        if (rotulo == null || rotulo.isBlank())
+            throw new IllegalArgumentException("Rótulo das métricas não pode ser vazio.");
+        String anterior = componenteMetricas;
+        iniciarMetricas(COMPONENTE_METRICAS + "[" + rotulo.trim() + "]");
+        // o componente sem rótulo é comum a todas as instâncias; o de um rótulo antigo era só desta
+        if (!anterior.equals(COMPONENTE_METRICAS) && !anterior.equals(componenteMetricas)) {
+            RegistroMetricas.global().removerComponente(anterior);
+        }
+    }
+
+    private void iniciarMetricas(String componente) {
+        componenteMetricas = componente;
+        RegistroMetricas registro = RegistroMetricas.global();
+        metricaArquivamento = registro.operacao(componente, "adicionarReservaCancelada");
+        metricaListagem = registro.operacao(componente, "listarReservasCanceladas");
+        metricaBuscaCliente = registro.operacao(componente, "contemReservaCancelada");
+    }
+
+    /**
+     * Liga ou desliga as mensagens impressas a cada operação.
+     *
+     * @param verboso true para imprimir (padrão), false para operar em silêncio
+     */
+    public void setVerboso(boolean verboso) {
+        this.verboso = verboso;
+    }
+
+    /**
+     * Registra um componente para ser notificado das reservas adicionadas ao histórico.
+     *
+     * @param ouvinte Ouvinte a registrar
+     */
+    public void adicionarOuvinte(OuvinteReservas ouvinte) {
+        ouvintes.add(ouvinte);
     }
 
     /**
@@ -23,8 +124,15 @@ public class HistoricoReservas {
      * @param reserva Reserva cancelada
      */
     public void adicionarReservaCancelada(Reserva reserva) {
-        reservasCanceladas.inserir(reserva);
-        System.out.println("Reserva adicionada ao histórico: " + reserva);
+        long inicio = System.nanoTime();
+        // a linha torna cada entrada única, inclusive cancelamentos repetidos do mesmo quarto e check-in
+        int linha = tabela.adicionar(reserva);
+        reservasCanceladas.inserir(new ReservaArquivada(reserva, linha));
+        versao++;
+        contarCancelamento(tabela.getIdCliente(linha));
+        exibir("Reserva adicionada ao histórico: " + reserva);
+        for (OuvinteReservas o : ouvintes) o.reservaArquivada(reserva);
+        metricaArquivamento.registrar(inicio);
     }
 
     /**
@@ -33,7 +141,30 @@ public class HistoricoReservas {
      * @return Lista de reservas canceladas
      */
     public List<Reserva> listarReservasCanceladas() {
-        return reservasCanceladas.getElementosEmOrdem();
+        long inicio = System.nanoTime();
+        List<ReservaArquivada> entradas = reservasCanceladas.getElementosEmOrdem();
+        List<Reserva> canceladas = new ArrayList<>(entradas.size());
+        for (ReservaArquivada e : entradas) canceladas.add(tabela.getReserva(e.getLinha()));
+        metricaListagem.registrar(inicio);
+        return canceladas;
+    }
+
+    /**
+     * Conta as reservas canceladas com check-in no período, lendo só a coluna de check-ins da tabela.
+     *
+     * @param dataInicio Data de início (inclusive)
+     * @param dataFim    Data de fim (inclusive)
+     * @return número de cancelamentos no período
+     */
+    public int contarCanceladas(LocalDate dataInicio, LocalDate dataFim) {
+        long inicio = dataInicio.toEpochDay();
+        long fim = dataFim.toEpochDay();
+        int total = 0;
+        for (int i = 0, n = tabela.tamanho(); i < n; i++) {
+            int checkIn = tabela.getCheckInEpochDay(i);
+            if (checkIn >= inicio && checkIn <= fim) total++;
+        }
+        return total;
     }
 
     /**
@@ -43,12 +174,32 @@ public class HistoricoReservas {
      * @return true se houver, false caso contrário
      */
     public boolean contemReservaCancelada(String cpf) {
-        for (Reserva r : reservasCanceladas.getElementosEmOrdem()) {
-            if (r.getCliente().getCpf().equals(cpf)) {
-                return true;
-            }
-        }
-        return false;
+        Cpf chave = Cpf.tentarParse(cpf);
+        return chave != null && contemReservaCancelada(chave);
+    }
+
+    /**
+     * Verifica se existe alguma reserva cancelada para um determinado cliente.
+     *
+     * @param cpf CPF do cliente
+     * @return true se houver, false caso contrário
+     */
+    public boolean contemReservaCancelada(Cpf cpf) {
+        long inicio = System.nanoTime();
+        boolean contem = cancelamentosDoCliente(cpf) > 0;
+        metricaBuscaCliente.registrar(inicio);
+        return contem;
+    }
+
+    /**
+     * Número exato de reservas canceladas de um cliente, em O(1).
+     *
+     * @param cpf CPF do cliente
+     * @return cancelamentos arquivados do cliente (0 se nunca cancelou)
+     */
+    public int cancelamentosDoCliente(Cpf cpf) {
+        int id = tabela.getRegistro().idCliente(cpf);
+        return id >= 0 && id < cancelamentosPorCliente.length ? cancelamentosPorCliente[id] : 0;
     }
 
     /**
@@ -57,6 +208,36 @@ public class HistoricoReservas {
      * @return número total de reservas canceladas
      */
     public int totalReservasCanceladas() {
-        return reservasCanceladas.getElementosEmOrdem().size();
+        return reservasCanceladas.tamanho();
+    }
+
+    /**
+     * Altura do índice do histórico (na árvore Rubro-Negra, percorre a árvore inteira).
+     *
+     * @return altura da árvore
+     */
+    public int alturaArvore() {
+        return reservasCanceladas.altura();
+    }
+
+    /**
+     * Versão do histórico: muda a cada reserva arquivada.
+     *
+     * @return versão atual
+     */
+    public long getVersao() {
+        return versao;
+    }
+
+    private void contarCancelamento(int idCliente) {
+        if (idCliente >= cancelamentosPorCliente.length) {
+            cancelamentosPorCliente = Arrays.copyOf(cancelamentosPorCliente,
+                    Math.max(idCliente + 1, cancelamentosPorCliente.length * 2));
+        }
+        cancelamentosPorCliente[idCliente]++;
+    }
+
+    private void exibir(String mensagem) {
+        if (verboso) System.out.println(mensagem);
     }
 }
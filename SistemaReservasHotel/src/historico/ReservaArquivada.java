@@ -0,0 +1,67 @@
+package historico;
+
+import modelos.Reserva;
+
+import java.time.LocalDate;
+
+/**
+ * Entrada do índice do histórico: a chave de ordenação de uma reserva cancelada e a linha
+ * onde ela está guardada na {@link modelos.TabelaReservasCompactas} do histórico.
+ * A linha também é a ordem de arquivamento e diferencia cancelamentos do mesmo quarto com o
+ * mesmo check-in (ex: reservar, cancelar, reservar de novo e cancelar), que são iguais para
+ * {@link Reserva#compareTo}.
+ */
+public final class ReservaArquivada implements Comparable<ReservaArquivada> {
+
+    private final int checkIn;        // dias desde a época
+    private final int numeroQuarto;
+    private final int linha;
+
+    ReservaArquivada(Reserva reserva, int linha) {
+        this.checkIn = (int) reserva.getDataCheckIn().toEpochDay();
+        this.numeroQuarto = reserva.getQuarto().getNumero();
+        this.linha = linha;
+    }
+
+    public LocalDate getDataCheckIn() {
+        return LocalDate.ofEpochDay(checkIn);
+    }
+
+    public int getNumeroQuarto() {
+        return numeroQuarto;
+    }
+
+    /**
+     * @return linha da reserva na tabela do histórico (0 para a primeira arquivada)
+     */
+    public int getLinha() {
+        return linha;
+    }
+
+    /**
+     * Mesma ordem das reservas (check-in e quarto); empates ficam em ordem de arquivamento.
+     */
+    @Override
+    public int compareTo(ReservaArquivada outra) {
+        int comp = Integer.compare(checkIn, outra.checkIn);
+        if (comp == 0) comp = Integer.compare(numeroQuarto, outra.numeroQuarto);
+        return comp != 0 ? comp : Integer.compare(linha, outra.linha);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ReservaArquivada)) return false;
+        return linha == ((ReservaArquivada) o).linha;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(linha);
+    }
+
+    @Override
+    public String toString() {
+        return "#" + linha + " quarto " + numeroQuarto + " check-in " + getDataCheckIn();
+    }
+}
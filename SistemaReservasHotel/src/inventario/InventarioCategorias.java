@@ -0,0 +1,297 @@
+package inventario;
+
+import catalogo.CatalogoQuartos;
+import eventos.OuvinteReservas;
+import eventos.RestricaoReservas;
+import gerenciador.GerenciadorReservas;
+import modelos.Cliente;
+import modelos.Quarto;
+import modelos.Reserva;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inventário por categoria e dia para um horizonte de datas.
+ *
+ * Para cada categoria e dia guarda quantas unidades foram vendidas: reservas ativas com quarto
+ * mais vendas por categoria ainda sem quarto ({@link ReservaCategoria}). A disponibilidade é
+ * a quantidade de quartos ativos da categoria no catálogo, mais a margem de overbooking,
+ * menos as vendidas. As consultas leem apenas os contadores dos dias pedidos.
+ *
+ * Os contadores acompanham o gerenciador (cadastro, cancelamento e modificação) e o inventário
+ * também é uma {@link RestricaoReservas}: o gerenciador recusa reservas que passariam do limite
+ * em algum dia do horizonte. Dias fora do horizonte não são contados nem verificados.
+ *
+ * Cada reserva é descontada da categoria em que foi contada, mesmo que o catálogo mude depois.
+ * Bloqueios provisórios do gerenciador não ocupam unidade: a categoria só é verificada e
+ * descontada quando o bloqueio é confirmado, e um bloqueio pode não conseguir ser confirmado.
+ */
+public class InventarioCategorias implements OuvinteReservas, RestricaoReservas {
+
+    private final CatalogoQuartos catalogo;
+    private final long diaInicial;          // epoch day do primeiro dia do horizonte
+    private final int totalDias;
+
+    private int[][] vendidos;               // [categoria][dia]
+    private int[] overbooking;              // unidades extras por categoria
+    private final Set<ReservaCategoria> semQuarto;
+    private final Map<Reserva, Integer> categoriaContada; // reservas com quarto e a categoria em que contam
+
+    private InventarioCategorias(CatalogoQuartos catalogo, LocalDate dataInicio, LocalDate dataFim) {
+        if (dataFim.isBefore(dataInicio))
+            throw new IllegalArgumentException("Data de fim não pode ser antes do início.");
+        this.catalogo = catalogo;
+        this.diaInicial = dataInicio.toEpochDay();
+        this.totalDias = (int) (dataFim.toEpochDay() - diaInicial + 1);
+        this.vendidos = new int[catalogo.totalCategorias()][totalDias];
+        this.overbooking = new int[catalogo.totalCategorias()];
+        this.semQuarto = new HashSet<>();
+        this.categoriaContada = new HashMap<>();
+    }
+
+    /**
+     * Cria o inventário, conta as reservas ativas e passa a acompanhar e restringir o gerenciador.
+     *
+     * @param gerenciador Gerenciador de reservas ativas
+     * @param catalogo    Catálogo de quartos (capacidade de cada categoria)
+     * @param dataInicio  Primeiro dia do horizonte
+     * @param dataFim     Último dia do horizonte
+     * @return inventário conectado
+     */
+    public static InventarioCategorias conectar(GerenciadorReservas gerenciador, CatalogoQuartos catalogo,
+                                                LocalDate dataInicio, LocalDate dataFim) {
+        InventarioCategorias inventario = new InventarioCategorias(catalogo, dataInicio, dataFim);
+        for (Reserva r : gerenciador.listarReservas()) {
+            inventario.reservaCadastrada(r);
+        }
+        gerenciador.adicionarOuvinte(inventario);
+        gerenciador.adicionarRestricao(inventario);
+        return inventario;
+    }
+
+    // ==========================
+    // CONFIGURAÇÃO
+    // ==========================
+
+    /**
+     * Define quantas unidades a categoria pode vender além dos quartos que tem, em cada dia.
+     *
+     * @param categoria Categoria dos quartos
+     * @param unidades  Margem de overbooking (0 para vender só o que existe)
+     */
+    public synchronized void setOverbooking(String categoria, int unidades) {
+        if (unidades < 0) throw new IllegalArgumentException("Overbooking não pode ser negativo.");
+        int c = exigirCategoria(categoria);
+        overbooking[c] = unidades;
+    }
+
+    public synchronized int getOverbooking(String categoria) {
+        int c = catalogo.idCategoria(categoria);
+        return c < 0 || c >= overbooking.length ? 0 : overbooking[c];
+    }
+
+    // ==========================
+    // CONSULTAS
+    // ==========================
+
+    /**
+     * @return unidades ainda vendáveis da categoria no dia (negativo se vendido além do limite)
+     */
+    public synchronized int disponiveis(String categoria, LocalDate data) {
+        return disponiveis(categoria, data, data);
+    }
+
+    /**
+     * Unidades vendáveis para uma estadia inteira: o menor saldo entre os dias do período.
+     *
+     * @param categoria Categoria dos quartos
+     * @param checkIn   Data de entrada
+     * @param checkOut  Data de saída
+     * @return unidades disponíveis em todos os dias (0 se a categoria não existe)
+     */
+    public synchronized int disponiveis(String categoria, LocalDate checkIn, LocalDate checkOut) {
+        int c = catalogo.idCategoria(categoria);
+        if (c < 0) return 0;
+        garantirCategorias();
+        int limite = limite(c);
+        int de = indiceInicio(checkIn), ate = indiceFim(checkOut);
+        int menorSaldo = limite;
+        for (int d = de; d <= ate; d++) {
+            menorSaldo = Math.min(menorSaldo, limite - vendidos[c][d]);
+        }
+        return menorSaldo;
+    }
+
+    /**
+     * @return unidades vendidas da categoria no dia (com e sem quarto)
+     */
+    public synchronized int vendidos(String categoria, LocalDate data) {
+        int c = catalogo.idCategoria(categoria);
+        long d = data.toEpochDay() - diaInicial;
+        if (c < 0 || c >= vendidos.length || d < 0 || d >= totalDias) return 0;
+        return vendidos[c][(int) d];
+    }
+
+    public synchronized int totalSemQuarto() {
+        return semQuarto.size();
+    }
+
+    // ==========================
+    // VENDA SEM QUARTO
+    // ==========================
+
+    /**
+     * Vende uma estadia na categoria sem escolher o quarto, se houver saldo em todos os dias.
+     *
+     * @return a venda, para atribuir o quarto depois, ou null se faltar saldo
+     */
+    public synchronized ReservaCategoria venderCategoria(Cliente cliente, String categoria,
+                                                         LocalDate checkIn, LocalDate checkOut) {
+        if (cliente == null) throw new IllegalArgumentException("Cliente não pode ser nulo.");
+        if (checkOut.isBefore(checkIn))
+            throw new IllegalArgumentException("Data de check-out não pode ser antes do check-in.");
+        int c = exigirCategoria(categoria);
+        if (!cabe(c, checkIn, checkOut, null)) return null;
+        ReservaCategoria venda = new ReservaCategoria(cliente, c, catalogo.nomeCategoria(c), checkIn, checkOut);
+        semQuarto.add(venda);
+        aplicar(c, checkIn, checkOut, 1);
+        return venda;
+    }
+
+    /**
+     * Desfaz uma venda sem quarto, devolvendo as unidades ao inventário.
+     *
+     * @return true se a venda ainda estava pendente
+     */
+    public synchronized boolean cancelarVenda(ReservaCategoria venda) {
+        if (!semQuarto.remove(venda)) return false;
+        aplicar(venda.getIdCategoria(), venda.getDataCheckIn(), venda.getDataCheckOut(), -1);
+        return true;
+    }
+
+    /**
+     * Transforma uma venda sem quarto em reserva no quarto dado, pela via normal do gerenciador
+     * (verificação de conflito e ouvintes). A unidade da venda passa para a reserva; se o quarto
+     * não puder ser usado, a venda continua pendente.
+     *
+     * @param venda       Venda feita com {@link #venderCategoria}
+     * @param quarto      Quarto da mesma categoria
+     * @param gerenciador Gerenciador conectado a este inventário
+     * @return a reserva cadastrada, ou null se o quarto tem conflito no período
+     */
+    public synchronized Reserva atribuirQuarto(ReservaCategoria venda, Quarto quarto, GerenciadorReservas gerenciador) {
+        if (!semQuarto.contains(venda))
+            throw new IllegalArgumentException("Venda não está pendente: " + venda);
+        int id = catalogo.idQuarto(quarto);
+        if (id < 0 || !catalogo.estaAtivo(id) || catalogo.categoriaDoQuarto(id) != venda.getIdCategoria())
+            throw new IllegalArgumentException("Quarto " + quarto.getNumero() + " não é da categoria " + venda.getCategoria());
+
+        // libera a unidade da venda para que a reserva a ocupe ao ser cadastrada
+        cancelarVenda(venda);
+        Reserva reserva = new Reserva(venda.getCliente(), quarto, venda.getDataCheckIn(), venda.getDataCheckOut());
+        if (gerenciador.cadastrarReserva(reserva)) return reserva;
+        semQuarto.add(venda);
+        aplicar(venda.getIdCategoria(), venda.getDataCheckIn(), venda.getDataCheckOut(), 1);
+        return null;
+    }
+
+    // ==========================
+    // RESTRIÇÃO E EVENTOS
+    // ==========================
+
+    @Override
+    public synchronized boolean permite(Reserva reserva) {
+        int c = categoriaDaReserva(reserva);
+        return c < 0 || cabe(c, reserva.getDataCheckIn(), reserva.getDataCheckOut(), null);
+    }
+
+    @Override
+    public synchronized boolean permiteModificacao(Reserva antiga, Reserva nova) {
+        int c = categoriaDaReserva(nova);
+        if (c < 0) return true;
+        Integer anterior = categoriaContada.get(antiga);
+        return cabe(c, nova.getDataCheckIn(), nova.getDataCheckOut(),
+                anterior != null && anterior == c ? antiga : null);
+    }
+
+    @Override
+    public synchronized void reservaCadastrada(Reserva reserva) {
+        int c = categoriaDaReserva(reserva);
+        if (c < 0) return;
+        categoriaContada.put(reserva, c);
+        aplicar(c, reserva.getDataCheckIn(), reserva.getDataCheckOut(), 1);
+    }
+
+    @Override
+    public synchronized void reservaCancelada(Reserva reserva) {
+        Integer c = categoriaContada.remove(reserva);
+        if (c != null) aplicar(c, reserva.getDataCheckIn(), reserva.getDataCheckOut(), -1);
+    }
+
+    // ==========================
+    // MÉTODOS AUXILIARES
+    // ==========================
+
+    // Há saldo em todos os dias do período? A reserva liberada (se houver) não conta nos dias dela.
+    private boolean cabe(int c, LocalDate checkIn, LocalDate checkOut, Reserva liberada) {
+        garantirCategorias();
+        int limite = limite(c);
+        int de = indiceInicio(checkIn), ate = indiceFim(checkOut);
+        int liberadaDe = liberada == null ? 1 : indiceInicio(liberada.getDataCheckIn());
+        int liberadaAte = liberada == null ? 0 : indiceFim(liberada.getDataCheckOut());
+        for (int d = de; d <= ate; d++) {
+            int ocupadas = vendidos[c][d] - (d >= liberadaDe && d <= liberadaAte ? 1 : 0);
+            if (ocupadas + 1 > limite) return false;
+        }
+        return true;
+    }
+
+    private void aplicar(int c, LocalDate checkIn, LocalDate checkOut, int delta) {
+        garantirCategorias();
+        int de = indiceInicio(checkIn), ate = indiceFim(checkOut);
+        for (int d = de; d <= ate; d++) {
+            vendidos[c][d] += delta;
+        }
+    }
+
+    private int limite(int c) {
+        return catalogo.totalQuartos(c) + overbooking[c];
+    }
+
+    // Categoria atual do quarto, para reservas que ainda não foram contadas
+    private int categoriaDaReserva(Reserva reserva) {
+        // -1 para quartos fora do catálogo (ex: só internados no registro compartilhado)
+        return catalogo.categoriaDoQuarto(catalogo.idQuarto(reserva.getQuarto()));
+    }
+
+    private int exigirCategoria(String categoria) {
+        int c = catalogo.idCategoria(categoria);
+        if (c < 0) throw new IllegalArgumentException("Categoria desconhecida: " + categoria);
+        garantirCategorias();
+        return c;
+    }
+
+    // Categorias criadas no catálogo depois do inventário ganham contadores zerados
+    private void garantirCategorias() {
+        int total = catalogo.totalCategorias();
+        if (total <= vendidos.length) return;
+        int antes = vendidos.length;
+        vendidos = Arrays.copyOf(vendidos, total);
+        for (int c = antes; c < total; c++) vendidos[c] = new int[totalDias];
+        overbooking = Arrays.copyOf(overbooking, total);
+    }
+
+    // Recorte do período ao horizonte; períodos fora dele resultam em de > ate
+    private int indiceInicio(LocalDate data) {
+        return (int) Math.max(data.toEpochDay() - diaInicial, 0);
+    }
+
+    private int indiceFim(LocalDate data) {
+        return (int) Math.min(data.toEpochDay() - diaInicial, totalDias - 1L);
+    }
+}
@@ -0,0 +1,57 @@
+package inventario;
+
+import modelos.Cliente;
+
+import java.time.LocalDate;
+
+/**
+ * Venda de uma estadia em uma categoria, ainda sem quarto definido.
+ * Ocupa uma unidade do inventário da categoria em cada dia até receber um quarto
+ * ({@link InventarioCategorias#atribuirQuarto}) ou ser cancelada.
+ */
+public final class ReservaCategoria {
+
+    private final Cliente cliente;
+    private final int idCategoria;
+    private final String categoria;
+    private final LocalDate dataCheckIn;
+    private final LocalDate dataCheckOut;
+
+    ReservaCategoria(Cliente cliente, int idCategoria, String categoria, LocalDate dataCheckIn, LocalDate dataCheckOut) {
+        this.cliente = cliente;
+        this.idCategoria = idCategoria;
+        this.categoria = categoria;
+        this.dataCheckIn = dataCheckIn;
+        this.dataCheckOut = dataCheckOut;
+    }
+
+    public Cliente getCliente() {
+        return cliente;
+    }
+
+    public String getCategoria() {
+        return categoria;
+    }
+
+    int getIdCategoria() {
+        return idCategoria;
+    }
+
+    public LocalDate getDataCheckIn() {
+        return dataCheckIn;
+    }
+
+    public LocalDate getDataCheckOut() {
+        return dataCheckOut;
+    }
+
+    @Override
+    public String toString() {
+        return "ReservaCategoria{" +
+                "cliente=" + cliente +
+                ", categoria=" + categoria +
+                ", dataCheckIn=" + dataCheckIn +
+                ", dataCheckOut=" + dataCheckOut +
+                '}';
+    }
+}
@@ -0,0 +1,136 @@
+package metricas;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histograma de latências (em nanossegundos) com faixa dinâmica alta e sem bloqueios.
+ *
+ * Os baldes seguem a ideia do HdrHistogram: valores abaixo de 128 ns têm balde próprio e,
+ * acima disso, cada potência de 2 é dividida em 64 baldes iguais, o que limita o erro relativo
+ * de qualquer percentil a cerca de 1,6%. Valores acima de ~68 s são contados no último balde.
+ *
+ * Registrar custa um único incremento atômico no balde (mais a atualização do máximo, rara);
+ * contagem, média e percentis são calculados na leitura, a partir de uma fotografia dos baldes
+ * feita sem parar os escritores.
+ */
+public class HistogramaLatencia {
+
+    private static final int BITS_SUB_BALDE = 7;
+    private static final int SUB_BALDES = 1 << BITS_SUB_BALDE;    // 128
+    private static final int MEIO = SUB_BALDES / 2;                 // 64
+    private static final int MAIOR_EXPOENTE = 35;                   // 2^36 ns ~ 68,7 s
+    private static final long MAIOR_VALOR = (1L << (MAIOR_EXPOENTE + 1)) - 1;
+    private static final int TOTAL_BALDES = SUB_BALDES + (MAIOR_EXPOENTE - BITS_SUB_BALDE + 1) * MEIO;
+
+    private final AtomicLongArray baldes;
+    private final AtomicLong maximo;
+
+    public HistogramaLatencia() {
+        this.baldes = new AtomicLongArray(TOTAL_BALDES);
+        this.maximo = new AtomicLong();
+    }
+
+    /**
+     * Registra uma medição.
+     *
+     * @param nanos Duração em nanossegundos (valores negativos contam como zero)
+     */
+    public void registrar(long nanos) {
+        long valor = Math.max(nanos, 0);
+        baldes.incrementAndGet(indice(Math.min(valor, MAIOR_VALOR)));
+        long atual = maximo.get();
+        while (valor > atual && !maximo.compareAndSet(atual, valor)) {
+            atual = maximo.get();
+        }
+    }
+
+    public long contagem() {
+        long total = 0;
+        for (int i = 0; i < TOTAL_BALDES; i++) {
+            total += baldes.get(i);
+        }
+        return total;
+    }
+
+    public long maximo() {
+        return maximo.get();
+    }
+
+    /**
+     * @return média em nanossegundos, pelo ponto médio de cada balde (0 se vazio)
+     */
+    public double media() {
+        long total = 0;
+        double soma = 0;
+        for (int i = 0; i < TOTAL_BALDES; i++) {
+            long n = baldes.get(i);
+            if (n == 0) continue;
+            total += n;
+            soma += n * ((limiteInferior(i) + limiteSuperior(i)) / 2.0);
+        }
+        return total == 0 ? 0.0 : soma / total;
+    }
+
+    /**
+     * Valor abaixo do qual estão {@code percentual}% das medições.
+     *
+     * @param percentual Percentil entre 0 e 100 (ex: 99.9)
+     * @return limite superior do balde do percentil, em nanossegundos (0 se vazio)
+     */
+    public long percentil(double percentual) {
+        if (percentual < 0 || percentual > 100)
+            throw new IllegalArgumentException("Percentil deve estar entre 0 e 100.");
+        long[] fotografia = new long[TOTAL_BALDES];
+        long total = 0;
+        for (int i = 0; i < TOTAL_BALDES; i++) {
+            fotografia[i] = baldes.get(i);
+            total += fotografia[i];
+        }
+        if (total == 0) return 0;
+
+        long posicao = Math.max(1, (long) Math.ceil(percentual / 100.0 * total));
+        long acumulado = 0;
+        for (int i = 0; i < TOTAL_BALDES; i++) {
+            acumulado += fotografia[i];
+            if (acumulado >= posicao) {
+                return Math.min(limiteSuperior(i), maximo.get());
+            }
+        }
+        return maximo.get();
+    }
+
+    /**
+     * Zera o histograma. Medições concorrentes podem ficar parcialmente contadas.
+     */
+    public void limpar() {
+        for (int i = 0; i < TOTAL_BALDES; i++) {
+            baldes.set(i, 0);
+        }
+        maximo.set(0);
+    }
+
+    // ==========================
+    // BALDES
+    // ==========================
+
+    static int indice(long valor) {
+        if (valor < SUB_BALDES) return (int) valor;
+        int expoente = 63 - Long.numberOfLeadingZeros(valor);          // >= 7
+        int subBalde = (int) (valor >>> (expoente - BITS_SUB_BALDE + 1)); // 64..127
+        return SUB_BALDES + (expoente - BITS_SUB_BALDE) * MEIO + (subBalde - MEIO);
+    }
+
+    static long limiteInferior(int indice) {
+        return indice == 0 ? 0 : limiteSuperior(indice - 1) + 1;
+    }
+
+    static long limiteSuperior(int indice) {
+        if (indice < SUB_BALDES) return indice;
+        int k = indice - SUB_BALDES;
+        int expoente = BITS_SUB_BALDE + k / MEIO;
+        long subBalde = MEIO + k % MEIO;
+        int deslocamento = expoente - BITS_SUB_BALDE + 1;
+        return ((subBalde + 1) << deslocamento) - 1;
+    }
+}
@@ -0,0 +1,33 @@
+package metricas;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Valor instantâneo lido sob demanda (ex: reservas ativas, altura da árvore).
+ * A leitura é feita sem bloqueio sobre o componente medido, então é aproximada
+ * enquanto houver escritas concorrentes.
+ */
+public class Medidor implements MedidorMBean {
+
+    private final String nome;
+    private final LongSupplier leitura;
+
+    Medidor(String nome, LongSupplier leitura) {
+        this.nome = nome;
+        this.leitura = leitura;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    @Override
+    public long getValor() {
+        return leitura.getAsLong();
+    }
+
+    @Override
+    public String toString() {
+        return nome + "=" + getValor();
+    }
+}
@@ -0,0 +1,9 @@
+package metricas;
+
+/**
+ * Interface de gerenciamento (JMX) de um medidor (valor instantâneo).
+ */
+public interface MedidorMBean {
+
+    long getValor();
+}
@@ -0,0 +1,117 @@
+package metricas;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores e histograma de latência de uma operação (ex: GerenciadorReservas.cadastrarReserva).
+ *
+ * Uso típico:
+ * <pre>
+ *     long inicio = System.nanoTime();
+ *     boolean ok = ...;
+ *     CADASTRAR.registrar(inicio, ok);
+ * </pre>
+ */
+public class MetricasOperacao implements MetricasOperacaoMBean {
+
+    private final String componente;
+    private final String nome;
+    private final HistogramaLatencia latencias;
+    private final LongAdder falhas;
+
+    MetricasOperacao(String componente, String nome) {
+        this.componente = componente;
+        this.nome = nome;
+        this.latencias = new HistogramaLatencia();
+        this.falhas = new LongAdder();
+    }
+
+    /**
+     * Registra uma chamada bem-sucedida iniciada em {@code inicioNanos} (System.nanoTime()).
+     */
+    public void registrar(long inicioNanos) {
+        latencias.registrar(System.nanoTime() - inicioNanos);
+    }
+
+    /**
+     * Registra uma chamada; as malsucedidas (ex: conflito, reserva não encontrada) também
+     * são contadas como falha.
+     */
+    public void registrar(long inicioNanos, boolean sucesso) {
+        latencias.registrar(System.nanoTime() - inicioNanos);
+        if (!sucesso) falhas.increment();
+    }
+
+    public String getComponente() {
+        return componente;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public HistogramaLatencia getLatencias() {
+        return latencias;
+    }
+
+    // ==========================
+    // MBEAN
+    // ==========================
+
+    @Override
+    public long getChamadas() {
+        return latencias.contagem();
+    }
+
+    @Override
+    public long getFalhas() {
+        return falhas.sum();
+    }
+
+    @Override
+    public double getMediaNanos() {
+        return latencias.media();
+    }
+
+    @Override
+    public long getP50Nanos() {
+        return latencias.percentil(50);
+    }
+
+    @Override
+    public long getP99Nanos() {
+        return latencias.percentil(99);
+    }
+
+    @Override
+    public long getP999Nanos() {
+        return latencias.percentil(99.9);
+    }
+
+    @Override
+    public long getMaximoNanos() {
+        return latencias.maximo();
+    }
+
+    @Override
+    public void limpar() {
+        latencias.limpar();
+        falhas.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s.%s chamadas=%d falhas=%d média=%s p50=%s p99=%s p99.9=%s máx=%s",
+                componente, nome, getChamadas(), getFalhas(),
+                formatar((long) getMediaNanos()), formatar(getP50Nanos()), formatar(getP99Nanos()),
+                formatar(getP999Nanos()), formatar(getMaximoNanos()));
+    }
+
+    // Escolhe a unidade para manter 3 algarismos significativos legíveis
+    static String formatar(long nanos) {
+        if (nanos < 1_000) return nanos + "ns";
+        if (nanos < 1_000_000) return String.format("%.2fµs", nanos / 1e3);
+        if (nanos < 1_000_000_000) return String.format("%.2fms", nanos / 1e6);
+        return String.format("%.2fs", nanos / 1e9);
+    }
+}
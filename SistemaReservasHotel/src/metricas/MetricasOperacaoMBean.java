@@ -0,0 +1,23 @@
+package metricas;
+
+/**
+ * Interface de gerenciamento (JMX) das métricas de uma operação. Tempos em nanossegundos.
+ */
+public interface MetricasOperacaoMBean {
+
+    long getChamadas();
+
+    long getFalhas();
+
+    double getMediaNanos();
+
+    long getP50Nanos();
+
+    long getP99Nanos();
+
+    long getP999Nanos();
+
+    long getMaximoNanos();
+
+    void limpar();
+}
@@ -0,0 +1,207 @@
+package metricas;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Registro das métricas de operações e dos medidores do sistema.
+ *
+ * Os componentes obtêm as métricas de cada operação uma única vez (na construção) e
+ * apenas registram medições no caminho crítico. A publicação como MBeans e o despejo periódico
+ * em texto leem os valores sob demanda, sem interferir nas operações.
+ */
+public class RegistroMetricas {
+
+    static final String DOMINIO_JMX = "reservashotel";
+    private static final DateTimeFormatter FORMATO_HORA = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+
+    private static final RegistroMetricas GLOBAL = new RegistroMetricas();
+
+    // ordenados por nome, para um despejo estável
+    private final Map<String, MetricasOperacao> operacoes;
+    private final Map<String, Medidor> medidores;
+
+    private MBeanServer servidorJmx;       // não nulo depois de publicarJmx()
+    private ScheduledExecutorService despejo;
+
+    public RegistroMetricas() {
+        this.operacoes = new ConcurrentSkipListMap<>();
+        this.medidores = new ConcurrentSkipListMap<>();
+    }
+
+    /**
+     * @return registro usado pelos componentes do sistema
+     */
+    public static RegistroMetricas global() {
+        return GLOBAL;
+    }
+
+    // ==========================
+    // CADASTRO
+    // ==========================
+
+    /**
+     * Obtém (criando se preciso) as métricas de uma operação.
+     *
+     * @param componente Classe ou componente (ex: "GerenciadorReservas")
+     * @param nome       Operação (ex: "cadastrarReserva")
+     * @return métricas da operação, compartilhadas por todas as instâncias do componente
+     */
+    public MetricasOperacao operacao(String componente, String nome) {
+        MetricasOperacao nova = new MetricasOperacao(componente, nome);
+        MetricasOperacao existente = operacoes.putIfAbsent(componente + "." + nome, nova);
+        if (existente != null) return existente;
+        publicar(nova, propriedadesOperacao(componente, nome));
+        return nova;
+    }
+
+    /**
+     * Remove as métricas de todas as operações de um componente e retira os MBeans dele
+     * (ex: quando uma instância troca de rótulo, as medições do rótulo antigo deixam de existir).
+     *
+     * @param componente Componente cujas métricas serão removidas
+     * @return quantidade de operações removidas
+     */
+    public synchronized int removerComponente(String componente) {
+        int removidas = 0;
+        for (MetricasOperacao m : operacoes.values()) {
+            if (!m.getComponente().equals(componente)) continue;
+            operacoes.remove(componente + "." + m.getNome(), m);
+            retirar(propriedadesOperacao(componente, m.getNome()));
+            removidas++;
+        }
+        return removidas;
+    }
+
+    /**
+     * Registra (ou substitui) um medidor.
+     *
+     * @param nome    Nome do medidor (ex: "reservasAtivas")
+     * @param leitura Função que lê o valor atual
+     */
+    public synchronized void registrarMedidor(String nome, LongSupplier leitura) {
+        Medidor medidor = new Medidor(nome, leitura);
+        String propriedades = propriedadesMedidor(nome);
+        if (medidores.put(nome, medidor) != null) retirar(propriedades);
+        publicar(medidor, propriedades);
+    }
+
+    public List<MetricasOperacao> listarOperacoes() {
+        return new ArrayList<>(operacoes.values());
+    }
+
+    public List<Medidor> listarMedidores() {
+        return new ArrayList<>(medidores.values());
+    }
+
+    // ==========================
+    // PUBLICAÇÃO
+    // ==========================
+
+    /**
+     * Publica todas as métricas (atuais e futuras) no servidor de MBeans da plataforma,
+     * sob o domínio "reservashotel".
+     */
+    public synchronized void publicarJmx() {
+        if (servidorJmx != null) return;
+        servidorJmx = ManagementFactory.getPlatformMBeanServer();
+        for (MetricasOperacao m : operacoes.values()) {
+            publicar(m, propriedadesOperacao(m.getComponente(), m.getNome()));
+        }
+        for (Medidor m : medidores.values()) {
+            publicar(m, propriedadesMedidor(m.getNome()));
+        }
+    }
+
+    /**
+     * Texto com todas as operações (chamadas, falhas, média, p50, p99, p99.9 e máximo) e medidores.
+     */
+    public String despejoTexto() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== Métricas em ").append(LocalDateTime.now().format(FORMATO_HORA)).append(" ===\n");
+        for (MetricasOperacao m : operacoes.values()) {
+            if (m.getChamadas() > 0) sb.append(m).append('\n');
+        }
+        for (Medidor m : medidores.values()) {
+            sb.append(m).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Escreve {@link #despejoTexto()} periodicamente, em uma thread daemon.
+     * Chamar de novo substitui o despejo anterior.
+     *
+     * @param periodo Intervalo entre despejos
+     * @param unidade Unidade do intervalo
+     * @param saida   Destino do texto (ex: System.err)
+     */
+    public synchronized void iniciarDespejoPeriodico(long periodo, TimeUnit unidade, PrintStream saida) {
+        if (periodo <= 0) throw new IllegalArgumentException("Período deve ser maior que zero.");
+        pararDespejoPeriodico();
+        despejo = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread t = new Thread(tarefa, "despejo-metricas");
+            t.setDaemon(true);
+            return t;
+        });
+        despejo.scheduleAtFixedRate(() -> saida.print(despejoTexto()), periodo, periodo, unidade);
+    }
+
+    public synchronized void pararDespejoPeriodico() {
+        if (despejo != null) {
+            despejo.shutdownNow();
+            despejo = null;
+        }
+    }
+
+    // ==========================
+    // MÉTODOS AUXILIARES
+    // ==========================
+
+    private synchronized void publicar(Object mbean, String propriedades) {
+        if (servidorJmx == null) return;
+        try {
+            ObjectName nome = nomeJmx(propriedades);
+            if (!servidorJmx.isRegistered(nome)) servidorJmx.registerMBean(mbean, nome);
+        } catch (JMException e) {
+            throw new IllegalStateException("Falha ao publicar a métrica " + propriedades, e);
+        }
+    }
+
+    private synchronized void retirar(String propriedades) {
+        if (servidorJmx == null) return;
+        try {
+            ObjectName nome = nomeJmx(propriedades);
+            if (servidorJmx.isRegistered(nome)) servidorJmx.unregisterMBean(nome);
+        } catch (JMException e) {
+            throw new IllegalStateException("Falha ao retirar a métrica " + propriedades, e);
+        }
+    }
+
+    // Os valores vêm de rótulos livres (ex: "propriedade-1", "Hotel Centro, ala norte"):
+    // entre aspas, vírgulas, "=", ":" e aspas não quebram o ObjectName
+    private static String propriedadesOperacao(String componente, String nome) {
+        return "type=Operacao,componente=" + ObjectName.quote(componente) + ",nome=" + ObjectName.quote(nome);
+    }
+
+    private static String propriedadesMedidor(String nome) {
+        return "type=Medidor,nome=" + ObjectName.quote(nome);
+    }
+
+    private static ObjectName nomeJmx(String propriedades) throws JMException {
+        return new ObjectName(DOMINIO_JMX + ":" + propriedades);
+    }
+}
@@ -1,75 +1,69 @@
 package modelos;
 
-import java.util.Objects;
-
 /**
  * Classe que representa um Cliente de hotel.
+ * É imutável: a mesma instância é compartilhada por todas as reservas do cliente
+ * (ver {@link RegistroEntidades}) e o CPF é chave de índices.
  */
 public class Cliente {
 
-    private String nome;
-    private String cpf; // CPF como identificador único
+    private final String nome;
+    private final Cpf cpf;    // CPF como identificador único
 
     /**
      * Construtor do Cliente.
      *
      * @param nome Nome completo do cliente
-     * @param cpf  CPF do cliente (apenas números, 11 dígitos)
+     * @param cpf  CPF do cliente (formatado ou apenas números, 11 dígitos)
      */
     public Cliente(String nome, String cpf) {
+        this(nome, Cpf.parse(cpf));
+    }
+
+    /**
+     * Construtor do Cliente a partir de um CPF já validado.
+     *
+     * @param nome Nome completo do cliente
+     * @param cpf  CPF do cliente
+     */
+    public Cliente(String nome, Cpf cpf) {
         if (nome == null || nome.trim().isEmpty()) {
             throw new IllegalArgumentException("Nome não pode ser vazio.");
         }
-        if (!validarCPF(cpf)) {
-            throw new IllegalArgumentException("CPF inválido: " + cpf);
+        if (cpf == null) {
+            throw new IllegalArgumentException("CPF não pode ser nulo.");
         }
         this.nome = nome.trim();
-        this.cpf = cpf.trim();
+        this.cpf = cpf;
     }
 
     // ==========================
-    // GETTERS E SETTERS
+    // GETTERS
     // ==========================
     public String getNome() {
         return nome;
     }
 
-    public void setNome(String nome) {
-        if (nome == null || nome.trim().isEmpty()) {
-            throw new IllegalArgumentException("Nome não pode ser vazio.");
-        }
-        this.nome = nome.trim();
-    }
-
+    /**
+     * @return CPF com os 11 dígitos, sem formatação
+     */
     public String getCpf() {
-        return cpf;
+        return cpf.getDigitos();
     }
 
-    public void setCpf(String cpf) {
-        if (!validarCPF(cpf)) {
-            throw new IllegalArgumentException("CPF inválido: " + cpf);
-        }
-        this.cpf = cpf.trim();
+    public Cpf getCpfNumerico() {
+        return cpf;
     }
 
     // ==========================
     // MÉTODOS AUXILIARES
     // ==========================
-    /**
-     * Validação simples de CPF (apenas formato: 11 dígitos numéricos).
-     * Pode ser substituído por validação mais completa posteriormente.
-     */
-    private boolean validarCPF(String cpf) {
-        if (cpf == null) return false;
-        String numeros = cpf.replaceAll("\\D", ""); // remove caracteres não numéricos
-        return numeros.length() == 11;
-    }
 
     @Override
     public String toString() {
         return "Cliente{" +
                 "nome='" + nome + '\'' +
-                ", cpf='" + cpf + '\'' +
+                ", cpf='" + cpf.getDigitos() + '\'' +
                 '}';
     }
 
@@ -78,11 +72,11 @@ public class Cliente {
         if (this == o) return true;
         if (!(o instanceof Cliente)) return false;
         Cliente cliente = (Cliente) o;
-        return Objects.equals(cpf, cliente.cpf);
+        return cpf.equals(cliente.cpf);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(cpf);
+        return cpf.hashCode();
     }
 }
@@ -0,0 +1,170 @@
+package modelos;
+
+/**
+ * Valor imutável que representa um CPF válido.
+ * O número é armazenado como long, o que torna hashing e comparação baratos
+ * (sem Strings envolvidas).
+ */
+public final class Cpf implements Comparable<Cpf> {
+
+    private final long numero; // 11 dígitos, incluindo os dígitos verificadores
+
+    private Cpf(long numero) {
+        this.numero = numero;
+    }
+
+    // ==========================
+    // CRIAÇÃO
+    // ==========================
+
+    /**
+     * Converte um CPF formatado ("123.456.789-09") ou apenas números ("12345678909").
+     * Qualquer outra forma (espaços, separadores em outras posições, letras) é inválida.
+     *
+     * @param texto CPF a converter
+     * @return Cpf válido
+     * @throws IllegalArgumentException se o CPF for inválido
+     */
+    public static Cpf parse(CharSequence texto) {
+        long numero = converter(texto);
+        if (numero < 0) {
+            throw new IllegalArgumentException("CPF inválido: " + texto);
+        }
+        return new Cpf(numero);
+    }
+
+    /**
+     * Igual a {@link #parse(CharSequence)}, mas retorna null em vez de lançar exceção.
+     *
+     * @param texto CPF a converter
+     * @return Cpf válido ou null
+     */
+    public static Cpf tentarParse(CharSequence texto) {
+        long numero = converter(texto);
+        return numero < 0 ? null : new Cpf(numero);
+    }
+
+    /**
+     * Verifica formato e dígitos verificadores sem criar objetos.
+     *
+     * @param texto CPF a verificar
+     * @return true se válido
+     */
+    public static boolean valido(CharSequence texto) {
+        return converter(texto) >= 0;
+    }
+
+    /**
+     * Percorre o texto uma única vez, acumulando o número e as somas dos dois dígitos verificadores.
+     * Aceita apenas os 11 dígitos sem separadores ou a máscara exata 000.000.000-00.
+     *
+     * @return o número do CPF, ou -1 se inválido
+     */
+    private static long converter(CharSequence texto) {
+        if (texto == null) return -1;
+        int tamanho = texto.length();
+        boolean mascara = tamanho == 14;
+        if (!mascara && tamanho != 11) return -1;
+
+        long numero = 0;
+        int digitos = 0;
+        int soma1 = 0;          // pesos 10..2 sobre os 9 primeiros dígitos
+        int soma2 = 0;          // pesos 11..2 sobre os 10 primeiros dígitos
+        int primeiro = -1;
+        boolean todosIguais = true;
+        int dv1 = 0;
+
+        for (int i = 0; i < tamanho; i++) {
+            char c = texto.charAt(i);
+            if (mascara && (i == 3 || i == 7)) {
+                if (c != '.') return -1;
+                continue;
+            }
+            if (mascara && i == 11) {
+                if (c != '-') return -1;
+                continue;
+            }
+            if (c < '0' || c > '9') return -1;
+
+            int d = c - '0';
+            if (primeiro < 0) primeiro = d;
+            else if (d != primeiro) todosIguais = false;
+
+            if (digitos < 9) {
+                soma1 += d * (10 - digitos);
+            } else if (digitos == 9) {
+                dv1 = d;
+            }
+            if (digitos < 10) {
+                soma2 += d * (11 - digitos);
+            }
+
+            numero = numero * 10 + d;
+            digitos++;
+
+            if (digitos == 10) {
+                // primeiro dígito verificador
+                int resto = soma1 % 11;
+                if (dv1 != (resto < 2 ? 0 : 11 - resto)) return -1;
+            } else if (digitos == 11) {
+                // segundo dígito verificador
+                int resto = soma2 % 11;
+                if (d != (resto < 2 ? 0 : 11 - resto)) return -1;
+            }
+        }
+
+        // sequências repetidas (ex: 111.111.111-11) passam no cálculo, mas não são válidas
+        if (todosIguais) return -1;
+        return numero;
+    }
+
+    // ==========================
+    // GETTERS
+    // ==========================
+
+    public long getNumero() {
+        return numero;
+    }
+
+    /**
+     * @return os 11 dígitos, sem formatação
+     */
+    public String getDigitos() {
+        String s = Long.toString(numero);
+        return "00000000000".substring(s.length()) + s;
+    }
+
+    /**
+     * @return o CPF no formato 000.000.000-00
+     */
+    public String formatado() {
+        String d = getDigitos();
+        return d.substring(0, 3) + "." + d.substring(3, 6) + "." + d.substring(6, 9) + "-" + d.substring(9);
+    }
+
+    // ==========================
+    // MÉTODOS AUXILIARES
+    // ==========================
+
+    @Override
+    public String toString() {
+        return formatado();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Cpf)) return false;
+        return numero == ((Cpf) o).numero;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(numero);
+    }
+
+    @Override
+    public int compareTo(Cpf outro) {
+        return Long.compare(this.numero, outro.numero);
+    }
+}
@@ -4,11 +4,13 @@ import java.util.Objects;
 
 /**
  * Classe que representa um Quarto de hotel.
+ * É imutável: a mesma instância é compartilhada por todas as reservas do quarto
+ * (ver {@link RegistroEntidades}) e o número é chave de ordenação e de índices.
  */
 public class Quarto {
 
-    private int numero;         // número do quarto
-    private String categoria;   // categoria do quarto (ex: econômico, luxo, suíte)
+    private final int numero;         // número do quarto
+    private final String categoria;   // categoria do quarto (ex: econômico, luxo, suíte)
 
     /**
      * Construtor do Quarto.
@@ -28,30 +30,16 @@ public class Quarto {
     }
 
     // ==========================
-    // GETTERS E SETTERS
+    // GETTERS
     // ==========================
     public int getNumero() {
         return numero;
     }
 
-    public void setNumero(int numero) {
-        if (numero <= 0) {
-            throw new IllegalArgumentException("Número do quarto deve ser maior que zero.");
-        }
-        this.numero = numero;
-    }
-
     public String getCategoria() {
         return categoria;
     }
 
-    public void setCategoria(String categoria) {
-        if (categoria == null || categoria.trim().isEmpty()) {
-            throw new IllegalArgumentException("Categoria não pode ser vazia.");
-        }
-        this.categoria = categoria.trim();
-    }
-
     // ==========================
     // MÉTODOS AUXILIARES
     // ==========================
@@ -0,0 +1,152 @@
+package modelos;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registro que mantém uma única instância de cada Quarto (por número)
+ * e de cada Cliente (por CPF), atribuindo a cada uma um identificador inteiro denso.
+ * Os identificadores permitem indexar quartos e clientes em vetores (ex: catálogo de quartos)
+ * e representar reservas de forma compacta (ver {@link TabelaReservasCompactas}).
+ */
+public class RegistroEntidades {
+
+    private final Map<Integer, Integer> idPorNumeroQuarto;
+    private final List<Quarto> quartosPorId;
+
+    private final Map<Cpf, Integer> idPorCpf;
+    private final List<Cliente> clientesPorId;
+
+    public RegistroEntidades() {
+        this.idPorNumeroQuarto = new HashMap<>();
+        this.quartosPorId = new ArrayList<>();
+        this.idPorCpf = new HashMap<>();
+        this.clientesPorId = new ArrayList<>();
+    }
+
+    // ==========================
+    // QUARTOS
+    // ==========================
+
+    /**
+     * Retorna a instância única do quarto com o número informado,
+     * criando-a se ainda não existir.
+     *
+     * @param numero    Número do quarto
+     * @param categoria Categoria usada apenas se o quarto ainda não existir
+     * @return Quarto internado
+     */
+    public Quarto internarQuarto(int numero, String categoria) {
+        Integer id = idPorNumeroQuarto.get(numero);
+        if (id != null) return quartosPorId.get(id);
+
+        Quarto quarto = new Quarto(numero, categoria);
+        idPorNumeroQuarto.put(numero, quartosPorId.size());
+        quartosPorId.add(quarto);
+        return quarto;
+    }
+
+    /**
+     * Busca um quarto já registrado pelo número.
+     *
+     * @param numero Número do quarto
+     * @return Quarto encontrado ou null
+     */
+    public Quarto buscarQuarto(int numero) {
+        Integer id = idPorNumeroQuarto.get(numero);
+        return id != null ? quartosPorId.get(id) : null;
+    }
+
+    /**
+     * @param quarto Quarto registrado
+     * @return identificador denso do quarto ou -1 se não registrado
+     */
+    public int idQuarto(Quarto quarto) {
+        Integer id = idPorNumeroQuarto.get(quarto.getNumero());
+        return id != null ? id : -1;
+    }
+
+    public Quarto quartoPorId(int id) {
+        return quartosPorId.get(id);
+    }
+
+    public int totalQuartos() {
+        return quartosPorId.size();
+    }
+
+    // ==========================
+    // CLIENTES
+    // ==========================
+
+    /**
+     * Retorna a instância única do cliente com o CPF informado,
+     * criando-a se ainda não existir. Clientes recorrentes reutilizam o mesmo objeto.
+     *
+     * @param nome Nome usado apenas se o cliente ainda não existir
+     * @param cpf  CPF do cliente (formatado ou apenas números)
+     * @return Cliente internado
+     */
+    public Cliente internarCliente(String nome, String cpf) {
+        return internarCliente(nome, Cpf.parse(cpf));
+    }
+
+    /**
+     * Igual a {@link #internarCliente(String, String)}, com o CPF já convertido.
+     *
+     * @param nome Nome usado apenas se o cliente ainda não existir
+     * @param cpf  CPF do cliente
+     * @return Cliente internado
+     */
+    public Cliente internarCliente(String nome, Cpf cpf) {
+        Integer id = idPorCpf.get(cpf);
+        if (id != null) return clientesPorId.get(id);
+
+        Cliente cliente = new Cliente(nome, cpf);
+        idPorCpf.put(cpf, clientesPorId.size());
+        clientesPorId.add(cliente);
+        return cliente;
+    }
+
+    /**
+     * Busca um cliente já registrado pelo CPF.
+     *
+     * @param cpf CPF do cliente
+     * @return Cliente encontrado ou null
+     */
+    public Cliente buscarCliente(String cpf) {
+        Cpf chave = Cpf.tentarParse(cpf);
+        return chave != null ? buscarCliente(chave) : null;
+    }
+
+    public Cliente buscarCliente(Cpf cpf) {
+        Integer id = idPorCpf.get(cpf);
+        return id != null ? clientesPorId.get(id) : null;
+    }
+
+    /**
+     * @param cliente Cliente registrado
+     * @return identificador denso do cliente ou -1 se não registrado
+     */
+    public int idCliente(Cliente cliente) {
+        return idCliente(cliente.getCpfNumerico());
+    }
+
+    /**
+     * @param cpf CPF do cliente
+     * @return identificador denso do cliente ou -1 se não registrado
+     */
+    public int idCliente(Cpf cpf) {
+        Integer id = idPorCpf.get(cpf);
+        return id != null ? id : -1;
+    }
+
+    public Cliente clientePorId(int id) {
+        return clientesPorId.get(id);
+    }
+
+    public int totalClientes() {
+        return clientesPorId.size();
+    }
+}
@@ -5,13 +5,15 @@ import java.util.Objects;
 
 /**
  * Classe que representa uma Reserva de quarto em um hotel.
+ * É imutável: os campos definem a posição na árvore e nos índices, então trocar datas ou
+ * quarto é feito com {@code GerenciadorReservas.modificarReserva}, que cria uma nova reserva.
  */
-public class Reserva implements Comparable<Reserva> {
+public final class Reserva implements Comparable<Reserva> {
 
-    private Cliente cliente;         // cliente responsável pela reserva
-    private Quarto quarto;           // quarto reservado
-    private LocalDate dataCheckIn;   // data de entrada
-    private LocalDate dataCheckOut;  // data de saída
+    private final Cliente cliente;         // cliente responsável pela reserva
+    private final Quarto quarto;           // quarto reservado
+    private final LocalDate dataCheckIn;   // data de entrada
+    private final LocalDate dataCheckOut;  // data de saída
 
     /**
      * Construtor da Reserva.
@@ -36,46 +38,24 @@ public class Reserva implements Comparable<Reserva> {
     }
 
     // ==========================
-    // GETTERS E SETTERS
+    // GETTERS
     // ==========================
     public Cliente getCliente() {
         return cliente;
     }
 
-    public void setCliente(Cliente cliente) {
-        if (cliente == null) throw new IllegalArgumentException("Cliente não pode ser nulo.");
-        this.cliente = cliente;
-    }
-
     public Quarto getQuarto() {
         return quarto;
     }
 
-    public void setQuarto(Quarto quarto) {
-        if (quarto == null) throw new IllegalArgumentException("Quarto não pode ser nulo.");
-        this.quarto = quarto;
-    }
-
     public LocalDate getDataCheckIn() {
         return dataCheckIn;
     }
 
-    public void setDataCheckIn(LocalDate dataCheckIn) {
-        if (dataCheckIn == null) throw new IllegalArgumentException("Data de check-in não pode ser nula.");
-        this.dataCheckIn = dataCheckIn;
-    }
-
     public LocalDate getDataCheckOut() {
         return dataCheckOut;
     }
 
-    public void setDataCheckOut(LocalDate dataCheckOut) {
-        if (dataCheckOut == null) throw new IllegalArgumentException("Data de check-out não pode ser nula.");
-        if (dataCheckOut.isBefore(this.dataCheckIn))
-            throw new IllegalArgumentException("Data de check-out não pode ser antes do check-in.");
-        this.dataCheckOut = dataCheckOut;
-    }
-
     // ==========================
     // MÉTODOS AUXILIARES
     // ==========================
@@ -0,0 +1,159 @@
+package modelos;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Representação compacta (em colunas) de um grande volume de reservas.
+ * Cada reserva ocupa 16 bytes: id do quarto, id do cliente e as datas
+ * de check-in/check-out em dias desde a época (epoch day), todos como int.
+ * Quartos e clientes são resolvidos pelo {@link RegistroEntidades}.
+ *
+ * Objetos {@link Reserva} são criados apenas como visão, quando necessário.
+ * Usada pelo histórico de cancelamentos, que só cresce e raramente precisa das reservas inteiras.
+ */
+public class TabelaReservasCompactas {
+
+    private static final int CAPACIDADE_INICIAL = 16;
+
+    private final RegistroEntidades registro;
+
+    private int[] idsQuarto;
+    private int[] idsCliente;
+    private int[] checkIns;
+    private int[] checkOuts;
+    private int tamanho;
+
+    /**
+     * @param registro Registro usado para resolver ids de quartos e clientes
+     */
+    public TabelaReservasCompactas(RegistroEntidades registro) {
+        this(registro, CAPACIDADE_INICIAL);
+    }
+
+    /**
+     * @param registro   Registro usado para resolver ids de quartos e clientes
+     * @param capacidade Reservas que cabem sem realocar as colunas (ex: tamanho de uma carga em lote)
+     */
+    public TabelaReservasCompactas(RegistroEntidades registro, int capacidade) {
+        if (registro == null) throw new IllegalArgumentException("Registro não pode ser nulo.");
+        if (capacidade < 0) throw new IllegalArgumentException("Capacidade não pode ser negativa.");
+        this.registro = registro;
+        this.idsQuarto = new int[capacidade];
+        this.idsCliente = new int[capacidade];
+        this.checkIns = new int[capacidade];
+        this.checkOuts = new int[capacidade];
+        this.tamanho = 0;
+    }
+
+    // ==========================
+    // INSERÇÃO
+    // ==========================
+
+    /**
+     * Adiciona uma reserva, internando seu quarto e cliente no registro.
+     *
+     * @param reserva Reserva a ser armazenada
+     * @return índice da reserva na tabela
+     */
+    public int adicionar(Reserva reserva) {
+        Quarto q = reserva.getQuarto();
+        Cliente c = reserva.getCliente();
+        int idQuarto = registro.idQuarto(registro.internarQuarto(q.getNumero(), q.getCategoria()));
+        int idCliente = registro.idCliente(registro.internarCliente(c.getNome(), c.getCpfNumerico()));
+        return adicionar(idQuarto, idCliente,
+                (int) reserva.getDataCheckIn().toEpochDay(),
+                (int) reserva.getDataCheckOut().toEpochDay());
+    }
+
+    /**
+     * Adiciona uma reserva já na forma compacta.
+     *
+     * @param idQuarto  Id do quarto no registro
+     * @param idCliente Id do cliente no registro
+     * @param checkIn   Check-in em dias desde a época
+     * @param checkOut  Check-out em dias desde a época
+     * @return índice da reserva na tabela
+     */
+    public int adicionar(int idQuarto, int idCliente, int checkIn, int checkOut) {
+        if (idQuarto < 0 || idQuarto >= registro.totalQuartos())
+            throw new IllegalArgumentException("Id de quarto inválido: " + idQuarto);
+        if (idCliente < 0 || idCliente >= registro.totalClientes())
+            throw new IllegalArgumentException("Id de cliente inválido: " + idCliente);
+        if (checkOut < checkIn)
+            throw new IllegalArgumentException("Data de check-out não pode ser antes do check-in.");
+
+        garantirCapacidade(tamanho + 1);
+        idsQuarto[tamanho] = idQuarto;
+        idsCliente[tamanho] = idCliente;
+        checkIns[tamanho] = checkIn;
+        checkOuts[tamanho] = checkOut;
+        return tamanho++;
+    }
+
+    // ==========================
+    // CONSULTAS
+    // ==========================
+
+    public int tamanho() {
+        return tamanho;
+    }
+
+    public int getIdQuarto(int indice) {
+        verificarIndice(indice);
+        return idsQuarto[indice];
+    }
+
+    public int getIdCliente(int indice) {
+        verificarIndice(indice);
+        return idsCliente[indice];
+    }
+
+    public int getCheckInEpochDay(int indice) {
+        verificarIndice(indice);
+        return checkIns[indice];
+    }
+
+    public int getCheckOutEpochDay(int indice) {
+        verificarIndice(indice);
+        return checkOuts[indice];
+    }
+
+    /**
+     * Cria uma visão da reserva no índice informado como objeto {@link Reserva}.
+     * Quarto e cliente são as instâncias compartilhadas do registro.
+     *
+     * @param indice Índice da reserva
+     * @return nova Reserva equivalente
+     */
+    public Reserva getReserva(int indice) {
+        verificarIndice(indice);
+        return new Reserva(registro.clientePorId(idsCliente[indice]),
+                registro.quartoPorId(idsQuarto[indice]),
+                LocalDate.ofEpochDay(checkIns[indice]),
+                LocalDate.ofEpochDay(checkOuts[indice]));
+    }
+
+    public RegistroEntidades getRegistro() {
+        return registro;
+    }
+
+    // ==========================
+    // MÉTODOS AUXILIARES
+    // ==========================
+
+    private void garantirCapacidade(int minimo) {
+        if (minimo <= idsQuarto.length) return;
+        int novaCapacidade = Math.max(Math.max(minimo, CAPACIDADE_INICIAL), idsQuarto.length + (idsQuarto.length >> 1));
+        idsQuarto = Arrays.copyOf(idsQuarto, novaCapacidade);
+        idsCliente = Arrays.copyOf(idsCliente, novaCapacidade);
+        checkIns = Arrays.copyOf(checkIns, novaCapacidade);
+        checkOuts = Arrays.copyOf(checkOuts, novaCapacidade);
+    }
+
+    private void verificarIndice(int indice) {
+        if (indice < 0 || indice >= tamanho) {
+            throw new IndexOutOfBoundsException("Índice inválido: " + indice);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package principal;
+
+import catalogo.CatalogoQuartos;
+import gerenciador.GerenciadorReservas;
+import historico.HistoricoReservas;
+import metricas.RegistroMetricas;
+import modelos.Cliente;
+import modelos.Quarto;
+import modelos.RegistroEntidades;
+import modelos.Reserva;
+import relatorios.AgregadosReservas;
+import relatorios.CacheRelatorios;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Execução não interativa: lê um comando por linha e escreve uma linha de resultado por comando,
+ * sem prompts. Campos separados por ';', datas no formato dd/MM/yyyy; linhas vazias ou iniciadas
+ * por '#' são ignoradas.
+ *
+ * <pre>
+ * QUARTO;numero;categoria
+ * RESERVAR;nome;cpf;quarto;checkIn;checkOut
+ * CANCELAR;cpf
+ * CONSULTAR;cpf
+ * LISTAR
+ * DISPONIVEIS;categoria;data
+ * RELATORIO;inicio;fim;dataAlerta
+ * METRICAS
+ * </pre>
+ *
+ * Um comando inválido gera uma linha "ERRO" e a execução continua. As mensagens do gerenciador
+ * e do histórico ficam desligadas; o resumo de vazão vai para a saída de erro.
+ */
+class ModoLote {
+
+    private final GerenciadorReservas gerenciador;
+    private final HistoricoReservas historico;
+    private final RegistroEntidades registro;
+    private final CatalogoQuartos catalogo;
+    private final AgregadosReservas agregados;
+    private final CacheRelatorios cacheRelatorios;
+
+    private long comandos, erros;
+
+    ModoLote(GerenciadorReservas gerenciador, HistoricoReservas historico, RegistroEntidades registro,
+             CatalogoQuartos catalogo, AgregadosReservas agregados, CacheRelatorios cacheRelatorios) {
+        this.gerenciador = gerenciador;
+        this.historico = historico;
+        this.registro = registro;
+        this.catalogo = catalogo;
+        this.agregados = agregados;
+        this.cacheRelatorios = cacheRelatorios;
+    }
+
+    /**
+     * Executa todos os comandos da entrada e escreve o resumo em {@code resumo}.
+     *
+     * @param entrada Comandos, um por linha
+     * @param saida   Resultados (deve ser bufferizada; é esvaziada apenas ao fim)
+     * @param resumo  Destino do resumo de vazão (ex: System.err)
+     */
+    void executar(BufferedReader entrada, Writer saida, Appendable resumo) throws IOException {
+        gerenciador.setVerboso(false);
+        historico.setVerboso(false);
+        long inicio = System.nanoTime();
+        long numeroLinha = 0;
+        String linha;
+        while ((linha = entrada.readLine()) != null) {
+            numeroLinha++;
+            if (linha.isBlank() || linha.startsWith("#")) continue;
+            comandos++;
+            try {
+                executarComando(linha.split(";", -1), saida);
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                erros++;
+                saida.write("ERRO linha " + numeroLinha + ": " + descrever(e) + "\n");
+            }
+        }
+        saida.flush();
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+        resumo.append(String.format("Lote: %d comandos (%d com erro) em %.3f s - %.0f comandos/s%n",
+                comandos, erros, segundos, segundos > 0 ? comandos / segundos : 0.0));
+    }
+
+    // ==========================
+    // COMANDOS
+    // ==========================
+
+    private void executarComando(String[] campos, Writer saida) throws IOException {
+        String comando = campos[0].trim().toUpperCase();
+        switch (comando) {
+            case "QUARTO" -> {
+                Quarto q = catalogo.adicionarQuarto(inteiro(campos[1]), campos[2].trim());
+                agregados.registrarQuarto(q);
+                saida.write("OK quarto adicionado: " + q + "\n");
+            }
+            case "RESERVAR" -> reservar(campos, saida);
+            case "CANCELAR" -> {
+                Reserva r = gerenciador.consultarReservaPorCliente(campos[1].trim());
+                if (r != null && gerenciador.cancelarReserva(r)) {
+                    saida.write("OK reserva cancelada: " + r + "\n");
+                } else {
+                    saida.write("NAO_ENCONTRADA " + campos[1].trim() + "\n");
+                }
+            }
+            case "CONSULTAR" -> {
+                Reserva r = gerenciador.consultarReservaPorCliente(campos[1].trim());
+                saida.write(r != null ? "OK " + r + "\n" : "NAO_ENCONTRADA " + campos[1].trim() + "\n");
+            }
+            case "LISTAR" -> {
+                List<Reserva> reservas = gerenciador.listarReservas();
+                saida.write("OK " + reservas.size() + " reservas\n");
+                for (Reserva r : reservas) {
+                    saida.write(r + "\n");
+                }
+            }
+            case "DISPONIVEIS" -> {
+                List<Quarto> disponiveis = gerenciador.listarQuartosDisponiveis(catalogo, data(campos[2]),
+                        campos[1].trim());
+                saida.write("OK " + disponiveis.size() + " quartos\n");
+                for (Quarto q : disponiveis) {
+                    saida.write(q + "\n");
+                }
+            }
+            case "RELATORIO" -> relatorio(campos, saida);
+            case "METRICAS" -> saida.write(RegistroMetricas.global().despejoTexto());
+            default -> throw new IllegalArgumentException("Comando desconhecido: " + campos[0]);
+        }
+    }
+
+    private void reservar(String[] campos, Writer saida) throws IOException {
+        int numero = inteiro(campos[3]);
+        Quarto quarto = catalogo.buscarQuarto(numero);
+        if (quarto == null) throw new IllegalArgumentException("Quarto inválido: " + numero);
+        LocalDate checkIn = data(campos[4]);
+        LocalDate checkOut = data(campos[5]);
+        if (checkOut.isBefore(checkIn))
+            throw new IllegalArgumentException("Data de check-out não pode ser antes do check-in.");
+        // o cliente só entra no registro depois que quarto e datas foram validados
+        Cliente cliente = registro.internarCliente(campos[1].trim(), campos[2].trim());
+        Reserva reserva = new Reserva(cliente, quarto, checkIn, checkOut);
+        if (gerenciador.cadastrarReserva(reserva)) {
+            saida.write("OK reserva cadastrada: " + reserva + "\n");
+        } else {
+            saida.write("CONFLITO quarto " + numero + "\n");
+        }
+    }
+
+    private void relatorio(String[] campos, Writer saida) throws IOException {
+        LocalDate inicio = data(campos[1]);
+        LocalDate fim = data(campos[2]);
+        saida.write("Taxa de ocupação: " + String.format("%.2f", cacheRelatorios.calcularTaxaOcupacao(inicio, fim)) + "%\n");
+        saida.write("Número de cancelamentos: " + agregados.contarCancelamentos(inicio, fim) + "\n");
+        saida.write("Top 3 quartos mais reservados:\n");
+        for (Map.Entry<Quarto, Integer> e : agregados.quartosMaisReservados(3)) {
+            saida.write(e.getKey() + " - " + e.getValue() + " reservas\n");
+        }
+        saida.write("Top 3 quartos menos reservados:\n");
+        for (Map.Entry<Quarto, Integer> e : agregados.quartosMenosReservados(3)) {
+            saida.write(e.getKey() + " - " + e.getValue() + " reservas\n");
+        }
+        if (campos.length > 3 && !campos[3].isBlank()) {
+            String alerta = cacheRelatorios.alertaCapacidade(data(campos[3]), 90.0);
+            saida.write((alerta.isEmpty() ? "Ocupação dentro do limite." : alerta) + "\n");
+        }
+    }
+
+    // ==========================
+    // CONVERSÕES
+    // ==========================
+
+    private static int inteiro(String campo) {
+        return Integer.parseInt(campo.trim());
+    }
+
+    /**
+     * Converte dd/MM/yyyy sem passar pelo DateTimeFormatter: só dígitos e barras nas posições
+     * fixas; a validade do dia e do mês fica com LocalDate.of.
+     */
+    static LocalDate data(String campo) {
+        String s = campo.trim();
+        if (s.length() != 10 || s.charAt(2) != '/' || s.charAt(5) != '/')
+            throw new IllegalArgumentException("Data inválida (use dd/MM/yyyy): " + campo);
+        try {
+            return LocalDate.of(digitos(s, 6, 10), digitos(s, 3, 5), digitos(s, 0, 2));
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Data inexistente: " + campo);
+        }
+    }
+
+    private static int digitos(String s, int de, int ate) {
+        int valor = 0;
+        for (int i = de; i < ate; i++) {
+            int d = s.charAt(i) - '0';
+            if (d < 0 || d > 9) throw new IllegalArgumentException("Data inválida (use dd/MM/yyyy): " + s);
+            valor = valor * 10 + d;
+        }
+        return valor;
+    }
+
+    private static String descrever(RuntimeException e) {
+        if (e instanceof IndexOutOfBoundsException) return "campos insuficientes";
+        return e.getMessage();
+    }
+}
@@ -1,34 +1,71 @@
 package principal;
 
+import catalogo.CatalogoQuartos;
+import eventos.GravadorJornal;
+import eventos.JornalEventos;
 import gerenciador.GerenciadorReservas;
 import historico.HistoricoReservas;
+import metricas.RegistroMetricas;
 import modelos.Cliente;
+import modelos.Cpf;
 import modelos.Quarto;
+import modelos.RegistroEntidades;
 import modelos.Reserva;
-import relatorios.RelatoriosGerenciais;
-
+import relatorios.AgregadosReservas;
+import relatorios.CacheRelatorios;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Classe principal do sistema de gerenciamento de reservas de hotel.
+ *
+ * Sem argumentos abre o menu interativo. Com {@code --lote arquivo} (ou {@code --lote -} para a
+ * entrada padrão) executa os comandos do arquivo sem prompts; veja {@link ModoLote}.
  */
 public class SistemaHotelMain {
 
     private static final Scanner scanner = new Scanner(System.in);
     private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
 
-    private static HistoricoReservas historico = new HistoricoReservas();
+    // Instâncias únicas de quartos (por número) e clientes (por CPF)
+    private static RegistroEntidades registro = new RegistroEntidades();
+
+    private static HistoricoReservas historico = new HistoricoReservas(registro);
     private static GerenciadorReservas gerenciador = new GerenciadorReservas(historico);
 
-    // Lista de quartos disponíveis no hotel
-    private static List<Quarto> todosQuartos = new ArrayList<>();
+    // Catálogo de quartos do hotel
+    private static CatalogoQuartos catalogo = new CatalogoQuartos(registro);
+
+    // Contagens por quarto e cancelamentos por dia, atualizados a cada operação
+    private static AgregadosReservas agregados = AgregadosReservas.conectar(gerenciador, historico);
+
+    // Resultados de relatórios reaproveitados até que os dados mudem
+    private static CacheRelatorios cacheRelatorios = CacheRelatorios.conectar(gerenciador, historico, catalogo, 256);
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
 
         // Inicializa alguns quartos de exemplo
         inicializarQuartos();
+        iniciarMetricas();
+        iniciarJornal();
+
+        if (args.length > 0 && args[0].equals("--lote")) {
+            executarLote(args.length > 1 ? args[1] : "-");
+            return;
+        }
 
         boolean sair = false;
         while (!sair) {
@@ -41,6 +78,7 @@ public class SistemaHotelMain {
                 case 4 -> listarReservas();
                 case 5 -> listarQuartosDisponiveis();
                 case 6 -> gerarRelatorios();
+                case 7 -> System.out.print(RegistroMetricas.global().despejoTexto());
                 case 0 -> {
                     System.out.println("Encerrando o sistema...");
                     sair = true;
@@ -58,29 +96,85 @@ public class SistemaHotelMain {
         System.out.println("4 - Listar todas as reservas");
         System.out.println("5 - Listar quartos disponíveis");
         System.out.println("6 - Relatórios gerenciais");
+        System.out.println("7 - Métricas de desempenho");
         System.out.println("0 - Sair");
     }
 
     private static void inicializarQuartos() {
-        todosQuartos.add(new Quarto(101, "Economico"));
-        todosQuartos.add(new Quarto(102, "Economico"));
-        todosQuartos.add(new Quarto(201, "Luxo"));
-        todosQuartos.add(new Quarto(202, "Luxo"));
-        todosQuartos.add(new Quarto(301, "Suite"));
+        catalogo.adicionarQuarto(101, "Economico");
+        catalogo.adicionarQuarto(102, "Economico");
+        catalogo.adicionarQuarto(201, "Luxo");
+        catalogo.adicionarQuarto(202, "Luxo");
+        catalogo.adicionarQuarto(301, "Suite");
+        agregados.registrarQuartos(catalogo.listarQuartos());
+    }
+
+    /**
+     * Registra os medidores, publica as métricas via JMX e, se a propriedade
+     * metricas.despejo.segundos for informada (ex: -Dmetricas.despejo.segundos=60),
+     * escreve as métricas periodicamente na saída de erro.
+     */
+    private static void iniciarMetricas() {
+        RegistroMetricas metricas = RegistroMetricas.global();
+        metricas.registrarMedidor("reservasAtivas", gerenciador::totalReservasAtivas);
+        metricas.registrarMedidor("reservasCanceladas", historico::totalReservasCanceladas);
+        metricas.registrarMedidor("alturaArvoreReservas", gerenciador::alturaArvore);
+        metricas.registrarMedidor("alturaArvoreHistorico", historico::alturaArvore);
+        metricas.publicarJmx();
+
+        long periodo = Long.getLong("metricas.despejo.segundos", 0);
+        if (periodo > 0) {
+            metricas.iniciarDespejoPeriodico(periodo, TimeUnit.SECONDS, System.err);
+        }
+    }
+
+    /**
+     * Se a propriedade jornal.arquivo for informada (ex: -Djornal.arquivo=eventos.log),
+     * acrescenta cada alteração nas reservas ao arquivo, como uma linha do {@link JornalEventos}.
+     */
+    private static void iniciarJornal() throws IOException {
+        String arquivo = System.getProperty("jornal.arquivo");
+        if (arquivo == null) return;
+        JornalEventos jornal = JornalEventos.conectar(gerenciador, historico, new JornalEventos(1 << 14));
+        GravadorJornal gravador = new GravadorJornal(jornal, Path.of(arquivo));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                gravador.close();
+            } catch (IOException e) {
+                System.err.println("Erro ao gravar o jornal: " + e.getMessage());
+            }
+        }, "fechar-jornal"));
+    }
+
+    private static void executarLote(String arquivo) throws IOException {
+        InputStream origem = arquivo.equals("-") ? System.in : new FileInputStream(arquivo);
+        try (BufferedReader entrada = new BufferedReader(new InputStreamReader(origem, StandardCharsets.UTF_8), 1 << 16)) {
+            Writer saida = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+            new ModoLote(gerenciador, historico, registro, catalogo, agregados, cacheRelatorios)
+                    .executar(entrada, saida, System.err);
+        }
     }
 
     private static void cadastrarReserva() {
         System.out.println("\n--- Cadastrar Nova Reserva ---");
 
         String nome = lerTexto("Nome do cliente: ");
-        String cpf = lerTexto("CPF do cliente: ");
-        Cliente cliente = new Cliente(nome, cpf);
+
+        if (nome.isEmpty()) {
+            System.out.println("Nome não pode ser vazio.");
+            return;
+        }
+
+        String cpfDigitado = lerTexto("CPF do cliente: ");
+        Cpf cpf = Cpf.tentarParse(cpfDigitado);
+
+        if (cpf == null) {
+            System.out.println("CPF inválido.");
+            return;
+        }
 
         int numeroQuarto = lerInteiro("Número do quarto: ");
-        Quarto quarto = todosQuartos.stream()
-                .filter(q -> q.getNumero() == numeroQuarto)
-                .findFirst()
-                .orElse(null);
+        Quarto quarto = catalogo.buscarQuarto(numeroQuarto);
 
         if (quarto == null) {
             System.out.println("Quarto inválido.");
@@ -90,6 +184,13 @@ public class SistemaHotelMain {
         LocalDate checkIn = lerData("Data de check-in (dd/MM/yyyy): ");
         LocalDate checkOut = lerData("Data de check-out (dd/MM/yyyy): ");
 
+        if (checkOut.isBefore(checkIn)) {
+            System.out.println("Data de check-out não pode ser antes do check-in.");
+            return;
+        }
+
+        // o cliente só entra no registro depois que quarto e datas foram validados
+        Cliente cliente = registro.internarCliente(nome, cpf);
         Reserva reserva = new Reserva(cliente, quarto, checkIn, checkOut);
 
         gerenciador.cadastrarReserva(reserva);
@@ -134,7 +235,7 @@ public class SistemaHotelMain {
         String categoria = lerTexto("Categoria desejada: ");
         LocalDate data = lerData("Data desejada (dd/MM/yyyy): ");
 
-        List<Quarto> disponiveis = gerenciador.listarQuartosDisponiveis(todosQuartos, data, categoria);
+        List<Quarto> disponiveis = gerenciador.listarQuartosDisponiveis(catalogo, data, categoria);
         if (disponiveis.isEmpty()) {
             System.out.println("Nenhum quarto disponível para esta data e categoria.");
         } else {
@@ -150,24 +251,23 @@ public class SistemaHotelMain {
         LocalDate inicio = lerData("Data início do período (dd/MM/yyyy): ");
         LocalDate fim = lerData("Data fim do período (dd/MM/yyyy): ");
 
-        double taxaOcupacao = RelatoriosGerenciais.calcularTaxaOcupacao(
-                gerenciador.listarReservas(), todosQuartos, inicio, fim);
+        double taxaOcupacao = cacheRelatorios.calcularTaxaOcupacao(inicio, fim);
         System.out.println("Taxa de ocupação: " + String.format("%.2f", taxaOcupacao) + "%");
 
-        int cancelamentos = RelatoriosGerenciais.contarCancelamentos(historico, inicio, fim);
+        int cancelamentos = agregados.contarCancelamentos(inicio, fim);
         System.out.println("Número de cancelamentos: " + cancelamentos);
 
         System.out.println("\nTop 3 quartos mais reservados:");
-        RelatoriosGerenciais.quartosMaisReservados(gerenciador.listarReservas(), 3)
+        agregados.quartosMaisReservados(3)
                 .forEach(entry -> System.out.println(entry.getKey() + " - " + entry.getValue() + " reservas"));
 
         System.out.println("\nTop 3 quartos menos reservados:");
-        RelatoriosGerenciais.quartosMenosReservados(gerenciador.listarReservas(), todosQuartos, 3)
+        agregados.quartosMenosReservados(3)
                 .forEach(entry -> System.out.println(entry.getKey() + " - " + entry.getValue() + " reservas"));
 
         // Alertas de capacidade
         LocalDate dataAlerta = lerData("Verificar alerta de ocupação em (dd/MM/yyyy): ");
-        String alerta = RelatoriosGerenciais.alertaCapacidade(gerenciador.listarReservas(), todosQuartos, dataAlerta, 90.0);
+        String alerta = cacheRelatorios.alertaCapacidade(dataAlerta, 90.0);
         if (!alerta.isEmpty()) {
             System.out.println(alerta);
         } else {
@@ -181,7 +281,7 @@ public class SistemaHotelMain {
 
     private static String lerTexto(String mensagem) {
         System.out.print(mensagem);
-        return scanner.nextLine();
+        return scanner.nextLine().trim();
     }
 
     private static int lerInteiro(String mensagem) {
@@ -0,0 +1,116 @@
+package propriedades;
+
+import catalogo.CatalogoQuartos;
+import gerenciador.GerenciadorReservas;
+import historico.HistoricoReservas;
+import modelos.RegistroEntidades;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Uma propriedade (hotel) da rede: registro, catálogo, histórico e gerenciador próprios,
+ * sem nada compartilhado com as demais.
+ *
+ * Todo acesso ao estado da propriedade acontece em uma única thread trabalhadora, que executa
+ * as operações na ordem em que foram enviadas por {@link #executar(Function)}. Assim o
+ * gerenciador, que não é seguro para uso concorrente, nunca precisa de bloqueio; propriedades
+ * diferentes processam suas operações em paralelo.
+ */
+public class Propriedade {
+
+    private final int id;
+    private final String nome;
+    private final RegistroEntidades registro;
+    private final CatalogoQuartos catalogo;
+    private final HistoricoReservas historico;
+    private final GerenciadorReservas gerenciador;
+
+    private final ExecutorService trabalhador;
+    private volatile Thread threadTrabalhadora;
+
+    Propriedade(int id, String nome) {
+        this.id = id;
+        this.nome = nome;
+        this.registro = new RegistroEntidades();
+        this.catalogo = new CatalogoQuartos(registro);
+        this.historico = new HistoricoReservas(registro);
+        this.historico.setVerboso(false);
+        this.historico.setRotuloMetricas("propriedade-" + id);
+        this.gerenciador = new GerenciadorReservas(historico);
+        this.gerenciador.setVerboso(false);
+        this.gerenciador.setRotuloMetricas("propriedade-" + id);
+        this.trabalhador = Executors.newSingleThreadExecutor(tarefa -> {
+            Thread t = new Thread(tarefa, "propriedade-" + id);
+            t.setDaemon(true);
+            threadTrabalhadora = t;
+            return t;
+        });
+    }
+
+    /**
+     * Enfileira uma operação para a thread da propriedade.
+     *
+     * @param operacao Operação sobre a propriedade
+     * @return resultado, concluído quando a operação terminar
+     */
+    public <T> CompletableFuture<T> executar(Function<Propriedade, T> operacao) {
+        return CompletableFuture.supplyAsync(() -> operacao.apply(this), trabalhador);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    // ==========================
+    // ESTADO (só na thread da propriedade)
+    // ==========================
+
+    public RegistroEntidades getRegistro() {
+        verificarThread();
+        return registro;
+    }
+
+    public CatalogoQuartos getCatalogo() {
+        verificarThread();
+        return catalogo;
+    }
+
+    public HistoricoReservas getHistorico() {
+        verificarThread();
+        return historico;
+    }
+
+    public GerenciadorReservas getGerenciador() {
+        verificarThread();
+        return gerenciador;
+    }
+
+    // ==========================
+    // ENCERRAMENTO
+    // ==========================
+
+    /**
+     * Deixa de aceitar operações; as já enfileiradas ainda são executadas.
+     */
+    void encerrar() {
+        trabalhador.shutdown();
+    }
+
+    boolean aguardarEncerramento(long tempo, TimeUnit unidade) throws InterruptedException {
+        return trabalhador.awaitTermination(tempo, unidade);
+    }
+
+    private void verificarThread() {
+        if (Thread.currentThread() != threadTrabalhadora)
+            throw new IllegalStateException("O estado da propriedade " + id
+                    + " só pode ser acessado dentro de executar().");
+    }
+}
@@ -0,0 +1,307 @@
+package propriedades;
+
+import modelos.Cliente;
+import modelos.Cpf;
+import modelos.Quarto;
+import modelos.Reserva;
+import relatorios.RelatoriosGerenciais;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Distribui as operações de uma rede de hotéis entre as propriedades, pelo id da propriedade.
+ *
+ * Operações de uma propriedade são enviadas apenas à thread dela. Relatórios da rede são feitos
+ * em dispersão e coleta: cada propriedade calcula seu resultado parcial em paralelo e os parciais
+ * são combinados quando todos terminam. Todos os métodos devolvem {@link CompletableFuture}.
+ */
+public class RoteadorPropriedades {
+
+    /**
+     * Entrada do ranking de quartos da rede (números de quarto se repetem entre propriedades).
+     */
+    public static class QuartoDaPropriedade {
+        private final int idPropriedade;
+        private final Quarto quarto;
+        private final int reservas;
+
+        QuartoDaPropriedade(int idPropriedade, Quarto quarto, int reservas) {
+            this.idPropriedade = idPropriedade;
+            this.quarto = quarto;
+            this.reservas = reservas;
+        }
+
+        public int getIdPropriedade() {
+            return idPropriedade;
+        }
+
+        public Quarto getQuarto() {
+            return quarto;
+        }
+
+        public int getReservas() {
+            return reservas;
+        }
+
+        @Override
+        public String toString() {
+            return "Propriedade " + idPropriedade + " - " + quarto + " - " + reservas + " reservas";
+        }
+    }
+
+    private static final Comparator<QuartoDaPropriedade> ORDEM_MAIS_RESERVADOS =
+            Comparator.comparingInt(QuartoDaPropriedade::getReservas).reversed()
+                    .thenComparingInt(QuartoDaPropriedade::getIdPropriedade)
+                    .thenComparingInt(q -> q.getQuarto().getNumero());
+
+    // ordenadas por id, para que os resultados da dispersão saiam sempre na mesma ordem
+    private final Map<Integer, Propriedade> propriedades;
+
+    public RoteadorPropriedades() {
+        this.propriedades = new ConcurrentSkipListMap<>();
+    }
+
+    // ==========================
+    // PROPRIEDADES
+    // ==========================
+
+    /**
+     * Cria uma propriedade com sua própria thread trabalhadora.
+     *
+     * @param id   Identificador da propriedade
+     * @param nome Nome do hotel
+     * @return propriedade criada
+     */
+    public Propriedade adicionarPropriedade(int id, String nome) {
+        Propriedade nova = new Propriedade(id, nome);
+        if (propriedades.putIfAbsent(id, nova) != null) {
+            nova.encerrar();
+            throw new IllegalArgumentException("Propriedade já cadastrada: " + id);
+        }
+        return nova;
+    }
+
+    public Propriedade getPropriedade(int id) {
+        Propriedade p = propriedades.get(id);
+        if (p == null) throw new IllegalArgumentException("Propriedade não encontrada: " + id);
+        return p;
+    }
+
+    public List<Integer> idsPropriedades() {
+        return new ArrayList<>(propriedades.keySet());
+    }
+
+    /**
+     * Envia uma operação para a thread da propriedade.
+     *
+     * @param idPropriedade Propriedade de destino
+     * @param operacao      Operação sobre a propriedade
+     * @return resultado da operação
+     */
+    public <T> CompletableFuture<T> executar(int idPropriedade, Function<Propriedade, T> operacao) {
+        return getPropriedade(idPropriedade).executar(operacao);
+    }
+
+    /**
+     * Executa a mesma operação em todas as propriedades, em paralelo.
+     *
+     * @param operacao Operação sobre cada propriedade
+     * @return resultados na ordem dos ids das propriedades
+     */
+    public <T> CompletableFuture<List<T>> emTodas(Function<Propriedade, T> operacao) {
+        List<CompletableFuture<T>> parciais = new ArrayList<>();
+        for (Propriedade p : propriedades.values()) {
+            parciais.add(p.executar(operacao));
+        }
+        return CompletableFuture.allOf(parciais.toArray(new CompletableFuture<?>[0]))
+                .thenApply(v -> {
+                    List<T> resultados = new ArrayList<>(parciais.size());
+                    for (CompletableFuture<T> f : parciais) resultados.add(f.join());
+                    return resultados;
+                });
+    }
+
+    // ==========================
+    // OPERAÇÕES DE UMA PROPRIEDADE
+    // ==========================
+
+    public CompletableFuture<Quarto> adicionarQuarto(int idPropriedade, int numero, String categoria) {
+        return executar(idPropriedade, p -> p.getCatalogo().adicionarQuarto(numero, categoria));
+    }
+
+    /**
+     * Cadastra uma reserva na propriedade. O quarto deve existir no catálogo dela.
+     *
+     * @return true se cadastrada, false se houver conflito
+     */
+    public CompletableFuture<Boolean> cadastrarReserva(int idPropriedade, String nomeCliente, Cpf cpf,
+                                                       int numeroQuarto, LocalDate checkIn, LocalDate checkOut) {
+        return executar(idPropriedade, p -> {
+            Quarto quarto = p.getCatalogo().buscarQuarto(numeroQuarto);
+            if (quarto == null)
+                throw new IllegalArgumentException("Quarto " + numeroQuarto + " não existe na propriedade " + p.getId());
+            if (checkIn == null || checkOut == null)
+                throw new IllegalArgumentException("Datas não podem ser nulas.");
+            if (checkOut.isBefore(checkIn))
+                throw new IllegalArgumentException("Data de check-out não pode ser antes do check-in.");
+            // o cliente só entra no registro depois que quarto e datas foram validados
+            Cliente cliente = p.getRegistro().internarCliente(nomeCliente, cpf);
+            return p.getGerenciador().cadastrarReserva(new Reserva(cliente, quarto, checkIn, checkOut));
+        });
+    }
+
+    /**
+     * Cancela a próxima reserva (menor check-in) do cliente na propriedade.
+     *
+     * @return true se havia reserva para cancelar
+     */
+    public CompletableFuture<Boolean> cancelarReserva(int idPropriedade, Cpf cpf) {
+        return executar(idPropriedade, p -> {
+            Reserva r = p.getGerenciador().consultarReservaPorCliente(cpf);
+            return r != null && p.getGerenciador().cancelarReserva(r);
+        });
+    }
+
+    /**
+     * Troca o quarto e as datas da próxima reserva (menor check-in) do cliente na propriedade.
+     *
+     * @return reserva modificada, ou null se o cliente não tem reserva ou o novo período tem conflito
+     */
+    public CompletableFuture<Reserva> modificarReserva(int idPropriedade, Cpf cpf, int numeroQuarto,
+                                                      LocalDate checkIn, LocalDate checkOut) {
+        return executar(idPropriedade, p -> {
+            Quarto quarto = p.getCatalogo().buscarQuarto(numeroQuarto);
+            if (quarto == null)
+                throw new IllegalArgumentException("Quarto " + numeroQuarto + " não existe na propriedade " + p.getId());
+            Reserva r = p.getGerenciador().consultarReservaPorCliente(cpf);
+            return r == null ? null : p.getGerenciador().modificarReserva(r, quarto, checkIn, checkOut);
+        });
+    }
+
+    public CompletableFuture<Reserva> consultarReservaPorCliente(int idPropriedade, Cpf cpf) {
+        return executar(idPropriedade, p -> p.getGerenciador().consultarReservaPorCliente(cpf));
+    }
+
+    public CompletableFuture<List<Quarto>> listarQuartosDisponiveis(int idPropriedade, LocalDate data,
+                                                                    String categoria) {
+        return executar(idPropriedade, p -> p.getGerenciador().listarQuartosDisponiveis(p.getCatalogo(), data, categoria));
+    }
+
+    // ==========================
+    // RELATÓRIOS DA REDE
+    // ==========================
+
+    /**
+     * Reservas de um cliente em todas as propriedades, em ordem de id da propriedade.
+     */
+    public CompletableFuture<Map<Integer, Reserva>> consultarReservaNaRede(Cpf cpf) {
+        return emTodas(p -> {
+            Reserva r = p.getGerenciador().consultarReservaPorCliente(cpf);
+            return r == null ? null : Map.entry(p.getId(), r);
+        }).thenApply(parciais -> {
+            Map<Integer, Reserva> resultado = new LinkedHashMap<>();
+            for (Map.Entry<Integer, Reserva> e : parciais) {
+                if (e != null) resultado.put(e.getKey(), e.getValue());
+            }
+            return resultado;
+        });
+    }
+
+    /**
+     * Taxa de ocupação da rede: quartos ocupados no período em todas as propriedades
+     * sobre o total de quartos da rede.
+     */
+    public CompletableFuture<Double> calcularTaxaOcupacao(LocalDate dataInicio, LocalDate dataFim) {
+        return emTodas(p -> new long[]{
+                RelatoriosGerenciais.contarQuartosOcupados(p.getGerenciador().listarReservas(), p.getCatalogo(),
+                        dataInicio, dataFim),
+                p.getCatalogo().totalQuartos()})
+                .thenApply(parciais -> {
+                    long ocupados = 0, total = 0;
+                    for (long[] parcial : parciais) {
+                        ocupados += parcial[0];
+                        total += parcial[1];
+                    }
+                    return total == 0 ? 0.0 : ((double) ocupados / total) * 100;
+                });
+    }
+
+    /**
+     * Taxa de ocupação de cada propriedade no período, por id.
+     */
+    public CompletableFuture<Map<Integer, Double>> ocupacaoPorPropriedade(LocalDate dataInicio, LocalDate dataFim) {
+        return emTodas(p -> Map.entry(p.getId(), RelatoriosGerenciais.calcularTaxaOcupacao(
+                p.getGerenciador().listarReservas(), p.getCatalogo(), dataInicio, dataFim)))
+                .thenApply(RoteadorPropriedades::paraMapa);
+    }
+
+    /**
+     * Cancelamentos com check-in no período, somados em todas as propriedades.
+     */
+    public CompletableFuture<Integer> contarCancelamentos(LocalDate dataInicio, LocalDate dataFim) {
+        return emTodas(p -> RelatoriosGerenciais.contarCancelamentos(p.getHistorico(), dataInicio, dataFim))
+                .thenApply(parciais -> parciais.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    /**
+     * Quartos mais reservados da rede. Cada propriedade envia apenas o próprio top N,
+     * que sempre contém a sua parte do top N da rede.
+     */
+    public CompletableFuture<List<QuartoDaPropriedade>> quartosMaisReservados(int topN) {
+        return emTodas(p -> {
+            List<QuartoDaPropriedade> parcial = new ArrayList<>();
+            for (Map.Entry<Quarto, Integer> e : RelatoriosGerenciais.quartosMaisReservados(
+                    p.getGerenciador().listarReservas(), topN)) {
+                parcial.add(new QuartoDaPropriedade(p.getId(), e.getKey(), e.getValue()));
+            }
+            return parcial;
+        }).thenApply(parciais -> parciais.stream()
+                .flatMap(List::stream)
+                .sorted(ORDEM_MAIS_RESERVADOS)
+                .limit(topN)
+                .toList());
+    }
+
+    public CompletableFuture<Integer> totalReservasAtivas() {
+        return emTodas(p -> p.getGerenciador().totalReservasAtivas())
+                .thenApply(parciais -> parciais.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    // ==========================
+    // ENCERRAMENTO
+    // ==========================
+
+    /**
+     * Encerra as threads de todas as propriedades depois de concluir as operações já enviadas.
+     *
+     * @return true se todas terminaram dentro do prazo
+     */
+    public boolean encerrar(long tempo, TimeUnit unidade) throws InterruptedException {
+        for (Propriedade p : propriedades.values()) p.encerrar();
+        long limite = System.nanoTime() + unidade.toNanos(tempo);
+        boolean todas = true;
+        for (Propriedade p : propriedades.values()) {
+            todas &= p.aguardarEncerramento(Math.max(0, limite - System.nanoTime()), TimeUnit.NANOSECONDS);
+        }
+        return todas;
+    }
+
+    // ==========================
+    // MÉTODOS AUXILIARES
+    // ==========================
+
+    private static <V> Map<Integer, V> paraMapa(List<Map.Entry<Integer, V>> entradas) {
+        Map<Integer, V> mapa = new LinkedHashMap<>();
+        for (Map.Entry<Integer, V> e : entradas) mapa.put(e.getKey(), e.getValue());
+        return mapa;
+    }
+}
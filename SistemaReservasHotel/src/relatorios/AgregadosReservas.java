@@ -0,0 +1,227 @@
+package relatorios;
+
+import eventos.OuvinteReservas;
+import gerenciador.GerenciadorReservas;
+import historico.HistoricoReservas;
+import modelos.Quarto;
+import modelos.Reserva;
+
+import java.time.LocalDate;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Agregados de relatórios mantidos incrementalmente a cada cadastro e cancelamento.
+ *
+ * - Contagem de reservas ativas por quarto, em um conjunto ordenado por (contagem, número):
+ *   cada atualização custa O(log quartos) e o top-N sai em O(N + log quartos).
+ * - Cancelamentos por dia de check-in em um {@link ContadorDiario}: contagem por período em O(log dias).
+ *
+ * Use {@link #conectar(GerenciadorReservas, HistoricoReservas)} para carregar o estado atual
+ * e passar a receber as alterações.
+ */
+public class AgregadosReservas implements OuvinteReservas {
+
+    /**
+     * Contador de um quarto. É removido e reinserido no conjunto ordenado a cada alteração.
+     */
+    private static class Contagem {
+        final Quarto quarto;
+        int reservas;
+        boolean removido;   // fora do catálogo, mas ainda com reservas ativas
+
+        Contagem(Quarto quarto) {
+            this.quarto = quarto;
+        }
+    }
+
+    // Ordem crescente de contagem; empates pelo número do quarto em ordem decrescente,
+    // para que a iteração reversa (mais reservados) desempate pelo menor número.
+    private static final Comparator<Contagem> ORDEM = Comparator
+            .<Contagem>comparingInt(c -> c.reservas)
+            .thenComparing(c -> c.quarto.getNumero(), Comparator.reverseOrder());
+
+    private final Map<Quarto, Contagem> contagens;
+    private final TreeSet<Contagem> ordenadas;
+    private final ContadorDiario cancelamentos;
+
+    public AgregadosReservas() {
+        this.contagens = new HashMap<>();
+        this.ordenadas = new TreeSet<>(ORDEM);
+        this.cancelamentos = new ContadorDiario();
+    }
+
+    /**
+     * Cria os agregados a partir do estado atual e os registra como ouvinte
+     * do gerenciador e do histórico.
+     *
+     * @param gerenciador Gerenciador de reservas ativas
+     * @param historico   Histórico de cancelamentos
+     * @return agregados conectados
+     */
+    public static AgregadosReservas conectar(GerenciadorReservas gerenciador, HistoricoReservas historico) {
+        AgregadosReservas agregados = new AgregadosReservas();
+        for (Reserva r : gerenciador.listarReservas()) {
+            agregados.reservaCadastrada(r);
+        }
+        for (Reserva r : historico.listarReservasCanceladas()) {
+            agregados.reservaArquivada(r);
+        }
+        gerenciador.adicionarOuvinte(agregados);
+        historico.adicionarOuvinte(agregados);
+        return agregados;
+    }
+
+    // ==========================
+    // QUARTOS
+    // ==========================
+
+    /**
+     * Registra um quarto para que apareça nos relatórios mesmo sem reservas.
+     *
+     * @param quarto Quarto do hotel
+     */
+    public void registrarQuarto(Quarto quarto) {
+        obterContagem(quarto).removido = false;
+    }
+
+    public void registrarQuartos(Collection<Quarto> quartos) {
+        for (Quarto q : quartos) {
+            registrarQuarto(q);
+        }
+    }
+
+    /**
+     * Remove um quarto dos relatórios (ex: quarto retirado do catálogo). Se o quarto ainda tem
+     * reservas ativas, continua contado até a última ser cancelada ou trocada de quarto, como
+     * nos relatórios de {@link RelatoriosGerenciais} sobre o catálogo.
+     *
+     * @param quarto Quarto a remover
+     */
+    public void removerQuarto(Quarto quarto) {
+        Contagem c = contagens.get(quarto);
+        if (c == null) return;
+        c.removido = true;
+        descartarSeRemovido(c);
+    }
+
+    // ==========================
+    // EVENTOS
+    // ==========================
+
+    @Override
+    public void reservaCadastrada(Reserva reserva) {
+        alterarContagem(reserva.getQuarto(), 1);
+    }
+
+    @Override
+    public void reservaCancelada(Reserva reserva) {
+        alterarContagem(reserva.getQuarto(), -1);
+    }
+
+    // Trocar só as datas não muda a contagem do quarto
+    @Override
+    public void reservaModificada(Reserva antiga, Reserva nova) {
+        if (antiga.getQuarto().equals(nova.getQuarto())) return;
+        alterarContagem(antiga.getQuarto(), -1);
+        alterarContagem(nova.getQuarto(), 1);
+    }
+
+    @Override
+    public void reservaArquivada(Reserva reserva) {
+        cancelamentos.incrementar(reserva.getDataCheckIn());
+    }
+
+    // ==========================
+    // CONSULTAS
+    // ==========================
+
+    /**
+     * Lista os quartos mais reservados (apenas quartos com reservas ativas).
+     *
+     * @param topN Número de quartos a exibir
+     * @return Lista de quartos ordenados do mais reservado para menos
+     */
+    public List<Map.Entry<Quarto, Integer>> quartosMaisReservados(int topN) {
+        List<Map.Entry<Quarto, Integer>> resultado = new ArrayList<>(Math.min(topN, contagens.size()));
+        Iterator<Contagem> it = ordenadas.descendingIterator();
+        while (it.hasNext() && resultado.size() < topN) {
+            Contagem c = it.next();
+            if (c.reservas == 0) break;
+            resultado.add(new AbstractMap.SimpleImmutableEntry<>(c.quarto, c.reservas));
+        }
+        return resultado;
+    }
+
+    /**
+     * Lista os quartos menos reservados, incluindo quartos registrados sem reservas.
+     *
+     * @param topN Número de quartos a exibir
+     * @return Lista de quartos ordenados do menos reservado para mais
+     */
+    public List<Map.Entry<Quarto, Integer>> quartosMenosReservados(int topN) {
+        List<Map.Entry<Quarto, Integer>> resultado = new ArrayList<>(Math.min(topN, contagens.size()));
+        Iterator<Contagem> it = ordenadas.iterator();
+        while (it.hasNext() && resultado.size() < topN) {
+            Contagem c = it.next();
+            resultado.add(new AbstractMap.SimpleImmutableEntry<>(c.quarto, c.reservas));
+        }
+        return resultado;
+    }
+
+    /**
+     * @param quarto Quarto consultado
+     * @return número de reservas ativas do quarto
+     */
+    public int reservasDoQuarto(Quarto quarto) {
+        Contagem c = contagens.get(quarto);
+        return c != null ? c.reservas : 0;
+    }
+
+    /**
+     * Conta os cancelamentos com check-in no período (inclusive).
+     *
+     * @param dataInicio Data de início
+     * @param dataFim    Data de fim
+     * @return número de cancelamentos
+     */
+    public int contarCancelamentos(LocalDate dataInicio, LocalDate dataFim) {
+        return (int) cancelamentos.soma(dataInicio, dataFim);
+    }
+
+    // ==========================
+    // MÉTODOS AUXILIARES
+    // ==========================
+
+    private Contagem obterContagem(Quarto quarto) {
+        Contagem c = contagens.get(quarto);
+        if (c == null) {
+            c = new Contagem(quarto);
+            contagens.put(quarto, c);
+            ordenadas.add(c);
+        }
+        return c;
+    }
+
+    private void alterarContagem(Quarto quarto, int delta) {
+        Contagem c = obterContagem(quarto);
+        ordenadas.remove(c);
+        c.reservas += delta;
+        ordenadas.add(c);
+        descartarSeRemovido(c);
+    }
+
+    private void descartarSeRemovido(Contagem c) {
+        if (c.removido && c.reservas == 0) {
+            contagens.remove(c.quarto);
+            ordenadas.remove(c);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package relatorios;
+
+import catalogo.CatalogoQuartos;
+import eventos.OuvinteReservas;
+import gerenciador.GerenciadorReservas;
+import historico.HistoricoReservas;
+import modelos.Quarto;
+import modelos.Reserva;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Cache de resultados dos {@link RelatoriosGerenciais}, chaveado pelo tipo do relatório e seus parâmetros.
+ *
+ * Cada resultado guarda a versão dos dados (gerenciador + histórico) em que foi calculado.
+ * Relatórios sobre um período continuam válidos enquanto nenhuma alteração posterior tocar
+ * as datas do período; os demais são invalidados por qualquer alteração. Alterações no catálogo
+ * de quartos invalidam tudo. O tamanho é limitado e a entrada usada há mais tempo é descartada (LRU).
+ */
+public class CacheRelatorios implements OuvinteReservas {
+
+    private static final int MAX_ALTERACOES_REGISTRADAS = 4096;
+
+    /**
+     * Resultado armazenado e o contexto em que foi calculado.
+     */
+    private static class Entrada {
+        final Object valor;
+        final long versao;
+        final long versaoCatalogo;
+        final boolean porPeriodo;
+        final long inicio, fim; // epoch day, válidos se porPeriodo
+
+        Entrada(Object valor, long versao, long versaoCatalogo, boolean porPeriodo, long inicio, long fim) {
+            this.valor = valor;
+            this.versao = versao;
+            this.versaoCatalogo = versaoCatalogo;
+            this.porPeriodo = porPeriodo;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+    }
+
+    private final GerenciadorReservas gerenciador;
+    private final HistoricoReservas historico;
+    private final CatalogoQuartos catalogo;
+    private final LinkedHashMap<List<Object>, Entrada> entradas;
+
+    // Alterações recentes: {versão após a alteração, check-in, check-out} em epoch day
+    private final ArrayDeque<long[]> alteracoes;
+    private long versaoDescartada; // alterações até esta versão já saíram do registro
+
+    private long acertos, falhas, invalidacoes, descartes;
+
+    private CacheRelatorios(GerenciadorReservas gerenciador, HistoricoReservas historico,
+                            CatalogoQuartos catalogo, int capacidade) {
+        if (capacidade <= 0) throw new IllegalArgumentException("Capacidade deve ser maior que zero.");
+        this.gerenciador = gerenciador;
+        this.historico = historico;
+        this.catalogo = catalogo;
+        this.entradas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, Entrada> maisAntiga) {
+                if (size() > capacidade) {
+                    descartes++;
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.alteracoes = new ArrayDeque<>();
+        this.versaoDescartada = versaoAtual();
+    }
+
+    /**
+     * Cria o cache e o registra como ouvinte do gerenciador e do histórico.
+     *
+     * @param gerenciador Gerenciador de reservas ativas
+     * @param historico   Histórico de cancelamentos
+     * @param catalogo    Catálogo de quartos
+     * @param capacidade  Número máximo de resultados mantidos
+     * @return cache conectado
+     */
+    public static CacheRelatorios conectar(GerenciadorReservas gerenciador, HistoricoReservas historico,
+                                           CatalogoQuartos catalogo, int capacidade) {
+        CacheRelatorios cache = new CacheRelatorios(gerenciador, historico, catalogo, capacidade);
+        gerenciador.adicionarOuvinte(cache);
+        historico.adicionarOuvinte(cache);
+        return cache;
+    }
+
+    // ==========================
+    // RELATÓRIOS
+    // ==========================
+
+    public double calcularTaxaOcupacao(LocalDate dataInicio, LocalDate dataFim) {
+        return obterPorPeriodo(Arrays.asList("ocupacao", dataInicio, dataFim), dataInicio, dataFim,
+                () -> RelatoriosGerenciais.calcularTaxaOcupacao(gerenciador.listarReservas(), catalogo,
+                        dataInicio, dataFim));
+    }
+
+    public Map<LocalDate, Double> ocupacaoDiaria(LocalDate dataInicio, LocalDate dataFim) {
+        return obterPorPeriodo(Arrays.asList("ocupacaoDiaria", dataInicio, dataFim), dataInicio, dataFim,
+                () -> Collections.unmodifiableMap(RelatoriosGerenciais.ocupacaoDiaria(
+                        gerenciador.listarReservas(), catalogo, dataInicio, dataFim)));
+    }
+
+    public Map<String, Double> ocupacaoPorCategoria(LocalDate dataInicio, LocalDate dataFim) {
+        return obterPorPeriodo(Arrays.asList("ocupacaoCategoria", dataInicio, dataFim), dataInicio, dataFim,
+                () -> Collections.unmodifiableMap(RelatoriosGerenciais.ocupacaoPorCategoria(
+                        gerenciador.listarReservas(), catalogo, dataInicio, dataFim)));
+    }
+
+    public int contarCancelamentos(LocalDate dataInicio, LocalDate dataFim) {
+        return obterPorPeriodo(Arrays.asList("cancelamentos", dataInicio, dataFim), dataInicio, dataFim,
+                () -> RelatoriosGerenciais.contarCancelamentos(historico, dataInicio, dataFim));
+    }
+
+    public String alertaCapacidade(LocalDate data, double limitePercentual) {
+        return obterPorPeriodo(Arrays.asList("alerta", data, limitePercentual), data, data,
+                () -> RelatoriosGerenciais.alertaCapacidade(gerenciador.listarReservas(), catalogo,
+                        data, limitePercentual));
+    }
+
+    public List<Map.Entry<Quarto, Integer>> quartosMaisReservados(int topN) {
+        return obterGlobal(Arrays.asList("maisReservados", topN),
+                () -> List.copyOf(RelatoriosGerenciais.quartosMaisReservados(gerenciador.listarReservas(), topN)));
+    }
+
+    public List<Map.Entry<Quarto, Integer>> quartosMenosReservados(int topN) {
+        return obterGlobal(Arrays.asList("menosReservados", topN),
+                () -> List.copyOf(RelatoriosGerenciais.quartosMenosReservados(gerenciador.listarReservas(),
+                        catalogo, topN)));
+    }
+
+    // ==========================
+    // EVENTOS
+    // ==========================
+
+    @Override
+    public synchronized void reservaCadastrada(Reserva reserva) {
+        registrarAlteracao(reserva);
+    }
+
+    @Override
+    public synchronized void reservaCancelada(Reserva reserva) {
+        registrarAlteracao(reserva);
+    }
+
+    // Uma única alteração de versão: registra os dois períodos (um só, se as datas não mudaram)
+    @Override
+    public synchronized void reservaModificada(Reserva antiga, Reserva nova) {
+        registrarAlteracao(antiga);
+        if (!antiga.getDataCheckIn().equals(nova.getDataCheckIn())
+                || !antiga.getDataCheckOut().equals(nova.getDataCheckOut())) {
+            registrarAlteracao(nova);
+        }
+    }
+
+    @Override
+    public synchronized void reservaArquivada(Reserva reserva) {
+        registrarAlteracao(reserva);
+    }
+
+    // ==========================
+    // ESTATÍSTICAS
+    // ==========================
+
+    public synchronized long getAcertos() {
+        return acertos;
+    }
+
+    public synchronized long getFalhas() {
+        return falhas;
+    }
+
+    public synchronized long getInvalidacoes() {
+        return invalidacoes;
+    }
+
+    public synchronized long getDescartes() {
+        return descartes;
+    }
+
+    public synchronized int tamanho() {
+        return entradas.size();
+    }
+
+    public synchronized void limpar() {
+        entradas.clear();
+    }
+
+    // ==========================
+    // MÉTODOS AUXILIARES
+    // ==========================
+
+    private long versaoAtual() {
+        return gerenciador.getVersao() + historico.getVersao();
+    }
+
+    private <T> T obterPorPeriodo(List<Object> chave, LocalDate dataInicio, LocalDate dataFim, Supplier<T> calculo) {
+        return obter(chave, true, dataInicio.toEpochDay(), dataFim.toEpochDay(), calculo);
+    }
+
+    private <T> T obterGlobal(List<Object> chave, Supplier<T> calculo) {
+        return obter(chave, false, 0, 0, calculo);
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized <T> T obter(List<Object> chave, boolean porPeriodo, long inicio, long fim,
+                                     Supplier<T> calculo) {
+        Entrada e = entradas.get(chave);
+        if (e != null) {
+            if (valida(e)) {
+                acertos++;
+                return (T) e.valor;
+            }
+            invalidacoes++;
+        }
+        falhas++;
+        T valor = calculo.get();
+        entradas.put(chave, new Entrada(valor, versaoAtual(), catalogo.getVersao(), porPeriodo, inicio, fim));
+        return valor;
+    }
+
+    private boolean valida(Entrada e) {
+        if (e.versaoCatalogo != catalogo.getVersao()) return false;
+        if (e.versao == versaoAtual()) return true;
+        if (!e.porPeriodo || e.versao < versaoDescartada) return false;
+
+        // válida se nenhuma alteração posterior ao cálculo tocou o período
+        Iterator<long[]> it = alteracoes.descendingIterator();
+        while (it.hasNext()) {
+            long[] a = it.next();
+            if (a[0] <= e.versao) break;
+            if (a[1] <= e.fim && a[2] >= e.inicio) return false;
+        }
+        return true;
+    }
+
+    // Chamado pelos ouvintes, que já detêm o monitor do cache
+    private void registrarAlteracao(Reserva reserva) {
+        alteracoes.addLast(new long[]{versaoAtual(),
+                reserva.getDataCheckIn().toEpochDay(), reserva.getDataCheckOut().toEpochDay()});
+        if (alteracoes.size() > MAX_ALTERACOES_REGISTRADAS) {
+            versaoDescartada = alteracoes.removeFirst()[0];
+        }
+    }
+}
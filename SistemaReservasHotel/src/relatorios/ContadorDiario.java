@@ -0,0 +1,131 @@
+package relatorios;
+
+import java.time.LocalDate;
+
+/**
+ * Contador de eventos por dia com somas por período em O(log dias).
+ * Usa uma árvore de Fenwick (Binary Indexed Tree) sobre os dias desde a época.
+ * O intervalo de dias coberto cresce automaticamente conforme novos dias aparecem.
+ */
+public class ContadorDiario {
+
+    private int diaBase;       // epoch day da posição 0
+    private int[] valores;     // contagem de cada dia
+    private long[] arvore;     // árvore de Fenwick (índices a partir de 1)
+    private boolean vazio;
+
+    public ContadorDiario() {
+        this.valores = new int[0];
+        this.arvore = new long[1];
+        this.vazio = true;
+    }
+
+    // ==========================
+    // ATUALIZAÇÃO
+    // ==========================
+
+    public void incrementar(LocalDate data) {
+        adicionar(data, 1);
+    }
+
+    public void decrementar(LocalDate data) {
+        adicionar(data, -1);
+    }
+
+    /**
+     * Soma um valor à contagem de um dia.
+     *
+     * @param data  Dia do evento
+     * @param delta Valor a somar (pode ser negativo)
+     */
+    public void adicionar(LocalDate data, int delta) {
+        int dia = (int) data.toEpochDay();
+        garantirDia(dia);
+        int i = dia - diaBase;
+        valores[i] += delta;
+        for (int k = i + 1; k < arvore.length; k += k & -k) {
+            arvore[k] += delta;
+        }
+    }
+
+    // ==========================
+    // CONSULTAS
+    // ==========================
+
+    /**
+     * @param data Dia consultado
+     * @return contagem do dia
+     */
+    public int contagem(LocalDate data) {
+        long i = data.toEpochDay() - diaBase;
+        return (vazio || i < 0 || i >= valores.length) ? 0 : valores[(int) i];
+    }
+
+    /**
+     * Soma das contagens entre duas datas (inclusive).
+     *
+     * @param dataInicio Data de início
+     * @param dataFim    Data de fim
+     * @return total no período
+     */
+    public long soma(LocalDate dataInicio, LocalDate dataFim) {
+        if (vazio) return 0;
+        long de = Math.max(dataInicio.toEpochDay() - diaBase, 0);
+        long ate = Math.min(dataFim.toEpochDay() - diaBase, valores.length - 1);
+        if (de > ate) return 0;
+        return prefixo((int) ate + 1) - prefixo((int) de);
+    }
+
+    /**
+     * @return total de todos os dias
+     */
+    public long total() {
+        return vazio ? 0 : prefixo(valores.length);
+    }
+
+    // ==========================
+    // MÉTODOS AUXILIARES
+    // ==========================
+
+    // Soma das posições [0, n)
+    private long prefixo(int n) {
+        long soma = 0;
+        for (int k = n; k > 0; k -= k & -k) {
+            soma += arvore[k];
+        }
+        return soma;
+    }
+
+    // Expande o intervalo coberto (dobrando de tamanho) e reconstrói a árvore em O(dias)
+    private void garantirDia(int dia) {
+        if (vazio) {
+            diaBase = dia;
+            valores = new int[64];
+            vazio = false;
+            reconstruir();
+            return;
+        }
+        if (dia >= diaBase && dia < diaBase + valores.length) return;
+
+        int novoInicio = Math.min(diaBase, dia);
+        int novoFim = Math.max(diaBase + valores.length, dia + 1);
+        int novoTamanho = Math.max(novoFim - novoInicio, valores.length * 2);
+        // a folga vai para o lado em que o intervalo cresceu
+        if (dia < diaBase) novoInicio = novoFim - novoTamanho;
+
+        int[] novos = new int[novoTamanho];
+        System.arraycopy(valores, 0, novos, diaBase - novoInicio, valores.length);
+        diaBase = novoInicio;
+        valores = novos;
+        reconstruir();
+    }
+
+    private void reconstruir() {
+        arvore = new long[valores.length + 1];
+        for (int i = 0; i < valores.length; i++) {
+            arvore[i + 1] += valores[i];
+            int pai = (i + 1) + ((i + 1) & -(i + 1));
+            if (pai < arvore.length) arvore[pai] += arvore[i + 1];
+        }
+    }
+}
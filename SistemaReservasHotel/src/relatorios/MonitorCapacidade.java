@@ -0,0 +1,372 @@
+package relatorios;
+
+import catalogo.CatalogoQuartos;
+import eventos.OuvinteReservas;
+import gerenciador.GerenciadorReservas;
+import modelos.Reserva;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Monitor de capacidade para um horizonte de dias.
+ *
+ * A ocupação de cada dia do horizonte (total e por categoria) é calculada em uma única
+ * varredura das reservas. Depois disso o monitor acompanha o gerenciador: a cada cadastro
+ * cancelamento ou modificação apenas os dias das estadias são recalculados e os assinantes recebem um
+ * {@link AlertaCapacidade} sempre que um dia cruza o limite (para cima ou para baixo).
+ *
+ * Cada reserva é contada na categoria que o quarto tinha quando ela entrou, e o cancelamento
+ * desconta dessa mesma categoria, mesmo que o quarto tenha sido retirado depois. Quartos
+ * adicionados ou retirados do catálogo mudam a capacidade: os alertas são reavaliados na
+ * próxima operação.
+ */
+public class MonitorCapacidade implements OuvinteReservas {
+
+    /**
+     * Alerta emitido quando a ocupação de um dia cruza o limite.
+     * Categoria nula indica o hotel inteiro.
+     */
+    public static class AlertaCapacidade {
+        private final LocalDate data;
+        private final String categoria;
+        private final double ocupacao;
+        private final boolean ativo;
+
+        AlertaCapacidade(LocalDate data, String categoria, double ocupacao, boolean ativo) {
+            this.data = data;
+            this.categoria = categoria;
+            this.ocupacao = ocupacao;
+            this.ativo = ativo;
+        }
+
+        public LocalDate getData() {
+            return data;
+        }
+
+        public String getCategoria() {
+            return categoria;
+        }
+
+        public double getOcupacao() {
+            return ocupacao;
+        }
+
+        /**
+         * @return true se a ocupação passou do limite, false se voltou para baixo dele
+         */
+        public boolean isAtivo() {
+            return ativo;
+        }
+
+        @Override
+        public String toString() {
+            String alvo = categoria == null ? "" : " [" + categoria + "]";
+            if (ativo) {
+                return "ALERTA: Ocupação alta em " + data + alvo + " (" + String.format("%.2f", ocupacao) + "%)";
+            }
+            return "Ocupação normalizada em " + data + alvo + " (" + String.format("%.2f", ocupacao) + "%)";
+        }
+    }
+
+    private final CatalogoQuartos catalogo;
+    private final double limitePercentual;
+    private final long diaInicial;         // epoch day do primeiro dia do horizonte
+    private final int totalDias;
+
+    private final int[] ocupados;          // quartos ocupados por dia
+    private int[][] ocupadosPorCategoria;
+    private final boolean[] emAlerta;
+    private boolean[][] emAlertaPorCategoria;
+
+    private final Map<Reserva, Integer> categoriaContada; // reservas contadas e a categoria de cada uma
+    private long versaoCatalogo;
+
+    private final List<Consumer<AlertaCapacidade>> assinantes;
+
+    private MonitorCapacidade(CatalogoQuartos catalogo, LocalDate dataInicio, LocalDate dataFim,
+                              double limitePercentual) {
+        if (dataFim.isBefore(dataInicio))
+            throw new IllegalArgumentException("Data de fim não pode ser antes do início.");
+        this.catalogo = catalogo;
+        this.limitePercentual = limitePercentual;
+        this.diaInicial = dataInicio.toEpochDay();
+        this.totalDias = (int) (dataFim.toEpochDay() - diaInicial + 1);
+        int categorias = catalogo.totalCategorias();
+        this.ocupados = new int[totalDias + 1];
+        this.ocupadosPorCategoria = new int[categorias][totalDias + 1];
+        this.emAlerta = new boolean[totalDias];
+        this.emAlertaPorCategoria = new boolean[categorias][totalDias];
+        this.categoriaContada = new HashMap<>();
+        this.versaoCatalogo = catalogo.getVersao();
+        this.assinantes = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Cria o monitor, calcula a ocupação do horizonte em uma varredura e passa a
+     * acompanhar as alterações do gerenciador.
+     *
+     * @param gerenciador      Gerenciador de reservas ativas
+     * @param catalogo         Catálogo de quartos
+     * @param dataInicio       Primeiro dia do horizonte
+     * @param dataFim          Último dia do horizonte
+     * @param limitePercentual Limite de ocupação (ex: 90.0)
+     * @return monitor conectado
+     */
+    public static MonitorCapacidade conectar(GerenciadorReservas gerenciador, CatalogoQuartos catalogo,
+                                             LocalDate dataInicio, LocalDate dataFim, double limitePercentual) {
+        MonitorCapacidade monitor = new MonitorCapacidade(catalogo, dataInicio, dataFim, limitePercentual);
+        monitor.carregar(gerenciador.listarReservas());
+        gerenciador.adicionarOuvinte(monitor);
+        return monitor;
+    }
+
+    // ==========================
+    // ASSINATURAS E CONSULTAS
+    // ==========================
+
+    /**
+     * Registra um assinante para os alertas emitidos a partir de agora.
+     *
+     * @param assinante Função chamada a cada alerta
+     */
+    public void assinar(Consumer<AlertaCapacidade> assinante) {
+        assinantes.add(assinante);
+    }
+
+    public void cancelarAssinatura(Consumer<AlertaCapacidade> assinante) {
+        assinantes.remove(assinante);
+    }
+
+    /**
+     * Lista os alertas ativos no horizonte (hotel inteiro e por categoria), em ordem de data.
+     *
+     * @return alertas ativos
+     */
+    public List<AlertaCapacidade> alertasAtivos() {
+        List<AlertaCapacidade> novos = new ArrayList<>();
+        List<AlertaCapacidade> alertas = new ArrayList<>();
+        synchronized (this) {
+            sincronizarCatalogo(novos);
+            for (int d = 0; d < totalDias; d++) {
+                if (emAlerta[d]) alertas.add(criarAlerta(d, -1, true));
+                for (int c = 0; c < emAlertaPorCategoria.length; c++) {
+                    if (emAlertaPorCategoria[c][d]) alertas.add(criarAlerta(d, c, true));
+                }
+            }
+        }
+        notificar(novos);
+        return alertas;
+    }
+
+    /**
+     * @param data Dia do horizonte
+     * @return percentual de ocupação do hotel no dia
+     */
+    public synchronized double ocupacaoEm(LocalDate data) {
+        int d = indiceDia(data);
+        return d < 0 ? 0.0 : taxa(ocupados[d], catalogo.totalQuartos());
+    }
+
+    /**
+     * @param data      Dia do horizonte
+     * @param categoria Categoria dos quartos
+     * @return percentual de ocupação da categoria no dia
+     */
+    public synchronized double ocupacaoEm(LocalDate data, String categoria) {
+        int d = indiceDia(data);
+        int c = catalogo.idCategoria(categoria);
+        if (d < 0 || c < 0 || c >= ocupadosPorCategoria.length) return 0.0;
+        return taxa(ocupadosPorCategoria[c][d], catalogo.totalQuartos(c));
+    }
+
+    // ==========================
+    // EVENTOS
+    // ==========================
+
+    @Override
+    public void reservaCadastrada(Reserva reserva) {
+        List<AlertaCapacidade> novos = new ArrayList<>();
+        synchronized (this) {
+            sincronizarCatalogo(novos);
+            int c = contar(reserva);
+            if (c >= 0) aplicar(reserva, c, 1, novos);
+        }
+        notificar(novos);
+    }
+
+    @Override
+    public void reservaCancelada(Reserva reserva) {
+        List<AlertaCapacidade> novos = new ArrayList<>();
+        synchronized (this) {
+            sincronizarCatalogo(novos);
+            Integer c = categoriaContada.remove(reserva);
+            if (c != null) aplicar(reserva, c, -1, novos);
+        }
+        notificar(novos);
+    }
+
+    /**
+     * Aplica a saída da antiga e a entrada da nova antes de comparar com o limite: um dia
+     * comum às duas estadias não emite alerta e normalização em sequência.
+     */
+    @Override
+    public void reservaModificada(Reserva antiga, Reserva nova) {
+        List<AlertaCapacidade> novos = new ArrayList<>();
+        synchronized (this) {
+            sincronizarCatalogo(novos);
+            Integer anterior = categoriaContada.remove(antiga);
+            int atual = contar(nova);
+            if (anterior != null) ajustar(antiga, anterior, -1);
+            if (atual >= 0) ajustar(nova, atual, 1);
+            if (anterior != null) reavaliarEstadia(antiga, anterior, novos);
+            if (atual >= 0) reavaliarEstadia(nova, atual, novos);
+        }
+        notificar(novos);
+    }
+
+    // ==========================
+    // MÉTODOS AUXILIARES
+    // ==========================
+
+    // Varredura única: vetor de diferenças recortado ao horizonte e soma acumulada
+    private synchronized void carregar(List<Reserva> reservas) {
+        for (Reserva r : reservas) {
+            int c = contar(r);
+            if (c < 0) continue;
+            int de = inicioNoHorizonte(r), ate = fimNoHorizonte(r);
+            if (de > ate) continue;
+            ocupados[de]++;
+            ocupados[ate + 1]--;
+            ocupadosPorCategoria[c][de]++;
+            ocupadosPorCategoria[c][ate + 1]--;
+        }
+        for (int d = 1; d < totalDias; d++) {
+            ocupados[d] += ocupados[d - 1];
+            for (int[] serie : ocupadosPorCategoria) serie[d] += serie[d - 1];
+        }
+        // a posição extra do vetor de diferenças não é um dia do horizonte
+        ocupados[totalDias] = 0;
+        for (int[] serie : ocupadosPorCategoria) serie[totalDias] = 0;
+
+        for (int d = 0; d < totalDias; d++) {
+            emAlerta[d] = acimaDoLimite(ocupados[d], catalogo.totalQuartos());
+            for (int c = 0; c < ocupadosPorCategoria.length; c++) {
+                emAlertaPorCategoria[c][d] = acimaDoLimite(ocupadosPorCategoria[c][d], catalogo.totalQuartos(c));
+            }
+        }
+    }
+
+    // Conta a reserva se o quarto está ativo agora e a estadia toca o horizonte,
+    // guardando a categoria para o cancelamento
+    private int contar(Reserva reserva) {
+        int id = catalogo.idQuarto(reserva.getQuarto());
+        if (!catalogo.estaAtivo(id)) return -1;
+        if (reserva.getDataCheckOut().toEpochDay() < diaInicial
+                || reserva.getDataCheckIn().toEpochDay() >= diaInicial + totalDias) return -1;
+        int c = catalogo.categoriaDoQuarto(id);
+        if (c < 0) return -1;
+        categoriaContada.put(reserva, c);
+        return c;
+    }
+
+    // Recalcula apenas os dias da estadia e guarda os dias que cruzaram o limite
+    private void aplicar(Reserva reserva, int c, int delta, List<AlertaCapacidade> novos) {
+        ajustar(reserva, c, delta);
+        reavaliarEstadia(reserva, c, novos);
+    }
+
+    private void ajustar(Reserva reserva, int c, int delta) {
+        int de = inicioNoHorizonte(reserva), ate = fimNoHorizonte(reserva);
+        for (int d = de; d <= ate; d++) {
+            ocupados[d] += delta;
+            ocupadosPorCategoria[c][d] += delta;
+        }
+    }
+
+    private void reavaliarEstadia(Reserva reserva, int c, List<AlertaCapacidade> novos) {
+        int de = inicioNoHorizonte(reserva), ate = fimNoHorizonte(reserva);
+        for (int d = de; d <= ate; d++) {
+            reavaliar(d, -1, novos);
+            reavaliar(d, c, novos);
+        }
+    }
+
+    // Recorte da estadia ao horizonte; estadias fora dele resultam em início > fim
+    private int inicioNoHorizonte(Reserva reserva) {
+        return (int) Math.max(reserva.getDataCheckIn().toEpochDay() - diaInicial, 0);
+    }
+
+    private int fimNoHorizonte(Reserva reserva) {
+        return (int) Math.min(reserva.getDataCheckOut().toEpochDay() - diaInicial, totalDias - 1L);
+    }
+
+    // Quartos adicionados ou retirados mudam a capacidade: categorias novas ganham contadores
+    // e todos os dias são reavaliados contra os totais atuais
+    private void sincronizarCatalogo(List<AlertaCapacidade> novos) {
+        long versao = catalogo.getVersao();
+        if (versao == versaoCatalogo) return;
+        versaoCatalogo = versao;
+        int categorias = catalogo.totalCategorias();
+        int antes = ocupadosPorCategoria.length;
+        if (categorias > antes) {
+            ocupadosPorCategoria = Arrays.copyOf(ocupadosPorCategoria, categorias);
+            emAlertaPorCategoria = Arrays.copyOf(emAlertaPorCategoria, categorias);
+            for (int c = antes; c < categorias; c++) {
+                ocupadosPorCategoria[c] = new int[totalDias + 1];
+                emAlertaPorCategoria[c] = new boolean[totalDias];
+            }
+        }
+        for (int d = 0; d < totalDias; d++) {
+            reavaliar(d, -1, novos);
+            for (int c = 0; c < categorias; c++) reavaliar(d, c, novos);
+        }
+    }
+
+    // Compara o dia com o limite (categoria -1 é o hotel inteiro) e guarda a transição, se houver
+    private void reavaliar(int dia, int categoria, List<AlertaCapacidade> novos) {
+        boolean[] alertas = categoria < 0 ? emAlerta : emAlertaPorCategoria[categoria];
+        int ocupadosDia = categoria < 0 ? ocupados[dia] : ocupadosPorCategoria[categoria][dia];
+        int total = categoria < 0 ? catalogo.totalQuartos() : catalogo.totalQuartos(categoria);
+        boolean acima = acimaDoLimite(ocupadosDia, total);
+        if (acima != alertas[dia]) {
+            alertas[dia] = acima;
+            novos.add(criarAlerta(dia, categoria, acima));
+        }
+    }
+
+    // Notifica fora do bloqueio, para que assinantes lentos não segurem o monitor
+    private void notificar(List<AlertaCapacidade> novos) {
+        for (AlertaCapacidade alerta : novos) {
+            for (Consumer<AlertaCapacidade> assinante : assinantes) {
+                assinante.accept(alerta);
+            }
+        }
+    }
+
+    private AlertaCapacidade criarAlerta(int dia, int categoria, boolean ativo) {
+        int ocupadosDia = categoria < 0 ? ocupados[dia] : ocupadosPorCategoria[categoria][dia];
+        int total = categoria < 0 ? catalogo.totalQuartos() : catalogo.totalQuartos(categoria);
+        return new AlertaCapacidade(LocalDate.ofEpochDay(diaInicial + dia),
+                categoria < 0 ? null : catalogo.nomeCategoria(categoria), taxa(ocupadosDia, total), ativo);
+    }
+
+    private boolean acimaDoLimite(int ocupadosDia, int total) {
+        return total > 0 && taxa(ocupadosDia, total) >= limitePercentual;
+    }
+
+    private static double taxa(int ocupadosDia, int total) {
+        return total == 0 ? 0.0 : ((double) ocupadosDia / total) * 100;
+    }
+
+    private int indiceDia(LocalDate data) {
+        long d = data.toEpochDay() - diaInicial;
+        return (d < 0 || d >= totalDias) ? -1 : (int) d;
+    }
+}
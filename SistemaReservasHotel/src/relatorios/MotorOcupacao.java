@@ -0,0 +1,329 @@
+package relatorios;
+
+import catalogo.CatalogoQuartos;
+import modelos.Reserva;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Motor de ocupação construído por varredura (sweep line) sobre os dias das reservas.
+ *
+ * Na construção, cada reserva soma +1 no dia do check-in e -1 no dia seguinte ao check-out
+ * (vetor de diferenças, total e por categoria); uma soma acumulada gera a quantidade de quartos
+ * ocupados em cada dia em O(reservas + dias). As consultas por dia, por período e a série diária
+ * são respondidas sem percorrer as reservas novamente.
+ *
+ * O motor é um retrato das reservas no momento da construção: após alterações, construa outro.
+ * Apenas quartos ativos no catálogo são considerados.
+ */
+public class MotorOcupacao {
+
+    private final CatalogoQuartos catalogo;
+
+    private final int diaInicial;          // epoch day do primeiro dia coberto
+    private final int totalDias;
+    private final int[] ocupados;          // quartos ocupados por dia
+    private final int[][] ocupadosPorCategoria;
+    private final long[] acumulado;        // acumulado[d] = soma de ocupados[0..d-1]
+
+    // Intervalos de cada quarto em formato CSR: os do quarto q ficam em [inicioFaixa[q], inicioFaixa[q+1])
+    private final int[] inicioFaixa;
+    private final int[] checkIns;          // ordenados por quarto e check-in
+    private final int[] maiorCheckOut;     // maior check-out até a posição, dentro da faixa do quarto
+
+    private MotorOcupacao(CatalogoQuartos catalogo, int diaInicial, int totalDias, int[] ocupados,
+                          int[][] ocupadosPorCategoria, int[] inicioFaixa, int[] checkIns, int[] maiorCheckOut) {
+        this.catalogo = catalogo;
+        this.diaInicial = diaInicial;
+        this.totalDias = totalDias;
+        this.ocupados = ocupados;
+        this.ocupadosPorCategoria = ocupadosPorCategoria;
+        this.inicioFaixa = inicioFaixa;
+        this.checkIns = checkIns;
+        this.maiorCheckOut = maiorCheckOut;
+
+        this.acumulado = new long[totalDias + 1];
+        for (int d = 0; d < totalDias; d++) {
+            acumulado[d + 1] = acumulado[d] + ocupados[d];
+        }
+    }
+
+    // ==========================
+    // CONSTRUÇÃO
+    // ==========================
+
+    /**
+     * Constrói o motor a partir das reservas ativas.
+     *
+     * @param todasReservas Lista de reservas ativas
+     * @param catalogo      Catálogo de quartos
+     * @return motor pronto para consultas
+     */
+    public static MotorOcupacao construir(List<Reserva> todasReservas, CatalogoQuartos catalogo) {
+        int n = todasReservas.size();
+        int capacidade = catalogo.capacidadeIds();
+
+        // 1ª passada: converte para inteiros e descobre o intervalo de dias
+        int[] idQuarto = new int[n];
+        int[] entrada = new int[n];
+        int[] saida = new int[n];
+        int[] porQuarto = new int[capacidade + 1];
+        int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+        int validas = 0;
+        for (Reserva r : todasReservas) {
+            int id = catalogo.idQuarto(r.getQuarto());
+            if (!catalogo.estaAtivo(id) || catalogo.categoriaDoQuarto(id) < 0) continue;
+            int ci = (int) r.getDataCheckIn().toEpochDay();
+            int co = (int) r.getDataCheckOut().toEpochDay();
+            idQuarto[validas] = id;
+            entrada[validas] = ci;
+            saida[validas] = co;
+            porQuarto[id + 1]++;
+            min = Math.min(min, ci);
+            max = Math.max(max, co);
+            validas++;
+        }
+
+        int diaInicial = validas == 0 ? 0 : min;
+        int totalDias = validas == 0 ? 0 : max - min + 1;
+        int totalCategorias = catalogo.totalCategorias();
+
+        // 2ª passada: vetores de diferenças e agrupamento por quarto
+        int[] ocupados = new int[totalDias + 1];
+        int[][] porCategoria = new int[totalCategorias][totalDias + 1];
+        for (int q = 0; q < capacidade; q++) {
+            porQuarto[q + 1] += porQuarto[q];
+        }
+        int[] inicioFaixa = Arrays.copyOf(porQuarto, capacidade + 1);
+        int[] proximo = Arrays.copyOf(porQuarto, capacidade);
+        int[] checkIns = new int[validas];
+        int[] checkOuts = new int[validas];
+
+        for (int i = 0; i < validas; i++) {
+            int ini = entrada[i] - diaInicial;
+            int fim = saida[i] - diaInicial + 1;
+            int cat = catalogo.categoriaDoQuarto(idQuarto[i]);
+            ocupados[ini]++;
+            ocupados[fim]--;
+            porCategoria[cat][ini]++;
+            porCategoria[cat][fim]--;
+
+            int pos = proximo[idQuarto[i]]++;
+            checkIns[pos] = entrada[i];
+            checkOuts[pos] = saida[i];
+        }
+
+        // soma acumulada -> ocupação de cada dia
+        for (int d = 1; d < totalDias; d++) {
+            ocupados[d] += ocupados[d - 1];
+            for (int c = 0; c < totalCategorias; c++) {
+                porCategoria[c][d] += porCategoria[c][d - 1];
+            }
+        }
+
+        // ordena os intervalos de cada quarto por check-in e calcula o maior check-out acumulado
+        int[] maiorCheckOut = new int[validas];
+        for (int q = 0; q < capacidade; q++) {
+            int de = inicioFaixa[q], ate = inicioFaixa[q + 1];
+            if (ate - de > 1) ordenarPorCheckIn(checkIns, checkOuts, de, ate);
+            int maior = Integer.MIN_VALUE;
+            for (int i = de; i < ate; i++) {
+                maior = Math.max(maior, checkOuts[i]);
+                maiorCheckOut[i] = maior;
+            }
+        }
+
+        return new MotorOcupacao(catalogo, diaInicial, totalDias, ocupados, porCategoria,
+                inicioFaixa, checkIns, maiorCheckOut);
+    }
+
+    // ==========================
+    // CONSULTAS POR DIA
+    // ==========================
+
+    /**
+     * @param data Data consultada
+     * @return quantidade de quartos ocupados na data
+     */
+    public int quartosOcupadosEm(LocalDate data) {
+        int d = indiceDia(data);
+        return d < 0 ? 0 : ocupados[d];
+    }
+
+    /**
+     * @param data      Data consultada
+     * @param categoria Categoria dos quartos
+     * @return quantidade de quartos da categoria ocupados na data
+     */
+    public int quartosOcupadosEm(LocalDate data, String categoria) {
+        int cat = catalogo.idCategoria(categoria);
+        int d = indiceDia(data);
+        if (cat < 0 || d < 0 || cat >= ocupadosPorCategoria.length) return 0;
+        return ocupadosPorCategoria[cat][d];
+    }
+
+    /**
+     * @param data Data consultada
+     * @return percentual de quartos ocupados na data
+     */
+    public double taxaOcupacaoEm(LocalDate data) {
+        if (catalogo.totalQuartos() == 0) return 0.0;
+        return ((double) quartosOcupadosEm(data) / catalogo.totalQuartos()) * 100;
+    }
+
+    /**
+     * @param data      Data consultada
+     * @param categoria Categoria dos quartos
+     * @return percentual de quartos da categoria ocupados na data
+     */
+    public double taxaOcupacaoEm(LocalDate data, String categoria) {
+        int cat = catalogo.idCategoria(categoria);
+        if (cat < 0 || catalogo.totalQuartos(cat) == 0) return 0.0;
+        return ((double) quartosOcupadosEm(data, categoria) / catalogo.totalQuartos(cat)) * 100;
+    }
+
+    // ==========================
+    // CONSULTAS POR PERÍODO
+    // ==========================
+
+    /**
+     * Percentual de quartos ocupados em algum momento do período,
+     * mesma definição de {@link RelatoriosGerenciais#calcularTaxaOcupacao}.
+     * Cada quarto é resolvido com uma busca binária: O(quartos · log reservas do quarto).
+     *
+     * @param dataInicio Data de início do período
+     * @param dataFim    Data de fim do período
+     * @return percentual de ocupação
+     */
+    public double calcularTaxaOcupacao(LocalDate dataInicio, LocalDate dataFim) {
+        if (catalogo.totalQuartos() == 0) return 0.0;
+        int ocupadosPeriodo = contarQuartosOcupados(catalogo.idsQuartosAtivos(), dataInicio, dataFim);
+        return ((double) ocupadosPeriodo / catalogo.totalQuartos()) * 100;
+    }
+
+    /**
+     * Igual a {@link #calcularTaxaOcupacao(LocalDate, LocalDate)}, restrito a uma categoria.
+     *
+     * @param dataInicio Data de início do período
+     * @param dataFim    Data de fim do período
+     * @param categoria  Categoria dos quartos
+     * @return percentual de ocupação da categoria
+     */
+    public double calcularTaxaOcupacao(LocalDate dataInicio, LocalDate dataFim, String categoria) {
+        int cat = catalogo.idCategoria(categoria);
+        if (cat < 0 || catalogo.totalQuartos(cat) == 0) return 0.0;
+        int ocupadosPeriodo = contarQuartosOcupados(catalogo.idsQuartosDaCategoria(cat), dataInicio, dataFim);
+        return ((double) ocupadosPeriodo / catalogo.totalQuartos(cat)) * 100;
+    }
+
+    /**
+     * Ocupação média do período: diárias ocupadas / (quartos × dias), em O(1).
+     *
+     * @param dataInicio Data de início do período
+     * @param dataFim    Data de fim do período
+     * @return percentual médio de ocupação
+     */
+    public double taxaOcupacaoMedia(LocalDate dataInicio, LocalDate dataFim) {
+        long dias = dataFim.toEpochDay() - dataInicio.toEpochDay() + 1;
+        if (catalogo.totalQuartos() == 0 || dias <= 0) return 0.0;
+
+        long ini = Math.max(0, dataInicio.toEpochDay() - diaInicial);
+        long fim = Math.min(totalDias, dataFim.toEpochDay() - diaInicial + 1);
+        long diarias = fim > ini ? acumulado[(int) fim] - acumulado[(int) ini] : 0;
+        return ((double) diarias / ((double) catalogo.totalQuartos() * dias)) * 100;
+    }
+
+    /**
+     * Série diária de quartos ocupados no período (inclusive).
+     *
+     * @param dataInicio Data de início do período
+     * @param dataFim    Data de fim do período
+     * @return vetor com uma posição por dia
+     */
+    public int[] serieDiaria(LocalDate dataInicio, LocalDate dataFim) {
+        return recortar(ocupados, dataInicio, dataFim);
+    }
+
+    /**
+     * Série diária de quartos ocupados de uma categoria no período (inclusive).
+     *
+     * @param dataInicio Data de início do período
+     * @param dataFim    Data de fim do período
+     * @param categoria  Categoria dos quartos
+     * @return vetor com uma posição por dia
+     */
+    public int[] serieDiaria(LocalDate dataInicio, LocalDate dataFim, String categoria) {
+        int cat = catalogo.idCategoria(categoria);
+        if (cat < 0 || cat >= ocupadosPorCategoria.length) return recortar(null, dataInicio, dataFim);
+        return recortar(ocupadosPorCategoria[cat], dataInicio, dataFim);
+    }
+
+    // ==========================
+    // MÉTODOS AUXILIARES
+    // ==========================
+
+    private int indiceDia(LocalDate data) {
+        long d = data.toEpochDay() - diaInicial;
+        return (d < 0 || d >= totalDias) ? -1 : (int) d;
+    }
+
+    private int[] recortar(int[] serie, LocalDate dataInicio, LocalDate dataFim) {
+        long inicio = dataInicio.toEpochDay();
+        int dias = (int) Math.max(0, dataFim.toEpochDay() - inicio + 1);
+        int[] resultado = new int[dias];
+        if (serie == null) return resultado;
+
+        long de = Math.max(inicio, diaInicial);
+        long ate = Math.min(dataFim.toEpochDay(), (long) diaInicial + totalDias - 1);
+        if (de <= ate) {
+            System.arraycopy(serie, (int) (de - diaInicial), resultado, (int) (de - inicio), (int) (ate - de + 1));
+        }
+        return resultado;
+    }
+
+    private int contarQuartosOcupados(BitSet quartos, LocalDate dataInicio, LocalDate dataFim) {
+        int inicio = (int) dataInicio.toEpochDay();
+        int fim = (int) dataFim.toEpochDay();
+        int total = 0;
+        for (int q = quartos.nextSetBit(0); q >= 0; q = quartos.nextSetBit(q + 1)) {
+            if (q + 1 >= inicioFaixa.length) continue; // quarto criado após a construção
+            int de = inicioFaixa[q], ate = inicioFaixa[q + 1];
+            // última reserva do quarto com check-in <= fim
+            int k = buscarUltimoCheckInAte(de, ate, fim);
+            if (k >= 0 && maiorCheckOut[k] >= inicio) total++;
+        }
+        return total;
+    }
+
+    private int buscarUltimoCheckInAte(int de, int ate, int dia) {
+        int lo = de, hi = ate - 1, resultado = -1;
+        while (lo <= hi) {
+            int meio = (lo + hi) >>> 1;
+            if (checkIns[meio] <= dia) {
+                resultado = meio;
+                lo = meio + 1;
+            } else {
+                hi = meio - 1;
+            }
+        }
+        return resultado;
+    }
+
+    // Ordenação por inserção: as reservas de um mesmo quarto normalmente já chegam em ordem de check-in
+    private static void ordenarPorCheckIn(int[] checkIns, int[] checkOuts, int de, int ate) {
+        for (int i = de + 1; i < ate; i++) {
+            int ci = checkIns[i], co = checkOuts[i];
+            int j = i - 1;
+            while (j >= de && checkIns[j] > ci) {
+                checkIns[j + 1] = checkIns[j];
+                checkOuts[j + 1] = checkOuts[j];
+                j--;
+            }
+            checkIns[j + 1] = ci;
+            checkOuts[j + 1] = co;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package relatorios;
+
+import catalogo.CatalogoQuartos;
+import modelos.Quarto;
+import modelos.Reserva;
+
+import java.time.LocalDate;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Executa os relatórios gerenciais em paralelo com fork/join.
+ *
+ * A lista de reservas (em ordem de check-in, como devolvida pelo gerenciador) é dividida
+ * em faixas contíguas, o que equivale a particionar por intervalo de datas. Cada faixa produz
+ * um resultado parcial (BitSet de quartos, vetor de contagens ou de diferenças por dia) e os
+ * parciais são mesclados com operações associativas e comutativas, de modo que o resultado é
+ * determinístico e idêntico ao de {@link RelatoriosGerenciais}.
+ */
+public class MotorRelatoriosParalelo {
+
+    private static final int LIMIAR_MINIMO = 1024;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Usa o pool comum do fork/join.
+     */
+    public MotorRelatoriosParalelo() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param pool Pool em que as tarefas serão executadas
+     */
+    public MotorRelatoriosParalelo(ForkJoinPool pool) {
+        if (pool == null) throw new IllegalArgumentException("Pool não pode ser nulo.");
+        this.pool = pool;
+    }
+
+    // ==========================
+    // RELATÓRIOS
+    // ==========================
+
+    /**
+     * Versão paralela de {@link RelatoriosGerenciais#calcularTaxaOcupacao(List, CatalogoQuartos, LocalDate, LocalDate)}.
+     */
+    public double calcularTaxaOcupacao(List<Reserva> todasReservas, CatalogoQuartos catalogo,
+                                       LocalDate dataInicio, LocalDate dataFim) {
+        if (catalogo.totalQuartos() == 0) return 0.0;
+
+        BitSet ocupados = executar(todasReservas, (de, ate) -> {
+            BitSet parcial = new BitSet(catalogo.capacidadeIds());
+            for (int i = de; i < ate; i++) {
+                Reserva r = todasReservas.get(i);
+                if (!(r.getDataCheckOut().isBefore(dataInicio) || r.getDataCheckIn().isAfter(dataFim))) {
+                    int id = catalogo.idQuarto(r.getQuarto());
+                    if (catalogo.estaAtivo(id)) parcial.set(id);
+                }
+            }
+            return parcial;
+        }, (a, b) -> {
+            a.or(b);
+            return a;
+        });
+
+        return ((double) ocupados.cardinality() / catalogo.totalQuartos()) * 100;
+    }
+
+    /**
+     * Versão paralela de {@link RelatoriosGerenciais#ocupacaoDiaria}.
+     */
+    public Map<LocalDate, Double> ocupacaoDiaria(List<Reserva> todasReservas, CatalogoQuartos catalogo,
+                                                 LocalDate dataInicio, LocalDate dataFim) {
+        Map<LocalDate, Double> resultado = new LinkedHashMap<>();
+        if (catalogo.totalQuartos() == 0) return resultado;
+
+        long inicio = dataInicio.toEpochDay();
+        long fim = dataFim.toEpochDay();
+        int dias = (int) Math.max(0, fim - inicio + 1);
+
+        int[] diferencas = executar(todasReservas, (de, ate) -> {
+            int[] parcial = new int[dias + 1];
+            for (int i = de; i < ate; i++) {
+                Reserva r = todasReservas.get(i);
+                long ci = r.getDataCheckIn().toEpochDay();
+                long co = r.getDataCheckOut().toEpochDay();
+                if (co < inicio || ci > fim) continue;
+                if (!catalogo.estaAtivo(catalogo.idQuarto(r.getQuarto()))) continue;
+                parcial[(int) (Math.max(ci, inicio) - inicio)]++;
+                parcial[(int) (Math.min(co, fim) - inicio + 1)]--;
+            }
+            return parcial;
+        }, MotorRelatoriosParalelo::somar);
+
+        int ocupados = 0;
+        for (int d = 0; d < dias; d++) {
+            ocupados += diferencas[d];
+            resultado.put(dataInicio.plusDays(d), ((double) ocupados / catalogo.totalQuartos()) * 100);
+        }
+        return resultado;
+    }
+
+    /**
+     * Versão paralela de {@link RelatoriosGerenciais#quartosMaisReservados}.
+     */
+    public List<Map.Entry<Quarto, Integer>> quartosMaisReservados(List<Reserva> todasReservas,
+                                                                  CatalogoQuartos catalogo, int topN) {
+        Contagens contagens = contar(todasReservas, catalogo);
+        List<Map.Entry<Quarto, Integer>> entradas = new ArrayList<>();
+        for (int id = 0; id < contagens.porId.length; id++) {
+            if (contagens.porId[id] > 0) {
+                entradas.add(new AbstractMap.SimpleEntry<>(catalogo.quartoPorId(id), contagens.porId[id]));
+            }
+        }
+        entradas.addAll(contagens.foraDoCatalogo.entrySet());
+        return entradas.stream()
+                .sorted(RelatoriosGerenciais.ORDEM_MAIS_RESERVADOS)
+                .limit(topN)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Versão paralela de
+     * {@link RelatoriosGerenciais#quartosMenosReservados(List, CatalogoQuartos, int)}.
+     */
+    public List<Map.Entry<Quarto, Integer>> quartosMenosReservados(List<Reserva> todasReservas,
+                                                                   CatalogoQuartos catalogo, int topN) {
+        Contagens contagens = contar(todasReservas, catalogo);
+        List<Map.Entry<Quarto, Integer>> entradas = new ArrayList<>();
+        for (int id = 0; id < contagens.porId.length; id++) {
+            if (contagens.porId[id] > 0 || catalogo.estaAtivo(id)) {
+                entradas.add(new AbstractMap.SimpleEntry<>(catalogo.quartoPorId(id), contagens.porId[id]));
+            }
+        }
+        entradas.addAll(contagens.foraDoCatalogo.entrySet());
+        return entradas.stream()
+                .sorted(RelatoriosGerenciais.ORDEM_MENOS_RESERVADOS)
+                .limit(topN)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Versão paralela de {@link RelatoriosGerenciais#contarCancelamentos}.
+     *
+     * @param canceladas Reservas canceladas (ex: historico.listarReservasCanceladas())
+     */
+    public int contarCancelamentos(List<Reserva> canceladas, LocalDate dataInicio, LocalDate dataFim) {
+        Integer total = executar(canceladas, (de, ate) -> {
+            int parcial = 0;
+            for (int i = de; i < ate; i++) {
+                LocalDate ci = canceladas.get(i).getDataCheckIn();
+                if (!ci.isBefore(dataInicio) && !ci.isAfter(dataFim)) parcial++;
+            }
+            return parcial;
+        }, Integer::sum);
+        return total;
+    }
+
+    // ==========================
+    // INFRAESTRUTURA FORK/JOIN
+    // ==========================
+
+    /**
+     * Calcula o resultado parcial de uma faixa [de, ate) da lista.
+     */
+    @FunctionalInterface
+    private interface Folha<P> {
+        P calcular(int de, int ate);
+    }
+
+    /**
+     * Divide a faixa ao meio até o limiar; a mescla é sempre (esquerda, direita),
+     * então a forma da árvore de tarefas depende só do tamanho da entrada.
+     */
+    @SuppressWarnings("serial") // vive só durante um invoke() e nunca é serializada
+    private static class TarefaParticionada<P> extends RecursiveTask<P> {
+        private final Folha<P> folha;
+        private final BinaryOperator<P> mesclar;
+        private final int de, ate, limiar;
+
+        TarefaParticionada(Folha<P> folha, BinaryOperator<P> mesclar, int de, int ate, int limiar) {
+            this.folha = folha;
+            this.mesclar = mesclar;
+            this.de = de;
+            this.ate = ate;
+            this.limiar = limiar;
+        }
+
+        @Override
+        protected P compute() {
+            if (ate - de <= limiar) {
+                return folha.calcular(de, ate);
+            }
+            int meio = (de + ate) >>> 1;
+            TarefaParticionada<P> esquerda = new TarefaParticionada<>(folha, mesclar, de, meio, limiar);
+            TarefaParticionada<P> direita = new TarefaParticionada<>(folha, mesclar, meio, ate, limiar);
+            esquerda.fork();
+            P resultadoDireita = direita.compute();
+            return mesclar.apply(esquerda.join(), resultadoDireita);
+        }
+    }
+
+    private <P> P executar(List<Reserva> reservas, Folha<P> folha, BinaryOperator<P> mesclar) {
+        int n = reservas.size();
+        // cerca de 4 faixas por núcleo, para equilibrar a carga
+        int limiar = Math.max(LIMIAR_MINIMO, n / (pool.getParallelism() * 4));
+        return pool.invoke(new TarefaParticionada<>(folha, mesclar, 0, n, limiar));
+    }
+
+    /**
+     * Contagem de reservas por quarto: vetor por id do catálogo e um mapa para quartos fora dele.
+     */
+    private static class Contagens {
+        final int[] porId;
+        final Map<Quarto, Integer> foraDoCatalogo;
+
+        Contagens(int capacidade) {
+            this.porId = new int[capacidade];
+            this.foraDoCatalogo = new HashMap<>();
+        }
+    }
+
+    private Contagens contar(List<Reserva> todasReservas, CatalogoQuartos catalogo) {
+        int capacidade = catalogo.capacidadeIds();
+        return executar(todasReservas, (de, ate) -> {
+            Contagens parcial = new Contagens(capacidade);
+            for (int i = de; i < ate; i++) {
+                Quarto q = todasReservas.get(i).getQuarto();
+                int id = catalogo.idQuarto(q);
+                if (id >= 0 && id < capacidade) parcial.porId[id]++;
+                else parcial.foraDoCatalogo.merge(q, 1, Integer::sum);
+            }
+            return parcial;
+        }, (a, b) -> {
+            for (int id = 0; id < capacidade; id++) {
+                a.porId[id] += b.porId[id];
+            }
+            b.foraDoCatalogo.forEach((q, c) -> a.foraDoCatalogo.merge(q, c, Integer::sum));
+            return a;
+        });
+    }
+
+    private static int[] somar(int[] a, int[] b) {
+        for (int i = 0; i < a.length; i++) {
+            a[i] += b[i];
+        }
+        return a;
+    }
+}
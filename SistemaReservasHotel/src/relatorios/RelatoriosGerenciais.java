@@ -3,6 +3,9 @@ package relatorios;
 import modelos.Reserva;
 import modelos.Quarto;
 import historico.HistoricoReservas;
+import catalogo.CatalogoQuartos;
+import metricas.MetricasOperacao;
+import metricas.RegistroMetricas;
 
 import java.time.LocalDate;
 import java.util.*;
@@ -13,6 +16,25 @@ import java.util.stream.Collectors;
  */
 public class RelatoriosGerenciais {
 
+    // Ordem dos rankings de quartos; os empates são desfeitos pelo número do quarto
+    static final Comparator<Map.Entry<Quarto, Integer>> ORDEM_MAIS_RESERVADOS =
+            Map.Entry.<Quarto, Integer>comparingByValue().reversed()
+                    .thenComparing(e -> e.getKey().getNumero());
+    static final Comparator<Map.Entry<Quarto, Integer>> ORDEM_MENOS_RESERVADOS =
+            Map.Entry.<Quarto, Integer>comparingByValue()
+                    .thenComparing(e -> e.getKey().getNumero(), Comparator.reverseOrder());
+
+    // Latência de cada relatório (as sobrecargas de um mesmo relatório compartilham a métrica)
+    private static final MetricasOperacao METRICA_TAXA_OCUPACAO = metrica("calcularTaxaOcupacao");
+    private static final MetricasOperacao METRICA_QUARTOS_OCUPADOS = metrica("contarQuartosOcupados");
+    private static final MetricasOperacao METRICA_OCUPACAO_DIARIA = metrica("ocupacaoDiaria");
+    private static final MetricasOperacao METRICA_OCUPACAO_CATEGORIA = metrica("ocupacaoPorCategoria");
+    private static final MetricasOperacao METRICA_MAIS_RESERVADOS = metrica("quartosMaisReservados");
+    private static final MetricasOperacao METRICA_MENOS_RESERVADOS = metrica("quartosMenosReservados");
+    private static final MetricasOperacao METRICA_CANCELAMENTOS = metrica("contarCancelamentos");
+    private static final MetricasOperacao METRICA_ALERTA = metrica("alertaCapacidade");
+    private static final MetricasOperacao METRICA_ALERTAS = metrica("alertasCapacidade");
+
     /**
      * Calcula a taxa de ocupação de quartos em um período específico.
      *
@@ -24,6 +46,14 @@ public class RelatoriosGerenciais {
      */
     public static double calcularTaxaOcupacao(List<Reserva> todasReservas, List<Quarto> todosQuartos,
                                                LocalDate dataInicio, LocalDate dataFim) {
+        long inicio = System.nanoTime();
+        double taxa = taxaOcupacao(todasReservas, todosQuartos, dataInicio, dataFim);
+        METRICA_TAXA_OCUPACAO.registrar(inicio);
+        return taxa;
+    }
+
+    private static double taxaOcupacao(List<Reserva> todasReservas, List<Quarto> todosQuartos,
+                                       LocalDate dataInicio, LocalDate dataFim) {
         if (todosQuartos.isEmpty()) return 0.0;
 
         int ocupados = 0;
@@ -43,22 +73,131 @@ public class RelatoriosGerenciais {
         return ((double) ocupados / todosQuartos.size()) * 100;
     }
 
+    /**
+     * Calcula a taxa de ocupação em um período usando o catálogo de quartos.
+     * Cada reserva é visitada uma única vez: O(reservas + quartos).
+     *
+     * @param todasReservas Lista de reservas ativas
+     * @param catalogo      Catálogo de quartos
+     * @param dataInicio    Data de início do período
+     * @param dataFim       Data de fim do período
+     * @return percentual de ocupação
+     */
+    public static double calcularTaxaOcupacao(List<Reserva> todasReservas, CatalogoQuartos catalogo,
+                                               LocalDate dataInicio, LocalDate dataFim) {
+        long inicio = System.nanoTime();
+        double taxa = taxaOcupacao(todasReservas, catalogo, dataInicio, dataFim);
+        METRICA_TAXA_OCUPACAO.registrar(inicio);
+        return taxa;
+    }
+
+    private static double taxaOcupacao(List<Reserva> todasReservas, CatalogoQuartos catalogo,
+                                       LocalDate dataInicio, LocalDate dataFim) {
+        if (catalogo.totalQuartos() == 0) return 0.0;
+        return ((double) quartosOcupados(todasReservas, catalogo, dataInicio, dataFim) / catalogo.totalQuartos()) * 100;
+    }
+
+    /**
+     * Conta os quartos ativos ocupados em algum momento do período: o numerador exato de
+     * {@link #calcularTaxaOcupacao(List, CatalogoQuartos, LocalDate, LocalDate)}
+     * (ex: para somar a ocupação de vários hotéis sem arredondar percentuais).
+     *
+     * @param todasReservas Lista de reservas ativas
+     * @param catalogo      Catálogo de quartos
+     * @param dataInicio    Data de início do período
+     * @param dataFim       Data de fim do período
+     * @return quantidade de quartos ocupados
+     */
+    public static int contarQuartosOcupados(List<Reserva> todasReservas, CatalogoQuartos catalogo,
+                                            LocalDate dataInicio, LocalDate dataFim) {
+        long inicio = System.nanoTime();
+        int ocupados = quartosOcupados(todasReservas, catalogo, dataInicio, dataFim);
+        METRICA_QUARTOS_OCUPADOS.registrar(inicio);
+        return ocupados;
+    }
+
+    private static int quartosOcupados(List<Reserva> todasReservas, CatalogoQuartos catalogo,
+                                       LocalDate dataInicio, LocalDate dataFim) {
+        BitSet ocupados = new BitSet(catalogo.capacidadeIds());
+        for (Reserva r : todasReservas) {
+            if (!(r.getDataCheckOut().isBefore(dataInicio) || r.getDataCheckIn().isAfter(dataFim))) {
+                int id = catalogo.idQuarto(r.getQuarto());
+                if (catalogo.estaAtivo(id)) ocupados.set(id);
+            }
+        }
+        return ocupados.cardinality();
+    }
+
+    /**
+     * Calcula a taxa de ocupação de cada dia do período em uma única varredura das reservas.
+     *
+     * @param todasReservas Lista de reservas ativas
+     * @param catalogo      Catálogo de quartos
+     * @param dataInicio    Data de início do período
+     * @param dataFim       Data de fim do período
+     * @return percentual de ocupação por dia, em ordem de data
+     */
+    public static Map<LocalDate, Double> ocupacaoDiaria(List<Reserva> todasReservas, CatalogoQuartos catalogo,
+                                                        LocalDate dataInicio, LocalDate dataFim) {
+        long inicio = System.nanoTime();
+        Map<LocalDate, Double> resultado = serieOcupacao(todasReservas, catalogo, dataInicio, dataFim);
+        METRICA_OCUPACAO_DIARIA.registrar(inicio);
+        return resultado;
+    }
+
+    private static Map<LocalDate, Double> serieOcupacao(List<Reserva> todasReservas, CatalogoQuartos catalogo,
+                                                        LocalDate dataInicio, LocalDate dataFim) {
+        Map<LocalDate, Double> resultado = new LinkedHashMap<>();
+        if (catalogo.totalQuartos() == 0) return resultado;
+
+        int[] serie = MotorOcupacao.construir(todasReservas, catalogo).serieDiaria(dataInicio, dataFim);
+        for (int d = 0; d < serie.length; d++) {
+            resultado.put(dataInicio.plusDays(d), ((double) serie[d] / catalogo.totalQuartos()) * 100);
+        }
+        return resultado;
+    }
+
+    /**
+     * Calcula a taxa de ocupação de cada categoria no período.
+     *
+     * @param todasReservas Lista de reservas ativas
+     * @param catalogo      Catálogo de quartos
+     * @param dataInicio    Data de início do período
+     * @param dataFim       Data de fim do período
+     * @return percentual de ocupação por categoria
+     */
+    public static Map<String, Double> ocupacaoPorCategoria(List<Reserva> todasReservas, CatalogoQuartos catalogo,
+                                                           LocalDate dataInicio, LocalDate dataFim) {
+        long inicio = System.nanoTime();
+        Map<String, Double> resultado = new LinkedHashMap<>();
+        MotorOcupacao motor = MotorOcupacao.construir(todasReservas, catalogo);
+        for (int c = 0; c < catalogo.totalCategorias(); c++) {
+            String categoria = catalogo.nomeCategoria(c);
+            resultado.put(categoria, motor.calcularTaxaOcupacao(dataInicio, dataFim, categoria));
+        }
+        METRICA_OCUPACAO_CATEGORIA.registrar(inicio);
+        return resultado;
+    }
+
     /**
      * Lista os quartos mais reservados.
      *
      * @param todasReservas Lista de reservas ativas
      * @param topN          Número de quartos a exibir
-     * @return Lista de quartos ordenados do mais reservado para menos
+     * @return Lista de quartos ordenados do mais reservado para menos (empates pelo menor número)
      */
     public static List<Map.Entry<Quarto, Integer>> quartosMaisReservados(List<Reserva> todasReservas, int topN) {
+        long inicio = System.nanoTime();
         Map<Quarto, Integer> contagem = new HashMap<>();
         for (Reserva r : todasReservas) {
             contagem.put(r.getQuarto(), contagem.getOrDefault(r.getQuarto(), 0) + 1);
         }
-        return contagem.entrySet().stream()
-                .sorted(Map.Entry.<Quarto, Integer>comparingByValue().reversed())
+        List<Map.Entry<Quarto, Integer>> ranking = contagem.entrySet().stream()
+                .sorted(ORDEM_MAIS_RESERVADOS)
                 .limit(topN)
                 .collect(Collectors.toList());
+        METRICA_MAIS_RESERVADOS.registrar(inicio);
+        return ranking;
     }
 
     /**
@@ -67,10 +206,18 @@ public class RelatoriosGerenciais {
      * @param todasReservas Lista de reservas ativas
      * @param todosQuartos  Lista completa de quartos
      * @param topN          Número de quartos a exibir
-     * @return Lista de quartos ordenados do menos reservado para mais
+     * @return Lista de quartos ordenados do menos reservado para mais (empates pelo maior número)
      */
     public static List<Map.Entry<Quarto, Integer>> quartosMenosReservados(List<Reserva> todasReservas,
                                                                           List<Quarto> todosQuartos, int topN) {
+        long inicio = System.nanoTime();
+        List<Map.Entry<Quarto, Integer>> ranking = menosReservados(todasReservas, todosQuartos, topN);
+        METRICA_MENOS_RESERVADOS.registrar(inicio);
+        return ranking;
+    }
+
+    private static List<Map.Entry<Quarto, Integer>> menosReservados(List<Reserva> todasReservas,
+                                                                    List<Quarto> todosQuartos, int topN) {
         Map<Quarto, Integer> contagem = new HashMap<>();
         for (Quarto q : todosQuartos) {
             contagem.put(q, 0);
@@ -79,11 +226,27 @@ public class RelatoriosGerenciais {
             contagem.put(r.getQuarto(), contagem.getOrDefault(r.getQuarto(), 0) + 1);
         }
         return contagem.entrySet().stream()
-                .sorted(Map.Entry.comparingByValue())
+                .sorted(ORDEM_MENOS_RESERVADOS)
                 .limit(topN)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Lista os quartos menos reservados, considerando os quartos ativos do catálogo.
+     *
+     * @param todasReservas Lista de reservas ativas
+     * @param catalogo      Catálogo de quartos
+     * @param topN          Número de quartos a exibir
+     * @return Lista de quartos ordenados do menos reservado para mais
+     */
+    public static List<Map.Entry<Quarto, Integer>> quartosMenosReservados(List<Reserva> todasReservas,
+                                                                          CatalogoQuartos catalogo, int topN) {
+        long inicio = System.nanoTime();
+        List<Map.Entry<Quarto, Integer>> ranking = menosReservados(todasReservas, catalogo.listarQuartos(), topN);
+        METRICA_MENOS_RESERVADOS.registrar(inicio);
+        return ranking;
+    }
+
     /**
      * Conta o número de reservas canceladas em um período específico.
      *
@@ -93,12 +256,9 @@ public class RelatoriosGerenciais {
      * @return número de cancelamentos
      */
     public static int contarCancelamentos(HistoricoReservas historico, LocalDate dataInicio, LocalDate dataFim) {
-        int total = 0;
-        for (Reserva r : historico.listarReservasCanceladas()) {
-            if (!r.getDataCheckIn().isBefore(dataInicio) && !r.getDataCheckIn().isAfter(dataFim)) {
-                total++;
-            }
-        }
+        long inicio = System.nanoTime();
+        int total = historico.contarCanceladas(dataInicio, dataFim);
+        METRICA_CANCELAMENTOS.registrar(inicio);
         return total;
     }
 
@@ -113,10 +273,59 @@ public class RelatoriosGerenciais {
      */
     public static String alertaCapacidade(List<Reserva> todasReservas, List<Quarto> todosQuartos,
                                           LocalDate data, double limitePercentual) {
-        double ocupacao = calcularTaxaOcupacao(todasReservas, todosQuartos, data, data);
+        long inicio = System.nanoTime();
+        String alerta = mensagemAlerta(data, taxaOcupacao(todasReservas, todosQuartos, data, data), limitePercentual);
+        METRICA_ALERTA.registrar(inicio);
+        return alerta;
+    }
+
+    /**
+     * Verifica a ocupação de todos os dias de um período em uma única varredura das reservas.
+     *
+     * @param todasReservas    Lista de reservas ativas
+     * @param catalogo         Catálogo de quartos
+     * @param dataInicio       Primeiro dia verificado
+     * @param dataFim          Último dia verificado
+     * @param limitePercentual Limite de ocupação (ex: 90.0)
+     * @return mensagens de alerta dos dias acima do limite, em ordem de data
+     */
+    public static List<String> alertasCapacidade(List<Reserva> todasReservas, CatalogoQuartos catalogo,
+                                                 LocalDate dataInicio, LocalDate dataFim, double limitePercentual) {
+        long inicio = System.nanoTime();
+        List<String> alertas = new ArrayList<>();
+        for (Map.Entry<LocalDate, Double> dia : serieOcupacao(todasReservas, catalogo, dataInicio, dataFim).entrySet()) {
+            String alerta = mensagemAlerta(dia.getKey(), dia.getValue(), limitePercentual);
+            if (!alerta.isEmpty()) alertas.add(alerta);
+        }
+        METRICA_ALERTAS.registrar(inicio);
+        return alertas;
+    }
+
+    /**
+     * Verifica se a ocupação ultrapassa o limite usando o catálogo de quartos.
+     *
+     * @param todasReservas    Lista de reservas ativas
+     * @param catalogo         Catálogo de quartos
+     * @param data             Data a ser verificada
+     * @param limitePercentual Limite de ocupação (ex: 90.0)
+     * @return mensagem de alerta ou vazio
+     */
+    public static String alertaCapacidade(List<Reserva> todasReservas, CatalogoQuartos catalogo,
+                                          LocalDate data, double limitePercentual) {
+        long inicio = System.nanoTime();
+        String alerta = mensagemAlerta(data, taxaOcupacao(todasReservas, catalogo, data, data), limitePercentual);
+        METRICA_ALERTA.registrar(inicio);
+        return alerta;
+    }
+
+    private static String mensagemAlerta(LocalDate data, double ocupacao, double limitePercentual) {
         if (ocupacao >= limitePercentual) {
             return "ALERTA: Ocupação alta em " + data + " (" + String.format("%.2f", ocupacao) + "%)";
         }
         return "";
     }
+
+    private static MetricasOperacao metrica(String relatorio) {
+        return RegistroMetricas.global().operacao("RelatoriosGerenciais", relatorio);
+    }
 }
@@ -0,0 +1,101 @@
+package agendamento;
+
+import agendamento.RodaTemporizacao.Temporizador;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RodaTemporizacaoTest {
+
+    // 8 posições de 10 ms: uma volta a cada 80 ms
+    private final RodaTemporizacao<String> roda = new RodaTemporizacao<>(8, 10, 0);
+
+    @Test
+    void venceNoTickSeguinteAoPrazo() {
+        roda.agendar("a", 25);
+
+        assertEquals(List.of(), avancar(29));
+        assertEquals(List.of("a"), avancar(30));
+        assertEquals(0, roda.pendentes());
+    }
+
+    @Test
+    void prazosDeVoltasDiferentesNaMesmaPosicaoVencemCadaUmNaSuaVolta() {
+        // ticks 3, 11 e 19 caem todos na posição 3
+        Temporizador<String> a = roda.agendar("a", 30);
+        Temporizador<String> b = roda.agendar("b", 110);
+        Temporizador<String> c = roda.agendar("c", 190);
+
+        assertEquals(List.of("a"), avancar(100));
+        assertFalse(a.isPendente());
+        assertTrue(b.isPendente());
+        assertEquals(List.of("b"), avancar(110));
+        assertEquals(List.of(), avancar(189));
+        assertEquals(List.of("c"), avancar(190));
+        assertFalse(c.isPendente());
+        assertEquals(0, roda.pendentes());
+    }
+
+    @Test
+    void cancelarNoMeioDaPosicaoMantemOsVizinhos() {
+        Temporizador<String> a = roda.agendar("a", 30);
+        Temporizador<String> b = roda.agendar("b", 110);
+        Temporizador<String> c = roda.agendar("c", 190);
+
+        assertTrue(roda.cancelar(b));
+        assertFalse(roda.cancelar(b));
+        assertFalse(b.isPendente());
+        assertEquals(2, roda.pendentes());
+
+        assertEquals(List.of("a"), avancar(30));
+        assertEquals(List.of(), avancar(180));
+        assertTrue(roda.cancelar(c));
+        assertEquals(List.of(), avancar(400));
+        assertFalse(roda.cancelar(a));
+        assertEquals(0, roda.pendentes());
+    }
+
+    @Test
+    void saltoMaiorQueUmaVoltaEntregaOsVencidosEGuardaOsFuturos() {
+        List<String> esperados = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            roda.agendar("t" + i, 10L * i + 5);
+            esperados.add("t" + i);
+        }
+        roda.agendar("futuro", 1_000);
+
+        List<String> vencidos = avancar(500);
+        vencidos.sort(null);
+        esperados.sort(null);
+        assertEquals(esperados, vencidos);
+        assertEquals(1, roda.pendentes());
+
+        assertEquals(List.of(), avancar(999));
+        assertEquals(List.of("futuro"), avancar(1_000));
+    }
+
+    @Test
+    void prazoJaPassadoVenceNoProximoTick() {
+        avancar(100);
+        roda.agendar("atrasado", 50);
+
+        assertEquals(List.of(), avancar(109));
+        assertEquals(List.of("atrasado"), avancar(110));
+    }
+
+    @Test
+    void recusaParametrosInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> new RodaTemporizacao<String>(0, 10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new RodaTemporizacao<String>(8, 0, 0));
+    }
+
+    private List<String> avancar(long agora) {
+        List<String> vencidos = new ArrayList<>();
+        assertEquals(roda.avancar(agora, vencidos), vencidos.size());
+        return vencidos;
+    }
+}
@@ -0,0 +1,92 @@
+package analitica;
+
+import gerenciador.GerenciadorReservas;
+import historico.HistoricoReservas;
+import modelos.Cliente;
+import modelos.Cpf;
+import modelos.Quarto;
+import modelos.Reserva;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnaliticaAproximadaTest {
+
+    private static final Cliente ANA = new Cliente("Ana", "529.982.247-25");
+    private static final Cliente BRUNO = new Cliente("Bruno", "123.456.789-09");
+    private static final Cliente CARLA = new Cliente("Carla", "987.654.321-00");
+    private static final Cpf DAVI = Cpf.parse("111.444.777-35");
+
+    @Test
+    void conectarCarregaReservasAtivasECanceladasJaExistentes() {
+        HistoricoReservas historico = new HistoricoReservas();
+        historico.setVerboso(false);
+        GerenciadorReservas gerenciador = new GerenciadorReservas(historico);
+        gerenciador.setVerboso(false);
+        Quarto q101 = new Quarto(101, "Economico");
+        Quarto q102 = new Quarto(102, "Economico");
+
+        // antes de conectar: Ana reserva duas vezes e cancela uma; Bruno em fevereiro; Carla em março
+        assertTrue(gerenciador.cadastrarReserva(reserva(ANA, q101, 2025, 1, 5)));
+        Reserva cancelada = reserva(ANA, q102, 2025, 1, 10);
+        assertTrue(gerenciador.cadastrarReserva(cancelada));
+        assertTrue(gerenciador.cancelarReserva(cancelada));
+        assertTrue(gerenciador.cadastrarReserva(reserva(BRUNO, q101, 2025, 2, 1)));
+        assertTrue(gerenciador.cadastrarReserva(reserva(CARLA, q102, 2025, 3, 1)));
+
+        AnaliticaAproximada analitica = AnaliticaAproximada.conectar(gerenciador, historico,
+                new AnaliticaAproximada(1_000, 0.01, 14, 0.001, 0.01));
+
+        assertTrue(analitica.possivelmenteCancelou(ANA.getCpfNumerico()));
+        assertFalse(analitica.possivelmenteCancelou(BRUNO.getCpfNumerico()));
+        // a cancelada continua contando como reserva feita
+        assertEquals(2, analitica.reservasDoCliente(ANA.getCpfNumerico()));
+        assertEquals(1, analitica.cancelamentosDoCliente(ANA.getCpfNumerico()));
+        assertEquals(0, analitica.cancelamentosDoCliente(BRUNO.getCpfNumerico()));
+        assertEquals(2, analitica.reservasDoQuarto(q101));
+        assertEquals(2, analitica.reservasDoQuarto(q102));
+        assertEquals(1, analitica.clientesDistintos(YearMonth.of(2025, 1), YearMonth.of(2025, 1)));
+        assertEquals(3, analitica.clientesDistintos(YearMonth.of(2025, 1), YearMonth.of(2025, 3)));
+
+        // depois de conectar, os eventos novos chegam pelos ouvintes
+        Reserva nova = reserva(new Cliente("Davi", DAVI), q101, 2025, 4, 1);
+        assertTrue(gerenciador.cadastrarReserva(nova));
+        assertNotNull(gerenciador.modificarReserva(nova, q101, LocalDate.of(2025, 5, 1), LocalDate.of(2025, 5, 3)));
+        assertEquals(1, analitica.reservasDoCliente(DAVI));
+        assertEquals(3, analitica.reservasDoQuarto(q101));
+        assertEquals(1, analitica.clientesDistintos(YearMonth.of(2025, 5), YearMonth.of(2025, 5)));
+        assertFalse(analitica.possivelmenteCancelou(DAVI));
+
+        assertTrue(gerenciador.cancelarReserva(gerenciador.consultarReservaPorCliente(DAVI)));
+        assertTrue(analitica.possivelmenteCancelou(DAVI));
+        assertEquals(1, analitica.cancelamentosDoCliente(DAVI));
+    }
+
+    @Test
+    void mesclaSomaContagensEUneClientes() {
+        AnaliticaAproximada a = new AnaliticaAproximada(1_000, 0.01, 14, 0.001, 0.01);
+        AnaliticaAproximada b = new AnaliticaAproximada(1_000, 0.01, 14, 0.001, 0.01);
+        Quarto q101 = new Quarto(101, "Economico");
+        a.reservaCadastrada(reserva(ANA, q101, 2025, 1, 5));
+        b.reservaCadastrada(reserva(ANA, q101, 2025, 1, 20));
+        b.reservaCadastrada(reserva(BRUNO, q101, 2025, 1, 25));
+        b.reservaArquivada(reserva(BRUNO, q101, 2025, 1, 25));
+
+        a.mesclar(b);
+
+        assertEquals(2, a.reservasDoCliente(ANA.getCpfNumerico()));
+        assertEquals(3, a.reservasDoQuarto(q101));
+        assertEquals(2, a.clientesDistintos(YearMonth.of(2025, 1), YearMonth.of(2025, 1)));
+        assertTrue(a.possivelmenteCancelou(BRUNO.getCpfNumerico()));
+        assertFalse(a.possivelmenteCancelou(ANA.getCpfNumerico()));
+    }
+
+    private static Reserva reserva(Cliente cliente, Quarto quarto, int ano, int mes, int dia) {
+        LocalDate checkIn = LocalDate.of(ano, mes, dia);
+        return new Reserva(cliente, quarto, checkIn, checkIn.plusDays(2));
+    }
+}
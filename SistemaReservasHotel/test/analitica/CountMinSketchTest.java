@@ -0,0 +1,65 @@
+package analitica;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountMinSketchTest {
+
+    private static final int CHAVES = 5_000;
+
+    @Test
+    void nuncaSubestimaEFicaDentroDoErroMaximo() {
+        CountMinSketch sketch = new CountMinSketch(0.001, 0.01);
+        long[] reais = frequencias(sketch, 1);
+
+        int foraDoLimite = 0;
+        for (int chave = 0; chave < CHAVES; chave++) {
+            long estimativa = sketch.estimar(chave);
+            assertTrue(estimativa >= reais[chave], "chave " + chave);
+            if (estimativa - reais[chave] > sketch.erroMaximo()) foraDoLimite++;
+        }
+        // o limite vale com probabilidade 1 - delta por chave
+        assertTrue(foraDoLimite <= CHAVES * sketch.getDelta(), foraDoLimite + " chaves fora do limite");
+        assertTrue(sketch.estimar(-1) <= sketch.erroMaximo());
+    }
+
+    @Test
+    void mesclaSomaAsFrequencias() {
+        CountMinSketch a = new CountMinSketch(0.001, 0.01);
+        CountMinSketch b = new CountMinSketch(0.001, 0.01);
+        CountMinSketch soma = new CountMinSketch(0.001, 0.01);
+        long[] reaisA = frequencias(a, 2);
+        long[] reaisB = frequencias(b, 3);
+        for (int chave = 0; chave < CHAVES; chave++) soma.adicionar(chave, reaisA[chave] + reaisB[chave]);
+
+        a.mesclar(b);
+
+        assertEquals(soma.getTotal(), a.getTotal());
+        for (int chave = -10; chave < CHAVES; chave++) {
+            assertEquals(soma.estimar(chave), a.estimar(chave));
+        }
+        assertThrows(IllegalArgumentException.class, () -> a.mesclar(new CountMinSketch(0.01, 0.01)));
+    }
+
+    @Test
+    void recusaParametrosInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> new CountMinSketch(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new CountMinSketch(0.001, 1));
+        assertThrows(IllegalArgumentException.class, () -> new CountMinSketch(0.001, 0.01).adicionar(1, -1));
+    }
+
+    // frequências concentradas (Zipf aproximado): poucas chaves com muitas ocorrências
+    private static long[] frequencias(CountMinSketch sketch, long semente) {
+        Random aleatorio = new Random(semente);
+        long[] reais = new long[CHAVES];
+        for (int i = 0; i < 200_000; i++) {
+            int chave = (int) (CHAVES * Math.pow(aleatorio.nextDouble(), 3));
+            reais[chave]++;
+            sketch.adicionar(chave);
+        }
+        return reais;
+    }
+}
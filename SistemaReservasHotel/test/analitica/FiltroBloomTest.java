@@ -0,0 +1,64 @@
+package analitica;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FiltroBloomTest {
+
+    private static final int CAPACIDADE = 20_000;
+    private static final double TAXA = 0.01;
+
+    @Test
+    void semFalsosNegativosETaxaDeFalsosPositivosPertoDaConfigurada() {
+        FiltroBloom filtro = new FiltroBloom(CAPACIDADE, TAXA);
+        long[] chaves = chaves(CAPACIDADE, 1);
+        for (long c : chaves) filtro.adicionar(c);
+
+        for (long c : chaves) assertTrue(filtro.contemPossivelmente(c));
+
+        // chaves ímpares nunca foram adicionadas (as inseridas são pares)
+        Random aleatorio = new Random(2);
+        int consultas = 200_000, falsosPositivos = 0;
+        for (int i = 0; i < consultas; i++) {
+            if (filtro.contemPossivelmente(aleatorio.nextLong() | 1)) falsosPositivos++;
+        }
+        double taxa = (double) falsosPositivos / consultas;
+        assertTrue(taxa > TAXA / 2 && taxa < TAXA * 1.5, "taxa medida " + taxa);
+        assertEquals(TAXA, filtro.taxaFalsoPositivoEstimada(), TAXA * 0.1);
+    }
+
+    @Test
+    void mesclaEAUniaoDosConjuntos() {
+        FiltroBloom a = new FiltroBloom(CAPACIDADE, TAXA);
+        FiltroBloom b = new FiltroBloom(CAPACIDADE, TAXA);
+        long[] chavesA = chaves(5_000, 3);
+        long[] chavesB = chaves(5_000, 4);
+        for (long c : chavesA) a.adicionar(c);
+        for (long c : chavesB) b.adicionar(c);
+
+        a.mesclar(b);
+
+        for (long c : chavesA) assertTrue(a.contemPossivelmente(c));
+        for (long c : chavesB) assertTrue(a.contemPossivelmente(c));
+        assertEquals(10_000, a.getInseridos());
+        assertThrows(IllegalArgumentException.class, () -> a.mesclar(new FiltroBloom(CAPACIDADE, 0.05)));
+    }
+
+    @Test
+    void recusaParametrosInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> new FiltroBloom(0, TAXA));
+        assertThrows(IllegalArgumentException.class, () -> new FiltroBloom(CAPACIDADE, 0));
+        assertThrows(IllegalArgumentException.class, () -> new FiltroBloom(CAPACIDADE, 1));
+    }
+
+    // chaves pares, para que as ímpares sirvam de consulta ausente
+    private static long[] chaves(int total, long semente) {
+        Random aleatorio = new Random(semente);
+        long[] chaves = new long[total];
+        for (int i = 0; i < total; i++) chaves[i] = aleatorio.nextLong() & ~1L;
+        return chaves;
+    }
+}
@@ -0,0 +1,66 @@
+package analitica;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HyperLogLogTest {
+
+    @Test
+    void estimativaDentroDeTresErrosPadrao() {
+        for (int precisao : new int[]{10, 12, 14}) {
+            for (int total : new int[]{100, 5_000, 200_000}) {
+                HyperLogLog hll = new HyperLogLog(precisao);
+                // CPFs sequenciais, o pior caso para um hash fraco
+                for (long i = 0; i < total; i++) hll.adicionar(10_000_000_000L + i);
+
+                double erro = Math.abs(hll.estimar() - total) / (double) total;
+                assertTrue(erro <= 3 * hll.erroPadrao(),
+                        "precisão " + precisao + ", " + total + " distintos: erro " + erro);
+            }
+        }
+    }
+
+    @Test
+    void repeticoesNaoMudamAEstimativa() {
+        HyperLogLog hll = new HyperLogLog(14);
+        for (long i = 0; i < 10_000; i++) hll.adicionar(i);
+        long estimativa = hll.estimar();
+
+        for (int volta = 0; volta < 3; volta++) {
+            for (long i = 0; i < 10_000; i++) hll.adicionar(i);
+        }
+        assertEquals(estimativa, hll.estimar());
+    }
+
+    @Test
+    void mesclaEIgualAoContadorDaUniao() {
+        HyperLogLog a = new HyperLogLog(12);
+        HyperLogLog b = new HyperLogLog(12);
+        HyperLogLog uniao = new HyperLogLog(12);
+        for (long i = 0; i < 60_000; i++) {
+            a.adicionar(i);
+            uniao.adicionar(i);
+        }
+        for (long i = 40_000; i < 100_000; i++) {
+            b.adicionar(i);
+            uniao.adicionar(i);
+        }
+
+        HyperLogLog copia = a.copiar();
+        copia.mesclar(b);
+
+        assertEquals(uniao.estimar(), copia.estimar());
+        assertTrue(Math.abs(copia.estimar() - 100_000) <= 3 * copia.erroPadrao() * 100_000);
+        // a cópia é independente do original
+        assertTrue(a.estimar() < copia.estimar());
+        assertThrows(IllegalArgumentException.class, () -> a.mesclar(new HyperLogLog(14)));
+    }
+
+    @Test
+    void vazioEstimaZero() {
+        assertEquals(0, new HyperLogLog(14).estimar());
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(3));
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(19));
+    }
+}
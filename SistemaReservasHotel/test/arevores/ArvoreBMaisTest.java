@@ -0,0 +1,109 @@
+package arevores;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArvoreBMaisTest {
+
+    private static final int[] ORDENS = {4, 5, 16, ArvoreBMais.ORDEM_PADRAO};
+
+    @Test
+    void operacoesAleatoriasSeguemOTreeSet() {
+        for (int ordem : ORDENS) {
+            Random aleatorio = new Random(ordem);
+            ArvoreBMais<Integer> arvore = new ArvoreBMais<>(ordem);
+            TreeSet<Integer> esperado = new TreeSet<>();
+
+            for (int i = 0; i < 20_000; i++) {
+                int valor = aleatorio.nextInt(2_000);
+                // mais inserções que remoções no começo, o contrário no fim
+                boolean inserir = aleatorio.nextInt(20_000) >= i;
+                if (inserir) assertEquals(esperado.add(valor), arvore.inserir(valor), "ordem " + ordem);
+                else assertEquals(esperado.remove(valor), arvore.remover(valor), "ordem " + ordem);
+
+                if (i % 1_000 == 0) comparar(esperado, arvore, aleatorio, ordem);
+            }
+            comparar(esperado, arvore, aleatorio, ordem);
+        }
+    }
+
+    @Test
+    void insercaoEmOrdemDeixaAsFolhasCheias() {
+        // o caso do histórico: chaves sempre maiores que todas as anteriores
+        for (int ordem : ORDENS) {
+            ArvoreBMais<Integer> arvore = new ArvoreBMais<>(ordem);
+            List<Integer> esperado = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                assertTrue(arvore.inserir(i));
+                esperado.add(i);
+            }
+
+            assertEquals(esperado, arvore.getElementosEmOrdem());
+            assertEquals(10_000, arvore.tamanho());
+            assertTrue(arvore.ocupacaoFolhas() > 90.0,
+                    "ordem " + ordem + ": ocupação " + arvore.ocupacaoFolhas());
+            assertEquals(List.of(4_998, 4_999, 5_000), arvore.intervalo(4_998, 5_000));
+            assertFalse(arvore.inserir(9_999));
+        }
+    }
+
+    @Test
+    void removerTudoEmOrdemAleatoriaEsvaziaAArvore() {
+        for (int ordem : ORDENS) {
+            ArvoreBMais<Integer> arvore = new ArvoreBMais<>(ordem);
+            List<Integer> valores = new ArrayList<>();
+            for (int i = 0; i < 3_000; i++) {
+                arvore.inserir(i);
+                valores.add(i);
+            }
+            Collections.shuffle(valores, new Random(ordem));
+
+            for (int v : valores) assertTrue(arvore.remover(v), "ordem " + ordem + ", valor " + v);
+
+            assertEquals(0, arvore.tamanho());
+            assertEquals(0, arvore.altura());
+            assertEquals(List.of(), arvore.getElementosEmOrdem());
+            assertFalse(arvore.remover(0));
+            assertTrue(arvore.inserir(7));
+            assertEquals(List.of(7), arvore.getElementosEmOrdem());
+        }
+    }
+
+    @Test
+    void intervaloComLimitesAusentesOuInvertidos() {
+        ArvoreBMais<Integer> arvore = new ArvoreBMais<>(4);
+        for (int i = 0; i < 100; i += 10) arvore.inserir(i);
+
+        assertEquals(List.of(10, 20, 30), arvore.intervalo(5, 35));
+        assertEquals(List.of(0), arvore.intervalo(-50, 0));
+        assertEquals(List.of(90), arvore.intervalo(85, 1_000));
+        assertEquals(List.of(), arvore.intervalo(91, 1_000));
+        assertEquals(List.of(), arvore.intervalo(40, 30));
+        assertEquals(List.of(), new ArvoreBMais<Integer>(4).intervalo(0, 10));
+    }
+
+    @Test
+    void recusaOrdemMenorQueQuatro() {
+        assertThrows(IllegalArgumentException.class, () -> new ArvoreBMais<Integer>(3));
+    }
+
+    private static void comparar(TreeSet<Integer> esperado, ArvoreBMais<Integer> arvore, Random aleatorio,
+                                 int ordem) {
+        String contexto = "ordem " + ordem;
+        assertEquals(esperado.size(), arvore.tamanho(), contexto);
+        assertEquals(new ArrayList<>(esperado), arvore.getElementosEmOrdem(), contexto);
+        for (int i = 0; i < 50; i++) {
+            int a = aleatorio.nextInt(2_100) - 50;
+            int b = a + aleatorio.nextInt(300);
+            assertEquals(new ArrayList<>(esperado.subSet(a, true, b, true)), arvore.intervalo(a, b), contexto);
+            assertEquals(esperado.contains(a), arvore.contem(a), contexto);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package eventos;
+
+import gerenciador.GerenciadorReservas;
+import historico.HistoricoReservas;
+import modelos.Cliente;
+import modelos.Quarto;
+import modelos.Reserva;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static eventos.JornalEventos.TipoEvento.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class JornalEventosTest {
+
+    @Test
+    void cancelamentoChegaAntesDoArquivamento() {
+        HistoricoReservas historico = new HistoricoReservas();
+        historico.setVerboso(false);
+        GerenciadorReservas gerenciador = new GerenciadorReservas(historico);
+        gerenciador.setVerboso(false);
+        JornalEventos jornal = JornalEventos.conectar(gerenciador, historico, new JornalEventos(16));
+        JornalEventos.Leitor leitor = jornal.novoLeitor();
+
+        Quarto quarto = new Quarto(101, "Economico");
+        Reserva r = new Reserva(new Cliente("Ana", "529.982.247-25"), quarto,
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 3));
+        gerenciador.cadastrarReserva(r);
+        Reserva modificada = gerenciador.modificarReserva(r, quarto, LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 4));
+        gerenciador.cancelarReserva(modificada);
+
+        List<JornalEventos.TipoEvento> tipos = new ArrayList<>();
+        leitor.ler(16, e -> tipos.add(e.getTipo()));
+        assertEquals(List.of(CADASTRADA, MODIFICADA, CANCELADA, ARQUIVADA), tipos);
+    }
+
+    @Test
+    void doisLeitoresEmOutrasThreadsRecebemTodosOsEventosEmOrdem() throws InterruptedException {
+        JornalEventos jornal = new JornalEventos(8);
+        List<Reserva> publicadas = reservas(20_000);
+        List<Reserva> lidasA = new ArrayList<>();
+        List<Reserva> lidasB = new ArrayList<>();
+        List<Long> sequenciasA = new ArrayList<>();
+        // lotes de tamanhos diferentes: cada leitor avança a própria sequência
+        Thread a = leitorAte(jornal.novoLeitor(), 1, publicadas.size(), e -> {
+            lidasA.add(e.getReserva());
+            sequenciasA.add(e.getSequencia());
+        });
+        Thread b = leitorAte(jornal.novoLeitor(), 5, publicadas.size(), e -> lidasB.add(e.getReserva()));
+
+        for (Reserva r : publicadas) jornal.reservaCadastrada(r);
+        a.join(10_000);
+        b.join(10_000);
+
+        assertFalse(a.isAlive());
+        assertFalse(b.isAlive());
+        assertEquals(publicadas.size() - 1, jornal.getCursor());
+        assertEquals(publicadas, lidasA);
+        assertEquals(publicadas, lidasB);
+        for (int i = 0; i < sequenciasA.size(); i++) assertEquals(i, (long) sequenciasA.get(i));
+    }
+
+    @Test
+    void produtorEsperaOLeitorMaisLentoAteEleLer() throws InterruptedException {
+        JornalEventos jornal = new JornalEventos(4);
+        JornalEventos.Leitor rapido = jornal.novoLeitor();
+        JornalEventos.Leitor lento = jornal.novoLeitor();
+        List<Reserva> publicadas = reservas(6);
+        Thread produtor = produtor(jornal, publicadas);
+
+        aguardarCursor(jornal, 3);
+        rapido.ler(10, e -> { });
+        Thread.sleep(50);
+        // o rápido já leu tudo, mas o lento está uma volta atrás
+        assertTrue(produtor.isAlive());
+        assertEquals(3, jornal.getCursor());
+
+        List<Reserva> lidas = new ArrayList<>();
+        lento.ler(2, e -> lidas.add(e.getReserva()));
+        produtor.join(5_000);
+        assertFalse(produtor.isAlive());
+        assertEquals(1, jornal.getEsperasProdutor());
+        lento.ler(10, e -> lidas.add(e.getReserva()));
+        assertEquals(publicadas, lidas);
+        assertEquals(0, lento.atraso());
+        assertEquals(2, rapido.atraso());
+    }
+
+    @Test
+    void removerOLeitorLentoLiberaOProdutor() throws InterruptedException {
+        JornalEventos jornal = new JornalEventos(4);
+        JornalEventos.Leitor lento = jornal.novoLeitor();
+        Thread produtor = produtor(jornal, reservas(10));
+
+        aguardarCursor(jornal, 3);
+        Thread.sleep(50);
+        assertTrue(produtor.isAlive());
+
+        jornal.removerLeitor(lento);
+        produtor.join(5_000);
+        assertFalse(produtor.isAlive());
+        assertEquals(9, jornal.getCursor());
+    }
+
+    @Test
+    void gravadorEscreveTodosOsEventosAteOFechamento() throws IOException {
+        Path arquivo = Files.createTempFile("jornal", ".log");
+        try {
+            JornalEventos jornal = new JornalEventos(64);
+            GravadorJornal gravador = new GravadorJornal(jornal, arquivo);
+            List<Reserva> publicadas = reservas(5_000);
+            Reserva antiga = publicadas.get(0);
+            Reserva nova = new Reserva(antiga.getCliente(), new Quarto(202, "Luxo"),
+                    LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 4));
+
+            for (Reserva r : publicadas) jornal.reservaCadastrada(r);
+            jornal.reservaModificada(antiga, nova);
+            jornal.reservaCancelada(nova);
+            gravador.close();
+
+            List<String> linhas = Files.readAllLines(arquivo, StandardCharsets.UTF_8);
+            assertEquals(publicadas.size() + 2, linhas.size());
+            for (int i = 0; i < publicadas.size(); i++) {
+                Reserva r = publicadas.get(i);
+                assertEquals(List.of(String.valueOf(i), "CADASTRADA", "52998224725", "101",
+                        r.getDataCheckIn().toString(), r.getDataCheckOut().toString()), semInstante(linhas.get(i)));
+            }
+            int n = publicadas.size();
+            assertEquals(List.of(String.valueOf(n), "MODIFICADA", "52998224725", "202", "2025-03-01", "2025-03-04",
+                    "101", antiga.getDataCheckIn().toString(), antiga.getDataCheckOut().toString()),
+                    semInstante(linhas.get(n)));
+            assertEquals(List.of(String.valueOf(n + 1), "CANCELADA", "52998224725", "202", "2025-03-01", "2025-03-04"),
+                    semInstante(linhas.get(n + 1)));
+            // o leitor do gravador foi desligado: o produtor não espera mais por ele
+            for (Reserva r : reservas(200)) jornal.reservaCadastrada(r);
+        } finally {
+            Files.deleteIfExists(arquivo);
+        }
+    }
+
+    private static List<Reserva> reservas(int total) {
+        Cliente cliente = new Cliente("Ana", "529.982.247-25");
+        Quarto quarto = new Quarto(101, "Economico");
+        LocalDate base = LocalDate.of(2025, 1, 1);
+        List<Reserva> reservas = new ArrayList<>(total);
+        for (int i = 0; i < total; i++) {
+            reservas.add(new Reserva(cliente, quarto, base.plusDays(i), base.plusDays(i + 1)));
+        }
+        return reservas;
+    }
+
+    private static Thread leitorAte(JornalEventos.Leitor leitor, int lote, int total,
+                                    Consumer<JornalEventos.Evento> processador) {
+        Thread t = new Thread(() -> {
+            long lidos = 0;
+            while (lidos < total) {
+                lidos += leitor.lerAguardando(lote, processador, 100, TimeUnit.MILLISECONDS);
+            }
+        });
+        t.setDaemon(true);
+        t.start();
+        return t;
+    }
+
+    private static Thread produtor(JornalEventos jornal, List<Reserva> reservas) {
+        Thread t = new Thread(() -> {
+            for (Reserva r : reservas) jornal.reservaCadastrada(r);
+        });
+        t.setDaemon(true);
+        t.start();
+        return t;
+    }
+
+    private static void aguardarCursor(JornalEventos jornal, long sequencia) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (jornal.getCursor() < sequencia && System.nanoTime() < limite) Thread.sleep(1);
+        assertEquals(sequencia, jornal.getCursor());
+    }
+
+    // remove o instante (segundo campo), que depende do relógio
+    private static List<String> semInstante(String linha) {
+        List<String> campos = new ArrayList<>(List.of(linha.split(";")));
+        campos.remove(1);
+        return campos;
+    }
+}
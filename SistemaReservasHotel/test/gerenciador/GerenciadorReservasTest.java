@@ -0,0 +1,208 @@
+package gerenciador;
+
+import catalogo.CatalogoQuartos;
+import historico.HistoricoReservas;
+import metricas.MetricasOperacao;
+import metricas.RegistroMetricas;
+import modelos.Cliente;
+import modelos.Quarto;
+import modelos.RegistroEntidades;
+import modelos.Reserva;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GerenciadorReservasTest {
+
+    @Test
+    void metricasRotuladasSaoSeparadasPorInstancia() {
+        GerenciadorReservas a = novoGerenciador("teste-a");
+        GerenciadorReservas b = novoGerenciador("teste-b");
+
+        a.cadastrarReserva(reserva(101));
+        a.cadastrarReserva(reserva(102));
+        b.cadastrarReserva(reserva(101));
+
+        assertEquals(2, chamadas("GerenciadorReservas[teste-a]", "cadastrarReserva"));
+        assertEquals(1, chamadas("GerenciadorReservas[teste-b]", "cadastrarReserva"));
+    }
+
+    @Test
+    void cadastroEBloqueioNaoMedemAVerificacaoDeConflitoInterna() {
+        GerenciadorReservas g = novoGerenciador("teste-conflito");
+
+        g.cadastrarReserva(reserva(101));
+        g.bloquearQuarto(reserva(102), Duration.ofMinutes(5));
+        assertEquals(0, chamadas("GerenciadorReservas[teste-conflito]", "verificarConflito"));
+
+        g.verificarConflito(new Quarto(101, "Economico"), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 2));
+        assertEquals(1, chamadas("GerenciadorReservas[teste-conflito]", "verificarConflito"));
+    }
+
+    @Test
+    void quartosDisponiveisPeloCatalogoExcluemBloqueiosNoPrazo() {
+        GerenciadorReservas g = novoGerenciador("teste-disponiveis");
+        CatalogoQuartos catalogo = new CatalogoQuartos(new RegistroEntidades());
+        for (int numero = 101; numero <= 103; numero++) catalogo.adicionarQuarto(numero, "Economico");
+        LocalDate data = LocalDate.of(2025, 1, 2);
+
+        g.cadastrarReserva(reserva(101));
+        Reserva bloqueio = reserva(102);
+        g.bloquearQuarto(bloqueio, Duration.ofMinutes(5));
+        assertEquals(List.of(catalogo.buscarQuarto(103)), g.listarQuartosDisponiveis(catalogo, data, "Economico"));
+
+        g.liberarBloqueio(bloqueio);
+        assertEquals(List.of(catalogo.buscarQuarto(102), catalogo.buscarQuarto(103)),
+                g.listarQuartosDisponiveis(catalogo, data, "Economico"));
+    }
+
+    @Test
+    void bloqueioVencidoLiberaOQuartoENaoPodeSerConfirmado() {
+        GerenciadorReservas g = novoGerenciador("teste-expiracao");
+        RelogioControlado relogio = new RelogioControlado();
+        g.setRelogio(relogio);
+        CatalogoQuartos catalogo = new CatalogoQuartos(new RegistroEntidades());
+        catalogo.adicionarQuarto(101, "Economico");
+        LocalDate data = LocalDate.of(2025, 1, 2);
+        Reserva bloqueio = reserva(101);
+
+        assertTrue(g.bloquearQuarto(bloqueio, Duration.ofMinutes(5)));
+        relogio.avancar(Duration.ofMinutes(5).minusSeconds(1));
+        assertEquals(1, g.totalBloqueios());
+        assertTrue(g.listarQuartosDisponiveis(catalogo, data, "Economico").isEmpty());
+
+        relogio.avancar(Duration.ofSeconds(1));
+        assertEquals(0, g.totalBloqueios());
+        assertFalse(g.verificarConflito(bloqueio.getQuarto(), bloqueio.getDataCheckIn(), bloqueio.getDataCheckOut()));
+        assertEquals(List.of(catalogo.buscarQuarto(101)), g.listarQuartosDisponiveis(catalogo, data, "Economico"));
+        assertFalse(g.confirmarBloqueio(bloqueio));
+        assertEquals(0, g.totalReservasAtivas());
+        assertTrue(g.cadastrarReserva(reserva(101)));
+    }
+
+    @Test
+    void bloqueiosVencidosSaoLiberadosEmLoteEOsDemaisContinuam() {
+        GerenciadorReservas g = novoGerenciador("teste-expiracao-lote");
+        RelogioControlado relogio = new RelogioControlado();
+        g.setRelogio(relogio);
+        Reserva curto = reserva(101);
+        Reserva medio = reserva(102);
+        Reserva longo = reserva(103);
+        // prazo maior que uma volta da roda (~17 min)
+        Reserva muitoLongo = reserva(104);
+
+        assertTrue(g.bloquearQuarto(curto, Duration.ofMinutes(1)));
+        assertTrue(g.bloquearQuarto(medio, Duration.ofMinutes(2)));
+        assertTrue(g.bloquearQuarto(longo, Duration.ofMinutes(10)));
+        assertTrue(g.bloquearQuarto(muitoLongo, Duration.ofMinutes(30)));
+
+        relogio.avancar(Duration.ofMinutes(5));
+        assertEquals(2, g.expirarBloqueios());
+        assertEquals(2, g.totalBloqueios());
+        assertFalse(g.confirmarBloqueio(curto));
+        assertFalse(g.confirmarBloqueio(medio));
+
+        relogio.avancar(Duration.ofMinutes(20));
+        assertEquals(List.of(muitoLongo), g.listarBloqueios());
+        assertTrue(g.confirmarBloqueio(muitoLongo));
+        assertEquals(0, g.totalBloqueios());
+        assertEquals(1, g.totalReservasAtivas());
+
+        relogio.avancar(Duration.ofHours(1));
+        assertEquals(0, g.expirarBloqueios());
+        assertEquals(1, g.totalReservasAtivas());
+    }
+
+    @Test
+    void naoTrocaRelogioComBloqueiosPendentes() {
+        GerenciadorReservas g = novoGerenciador("teste-troca-relogio");
+        RelogioControlado relogio = new RelogioControlado();
+        g.setRelogio(relogio);
+        g.bloquearQuarto(reserva(101), Duration.ofMinutes(1));
+
+        assertThrows(IllegalStateException.class, () -> g.setRelogio(new RelogioControlado()));
+        relogio.avancar(Duration.ofMinutes(1));
+        assertEquals(0, g.totalBloqueios());
+        assertDoesNotThrow(() -> g.setRelogio(new RelogioControlado()));
+    }
+
+    @Test
+    void rotuloComCaracteresEspeciaisEPublicadoETrocaDeRotuloRetiraOAntigo() throws Exception {
+        RegistroMetricas.global().publicarJmx();
+        MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+        String rotulo = "Hotel Centro, ala=norte: \"A\"";
+        GerenciadorReservas g = novoGerenciador(rotulo);
+        ObjectName antigo = new ObjectName("reservashotel:type=Operacao,componente="
+                + ObjectName.quote("GerenciadorReservas[" + rotulo + "]") + ",nome=" + ObjectName.quote("cadastrarReserva"));
+        assertTrue(servidor.isRegistered(antigo));
+
+        g.setRotuloMetricas("teste-novo-rotulo");
+        g.cadastrarReserva(reserva(101));
+
+        assertFalse(servidor.isRegistered(antigo));
+        assertEquals(0, chamadas("GerenciadorReservas[" + rotulo + "]", "cadastrarReserva"));
+        assertEquals(1, chamadas("GerenciadorReservas[teste-novo-rotulo]", "cadastrarReserva"));
+    }
+
+    private static GerenciadorReservas novoGerenciador(String rotulo) {
+        HistoricoReservas historico = new HistoricoReservas();
+        historico.setVerboso(false);
+        historico.setRotuloMetricas(rotulo);
+        GerenciadorReservas gerenciador = new GerenciadorReservas(historico);
+        gerenciador.setVerboso(false);
+        gerenciador.setRotuloMetricas(rotulo);
+        return gerenciador;
+    }
+
+    private static Reserva reserva(int quarto) {
+        return new Reserva(new Cliente("Ana", "529.982.247-25"), new Quarto(quarto, "Economico"),
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 3));
+    }
+
+    /**
+     * Relógio que só anda quando o teste manda.
+     */
+    private static final class RelogioControlado extends Clock {
+        private Instant agora = Instant.parse("2025-01-01T12:00:00Z");
+
+        void avancar(Duration duracao) {
+            agora = agora.plus(duracao);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zona) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return agora;
+        }
+    }
+
+    private static long chamadas(String componente, String operacao) {
+        for (MetricasOperacao m : RegistroMetricas.global().listarOperacoes()) {
+            if (m.getComponente().equals(componente) && m.getNome().equals(operacao)) {
+                return m.getLatencias().contagem();
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,79 @@
+package historico;
+
+import gerenciador.GerenciadorReservas;
+import modelos.Cliente;
+import modelos.Quarto;
+import modelos.RegistroEntidades;
+import modelos.Reserva;
+import relatorios.AgregadosReservas;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HistoricoReservasTest {
+
+    private static final LocalDate CHECK_IN = LocalDate.of(2025, 1, 1);
+    private static final LocalDate CHECK_OUT = LocalDate.of(2025, 1, 3);
+
+    @Test
+    void cancelamentosRepetidosDoMesmoQuartoECheckInSaoTodosArquivados() {
+        HistoricoReservas historico = new HistoricoReservas();
+        historico.setVerboso(false);
+        GerenciadorReservas gerenciador = new GerenciadorReservas(historico);
+        gerenciador.setVerboso(false);
+        AgregadosReservas agregados = AgregadosReservas.conectar(gerenciador, historico);
+
+        Quarto quarto = new Quarto(101, "Economico");
+        Reserva a = new Reserva(new Cliente("Ana", "529.982.247-25"), quarto, CHECK_IN, CHECK_OUT);
+        Reserva b = new Reserva(new Cliente("Bruno", "111.444.777-35"), quarto, CHECK_IN, CHECK_OUT);
+
+        assertTrue(gerenciador.cadastrarReserva(a));
+        assertTrue(gerenciador.cancelarReserva(a));
+        assertTrue(gerenciador.cadastrarReserva(b));
+        assertTrue(gerenciador.cancelarReserva(b));
+
+        assertEquals(2, historico.totalReservasCanceladas());
+        assertEquals(List.of(a, b), historico.listarReservasCanceladas());
+        assertTrue(historico.contemReservaCancelada("529.982.247-25"));
+        assertTrue(historico.contemReservaCancelada("111.444.777-35"));
+        assertEquals(2, agregados.contarCancelamentos(CHECK_IN, CHECK_IN));
+        assertEquals(2, historico.getVersao());
+    }
+
+    @Test
+    void mesmaReservaCanceladaDuasVezesGeraDuasEntradas() {
+        HistoricoReservas historico = new HistoricoReservas();
+        historico.setVerboso(false);
+        Reserva r = new Reserva(new Cliente("Ana", "529.982.247-25"), new Quarto(101, "Economico"), CHECK_IN, CHECK_OUT);
+
+        historico.adicionarReservaCancelada(r);
+        historico.adicionarReservaCancelada(r);
+
+        assertEquals(2, historico.totalReservasCanceladas());
+    }
+
+    @Test
+    void reservasSaoRecriadasDaTabelaCompactaComQuartoEClienteDoRegistro() {
+        RegistroEntidades registro = new RegistroEntidades();
+        Quarto quarto = registro.internarQuarto(101, "Economico");
+        Cliente cliente = registro.internarCliente("Ana", "529.982.247-25");
+        HistoricoReservas historico = new HistoricoReservas(registro);
+        historico.setVerboso(false);
+
+        historico.adicionarReservaCancelada(new Reserva(cliente, quarto, CHECK_IN.plusDays(5), CHECK_OUT.plusDays(5)));
+        historico.adicionarReservaCancelada(new Reserva(cliente, quarto, CHECK_IN, CHECK_OUT));
+
+        List<Reserva> canceladas = historico.listarReservasCanceladas();
+        assertEquals(CHECK_IN, canceladas.get(0).getDataCheckIn());
+        assertSame(quarto, canceladas.get(0).getQuarto());
+        assertSame(cliente, canceladas.get(0).getCliente());
+        assertEquals(1, historico.contarCanceladas(CHECK_IN, CHECK_IN.plusDays(4)));
+        assertEquals(2, historico.contarCanceladas(CHECK_IN, CHECK_IN.plusDays(5)));
+        assertEquals(2, historico.cancelamentosDoCliente(cliente.getCpfNumerico()));
+        assertFalse(historico.contemReservaCancelada("111.444.777-35"));
+    }
+}
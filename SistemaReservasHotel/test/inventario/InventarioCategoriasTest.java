@@ -0,0 +1,95 @@
+package inventario;
+
+import catalogo.CatalogoQuartos;
+import gerenciador.GerenciadorReservas;
+import historico.HistoricoReservas;
+import modelos.Cliente;
+import modelos.Quarto;
+import modelos.RegistroEntidades;
+import modelos.Reserva;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InventarioCategoriasTest {
+
+    private static final LocalDate CHECK_IN = LocalDate.of(2025, 1, 2);
+    private static final LocalDate CHECK_OUT = LocalDate.of(2025, 1, 3);
+
+    private final Cliente cliente = new Cliente("Ana", "529.982.247-25");
+    private CatalogoQuartos catalogo;
+    private GerenciadorReservas gerenciador;
+    private InventarioCategorias inventario;
+
+    @BeforeEach
+    void preparar() {
+        catalogo = new CatalogoQuartos(new RegistroEntidades());
+        catalogo.adicionarQuarto(101, "Economico");
+        catalogo.adicionarQuarto(102, "Economico");
+        HistoricoReservas historico = new HistoricoReservas();
+        historico.setVerboso(false);
+        gerenciador = new GerenciadorReservas(historico);
+        gerenciador.setVerboso(false);
+        inventario = InventarioCategorias.conectar(gerenciador, catalogo,
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+    }
+
+    @Test
+    void cancelamentoDevolveAUnidadeDaCategoriaContada() {
+        Reserva r = reserva(101);
+        assertTrue(gerenciador.cadastrarReserva(r));
+        catalogo.retirarQuarto(101);
+
+        assertTrue(gerenciador.cancelarReserva(r));
+
+        assertEquals(0, inventario.vendidos("Economico", CHECK_IN));
+        assertEquals(0, inventario.vendidos("Economico", CHECK_OUT));
+    }
+
+    @Test
+    void bloqueioNaoOcupaUnidadeEPodeSerRecusadoNaConfirmacao() {
+        assertTrue(gerenciador.cadastrarReserva(reserva(101)));
+        Reserva pretendida = reserva(102);
+
+        assertTrue(gerenciador.bloquearQuarto(pretendida, Duration.ofMinutes(15)));
+        assertEquals(1, inventario.vendidos("Economico", CHECK_IN));
+
+        // a última unidade é vendida sem quarto enquanto o hóspede paga
+        assertNotNull(inventario.venderCategoria(cliente, "Economico", CHECK_IN, CHECK_OUT));
+
+        assertFalse(gerenciador.confirmarBloqueio(pretendida));
+        assertEquals(1, gerenciador.totalBloqueios());
+        assertEquals(2, inventario.vendidos("Economico", CHECK_IN));
+    }
+
+    @Test
+    void modificacaoNaMesmaCategoriaNaoContaAPropriaReserva() {
+        Reserva r = reserva(101);
+        assertTrue(gerenciador.cadastrarReserva(r));
+        assertTrue(gerenciador.cadastrarReserva(reserva(102)));
+
+        Reserva modificada = gerenciador.modificarReserva(r, r.getQuarto(), CHECK_IN, CHECK_OUT.plusDays(1));
+
+        assertNotNull(modificada);
+        assertEquals(1, inventario.vendidos("Economico", CHECK_OUT.plusDays(1)));
+    }
+
+    @Test
+    void quartoInternadoSoNoRegistroNaoEContadoEmNenhumaCategoria() {
+        Quarto fora = catalogo.getRegistro().internarQuarto(900, "Luxo");
+
+        assertEquals(-1, catalogo.categoriaDoQuarto(catalogo.idQuarto(fora)));
+        assertEquals(-1, catalogo.categoriaDoQuarto(1_000));
+        assertTrue(gerenciador.cadastrarReserva(new Reserva(cliente, fora, CHECK_IN, CHECK_OUT)));
+        assertEquals(0, inventario.vendidos("Economico", CHECK_IN));
+    }
+
+    private Reserva reserva(int quarto) {
+        return new Reserva(cliente, catalogo.buscarQuarto(quarto), CHECK_IN, CHECK_OUT);
+    }
+}
@@ -0,0 +1,29 @@
+package modelos;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CpfTest {
+
+    @Test
+    void aceitaApenasDigitosOuAMascaraExata() {
+        assertEquals(52998224725L, Cpf.parse("529.982.247-25").getNumero());
+        assertEquals(52998224725L, Cpf.parse("52998224725").getNumero());
+
+        assertFalse(Cpf.valido("abc529x982247y25"));
+        assertFalse(Cpf.valido("529-982-247.25"));
+        assertFalse(Cpf.valido("529.982.24725"));
+        assertFalse(Cpf.valido(" 52998224725"));
+        assertFalse(Cpf.valido("529 982 247 25"));
+        assertFalse(Cpf.valido("529982247250"));
+    }
+
+    @Test
+    void rejeitaDigitosVerificadoresErradosESequenciasRepetidas() {
+        assertFalse(Cpf.valido("529.982.247-26"));
+        assertFalse(Cpf.valido("111.111.111-11"));
+        assertNull(Cpf.tentarParse("00000000000"));
+        assertThrows(IllegalArgumentException.class, () -> Cpf.parse("529.982.247-2a"));
+    }
+}
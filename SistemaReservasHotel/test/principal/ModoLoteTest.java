@@ -0,0 +1,100 @@
+package principal;
+
+import catalogo.CatalogoQuartos;
+import gerenciador.GerenciadorReservas;
+import historico.HistoricoReservas;
+import modelos.RegistroEntidades;
+import relatorios.AgregadosReservas;
+import relatorios.CacheRelatorios;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ModoLoteTest {
+
+    private RegistroEntidades registro;
+    private ModoLote lote;
+
+    @BeforeEach
+    void preparar() {
+        registro = new RegistroEntidades();
+        CatalogoQuartos catalogo = new CatalogoQuartos(registro);
+        HistoricoReservas historico = new HistoricoReservas(registro);
+        GerenciadorReservas gerenciador = new GerenciadorReservas(historico);
+        lote = new ModoLote(gerenciador, historico, registro, catalogo,
+                AgregadosReservas.conectar(gerenciador, historico),
+                CacheRelatorios.conectar(gerenciador, historico, catalogo, 16));
+    }
+
+    @Test
+    void cadaComandoGeraUmaLinhaDeResultado() throws IOException {
+        String script = String.join("\n",
+                "# quartos",
+                "QUARTO;101;Economico",
+                "QUARTO;102;Luxo",
+                "RESERVAR;Ana;529.982.247-25;101;01/01/2025;03/01/2025",
+                "RESERVAR;Bruno;123.456.789-09;101;02/01/2025;04/01/2025",
+                "",
+                "RESERVAR;Carla;987.654.321-00;101;1/2/2025;03/02/2025",
+                "RESERVAR;Carla;987.654.321-00;101;31/02/2025;03/03/2025",
+                "RESERVAR;Carla;987.654.321-00;999;01/01/2025;02/01/2025",
+                "RESERVAR;Carla;000.000.000-00;102;01/01/2025;02/01/2025",
+                "RESERVAR;Carla",
+                "CANCELAR;123.456.789-09",
+                "CONSULTAR;529.982.247-25",
+                "CANCELAR;529.982.247-25",
+                "CONSULTAR;529.982.247-25",
+                "DESCONHECIDO",
+                "LISTAR");
+
+        StringBuilder resumo = new StringBuilder();
+        List<String> linhas = executar(script, resumo);
+
+        assertEquals(15, linhas.size(), String.join("\n", linhas));
+        assertTrue(linhas.get(0).startsWith("OK quarto adicionado"));
+        assertTrue(linhas.get(1).startsWith("OK quarto adicionado"));
+        assertTrue(linhas.get(2).startsWith("OK reserva cadastrada"));
+        assertEquals("CONFLITO quarto 101", linhas.get(3));
+        assertTrue(linhas.get(4).startsWith("ERRO linha 7: Data inválida"), linhas.get(4));
+        assertTrue(linhas.get(5).startsWith("ERRO linha 8: Data inexistente"), linhas.get(5));
+        assertTrue(linhas.get(6).startsWith("ERRO linha 9: Quarto inválido"), linhas.get(6));
+        assertTrue(linhas.get(7).startsWith("ERRO linha 10: "), linhas.get(7));
+        assertEquals("ERRO linha 11: campos insuficientes", linhas.get(8));
+        assertEquals("NAO_ENCONTRADA 123.456.789-09", linhas.get(9));
+        assertTrue(linhas.get(10).startsWith("OK "));
+        assertTrue(linhas.get(11).startsWith("OK reserva cancelada"));
+        assertEquals("NAO_ENCONTRADA 529.982.247-25", linhas.get(12));
+        assertTrue(linhas.get(13).startsWith("ERRO linha 16: Comando desconhecido"), linhas.get(13));
+        assertEquals("OK 0 reservas", linhas.get(14));
+
+        // só os clientes de comandos válidos entram no registro
+        assertEquals(2, registro.totalClientes());
+        assertTrue(resumo.toString().startsWith("Lote: 15 comandos (6 com erro)"), resumo.toString());
+    }
+
+    @Test
+    void conversorDeDatasAceitaApenasOFormatoCompleto() {
+        assertEquals(LocalDate.of(2025, 1, 1), ModoLote.data("01/01/2025"));
+        assertEquals(LocalDate.of(2024, 2, 29), ModoLote.data(" 29/02/2024 "));
+
+        for (String invalida : List.of("1/2/2025", "01/2/2025", "31/02/2025", "29/02/2025", "00/01/2025",
+                "01/13/2025", "0a/01/2025", "01/01/20x5", "+1/01/2025", "01-01-2025", "01/01/2025x", "")) {
+            assertThrows(IllegalArgumentException.class, () -> ModoLote.data(invalida), invalida);
+        }
+    }
+
+    private List<String> executar(String script, StringBuilder resumo) throws IOException {
+        StringWriter saida = new StringWriter();
+        lote.executar(new BufferedReader(new StringReader(script)), saida, resumo);
+        return saida.toString().lines().toList();
+    }
+}
@@ -0,0 +1,125 @@
+package propriedades;
+
+import metricas.MetricasOperacao;
+import metricas.RegistroMetricas;
+import modelos.Cpf;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoteadorPropriedadesTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2025, 1, 1);
+
+    private RoteadorPropriedades roteador;
+
+    @BeforeEach
+    void preparar() {
+        roteador = new RoteadorPropriedades();
+        roteador.adicionarPropriedade(1, "Hotel Centro");
+        roteador.adicionarPropriedade(2, "Hotel Praia");
+        roteador.adicionarQuarto(1, 101, "Economico").join();
+        roteador.adicionarQuarto(1, 102, "Economico").join();
+        roteador.adicionarQuarto(2, 101, "Economico").join();
+        roteador.adicionarQuarto(2, 201, "Luxo").join();
+
+        assertTrue(reservar(1, "Ana", "529.982.247-25", 101, 0, 2));
+        assertTrue(reservar(1, "Bruno", "123.456.789-09", 101, 4, 6));
+        assertTrue(reservar(1, "Carla", "987.654.321-00", 102, 1, 3));
+        assertTrue(reservar(2, "Davi", "111.444.777-35", 101, 0, 1));
+        assertTrue(reservar(2, "Eva", "390.533.447-05", 201, 9, 11));
+    }
+
+    @AfterEach
+    void encerrar() throws InterruptedException {
+        assertTrue(roteador.encerrar(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void quartosMaisReservadosCombinaAsPropriedadesSemConfundirNumerosRepetidos() {
+        List<RoteadorPropriedades.QuartoDaPropriedade> top = roteador.quartosMaisReservados(3).join();
+
+        assertEquals(3, top.size());
+        assertQuarto(top.get(0), 1, 101, 2);
+        // empates em ordem de propriedade e depois de número do quarto
+        assertQuarto(top.get(1), 1, 102, 1);
+        assertQuarto(top.get(2), 2, 101, 1);
+    }
+
+    @Test
+    void taxaDaRedeSomaOsQuartosOcupadosDeCadaPropriedade() {
+        LocalDate fim = JAN_1.plusDays(3);
+
+        // propriedade 1: 101 e 102 ocupados; propriedade 2: só o 101 → 3 de 4 quartos
+        assertEquals(75.0, roteador.calcularTaxaOcupacao(JAN_1, fim).join(), 1e-9);
+        assertEquals(Map.of(1, 100.0, 2, 50.0), roteador.ocupacaoPorPropriedade(JAN_1, fim).join());
+        assertEquals(0.0, roteador.calcularTaxaOcupacao(JAN_1.plusDays(20), JAN_1.plusDays(25)).join(), 1e-9);
+    }
+
+    @Test
+    void contagemDeQuartosOcupadosTemMetricaPropria() {
+        long taxaAntes = chamadas("calcularTaxaOcupacao");
+        long ocupadosAntes = chamadas("contarQuartosOcupados");
+
+        roteador.calcularTaxaOcupacao(JAN_1, JAN_1.plusDays(3)).join();
+
+        assertEquals(taxaAntes, chamadas("calcularTaxaOcupacao"));
+        assertEquals(ocupadosAntes + 2, chamadas("contarQuartosOcupados"));
+    }
+
+    @Test
+    void estadoDaPropriedadeSoEAcessivelNaThreadDela() {
+        Propriedade p = roteador.getPropriedade(1);
+
+        assertThrows(IllegalStateException.class, p::getGerenciador);
+        assertThrows(IllegalStateException.class, p::getCatalogo);
+        int ativas = roteador.executar(1, q -> q.getGerenciador().totalReservasAtivas()).join();
+        assertEquals(3, ativas);
+    }
+
+    @Test
+    void reservaInvalidaNaoInternaOCliente() {
+        Cpf cpf = Cpf.parse("52998224725");
+        int clientes = roteador.executar(2, p -> p.getRegistro().totalClientes()).join();
+
+        CompletionException quartoInexistente = assertThrows(CompletionException.class,
+                () -> roteador.cadastrarReserva(2, "Fabio", cpf, 999, JAN_1, JAN_1.plusDays(1)).join());
+        assertTrue(quartoInexistente.getCause() instanceof IllegalArgumentException);
+        CompletionException datasInvertidas = assertThrows(CompletionException.class,
+                () -> roteador.cadastrarReserva(2, "Fabio", cpf, 201, JAN_1.plusDays(1), JAN_1).join());
+        assertTrue(datasInvertidas.getCause() instanceof IllegalArgumentException);
+
+        int clientesDepois = roteador.executar(2, p -> p.getRegistro().totalClientes()).join();
+        assertEquals(clientes, clientesDepois);
+    }
+
+    private boolean reservar(int propriedade, String nome, String cpf, int quarto, int diaCheckIn, int diaCheckOut) {
+        return roteador.cadastrarReserva(propriedade, nome, Cpf.parse(cpf), quarto,
+                JAN_1.plusDays(diaCheckIn), JAN_1.plusDays(diaCheckOut)).join();
+    }
+
+    private static void assertQuarto(RoteadorPropriedades.QuartoDaPropriedade q, int propriedade, int numero,
+                                     int reservas) {
+        assertEquals(propriedade, q.getIdPropriedade());
+        assertEquals(numero, q.getQuarto().getNumero());
+        assertEquals(reservas, q.getReservas());
+    }
+
+    private static long chamadas(String relatorio) {
+        for (MetricasOperacao m : RegistroMetricas.global().listarOperacoes()) {
+            if (m.getComponente().equals("RelatoriosGerenciais") && m.getNome().equals(relatorio)) {
+                return m.getLatencias().contagem();
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,172 @@
+package relatorios;
+
+import catalogo.CatalogoQuartos;
+import gerenciador.GerenciadorReservas;
+import historico.HistoricoReservas;
+import modelos.Cliente;
+import modelos.Quarto;
+import modelos.RegistroEntidades;
+import modelos.Reserva;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AgregadosReservasTest {
+
+    private static final LocalDate BASE = LocalDate.of(2025, 1, 1);
+
+    private CatalogoQuartos catalogo;
+    private HistoricoReservas historico;
+    private GerenciadorReservas gerenciador;
+    private AgregadosReservas agregados;
+    private Cliente cliente;
+
+    @BeforeEach
+    void preparar() {
+        catalogo = new CatalogoQuartos(new RegistroEntidades());
+        for (int numero = 101; numero <= 112; numero++) catalogo.adicionarQuarto(numero, "Economico");
+        historico = new HistoricoReservas();
+        historico.setVerboso(false);
+        gerenciador = new GerenciadorReservas(historico);
+        gerenciador.setVerboso(false);
+        agregados = AgregadosReservas.conectar(gerenciador, historico);
+        agregados.registrarQuartos(catalogo.listarQuartos());
+        cliente = new Cliente("Ana", "529.982.247-25");
+    }
+
+    @Test
+    void quartoRemovidoComReservasContinuaContadoAteAUltimaSair() {
+        Quarto q101 = catalogo.buscarQuarto(101);
+        Quarto q102 = catalogo.buscarQuarto(102);
+        Reserva primeira = reservar(q101, 0, 2);
+        Reserva segunda = reservar(q101, 5, 7);
+
+        catalogo.retirarQuarto(101);
+        agregados.removerQuarto(q101);
+        assertEquals(2, agregados.reservasDoQuarto(q101));
+        assertEquals(List.of(Map.entry(q101, 2)), agregados.quartosMaisReservados(1));
+
+        assertTrue(gerenciador.cancelarReserva(primeira));
+        assertEquals(1, agregados.reservasDoQuarto(q101));
+        assertNotNull(gerenciador.modificarReserva(segunda, q102, BASE.plusDays(5), BASE.plusDays(7)));
+
+        // a última reserva saiu: o quarto some dos relatórios, sem ficar com contagem negativa
+        assertEquals(0, agregados.reservasDoQuarto(q101));
+        assertFalse(agregados.quartosMenosReservados(100).stream().anyMatch(e -> e.getKey().equals(q101)));
+        assertEquals(List.of(Map.entry(q102, 1)), agregados.quartosMaisReservados(3));
+        compararComRelatorios();
+    }
+
+    @Test
+    void quartoRemovidoSemReservasSaiNaHoraEVoltaAoSerRegistrado() {
+        Quarto q103 = catalogo.buscarQuarto(103);
+        agregados.removerQuarto(q103);
+        assertFalse(agregados.quartosMenosReservados(100).stream().anyMatch(e -> e.getKey().equals(q103)));
+
+        agregados.registrarQuarto(q103);
+        Reserva r = reservar(q103, 0, 1);
+        agregados.removerQuarto(q103);
+        agregados.registrarQuarto(q103);
+        assertTrue(gerenciador.cancelarReserva(r));
+        // registrado de novo: continua nos relatórios com zero reservas
+        assertTrue(agregados.quartosMenosReservados(100).contains(Map.entry(q103, 0)));
+    }
+
+    @Test
+    void rankingsECancelamentosIguaisAosRelatoriosGerenciais() {
+        Random aleatorio = new Random(30);
+        List<Quarto> quartos = catalogo.listarQuartos();
+
+        for (int i = 0; i < 3_000; i++) {
+            List<Reserva> ativas = gerenciador.listarReservas();
+            int operacao = aleatorio.nextInt(10);
+            if (operacao < 6 || ativas.isEmpty()) {
+                int dia = aleatorio.nextInt(200);
+                gerenciador.cadastrarReserva(new Reserva(cliente, quartos.get(aleatorio.nextInt(quartos.size())),
+                        BASE.plusDays(dia), BASE.plusDays(dia + 1 + aleatorio.nextInt(4))));
+            } else if (operacao < 8) {
+                gerenciador.cancelarReserva(ativas.get(aleatorio.nextInt(ativas.size())));
+            } else {
+                int dia = aleatorio.nextInt(200);
+                gerenciador.modificarReserva(ativas.get(aleatorio.nextInt(ativas.size())),
+                        quartos.get(aleatorio.nextInt(quartos.size())), BASE.plusDays(dia), BASE.plusDays(dia + 2));
+            }
+            if (i == 1_500) {
+                // quarto retirado no meio, ainda com reservas
+                Quarto retirado = catalogo.buscarQuarto(107);
+                assertTrue(agregados.reservasDoQuarto(retirado) > 0);
+                catalogo.retirarQuarto(107);
+                agregados.removerQuarto(retirado);
+            }
+            if (i % 100 == 0) compararComRelatorios();
+        }
+        compararComRelatorios();
+    }
+
+    @Test
+    void contadorDiarioIgualAContagemDireta() {
+        ContadorDiario contador = new ContadorDiario();
+        int[] esperado = new int[2_000];   // dias de BASE - 1000 até BASE + 999
+        Random aleatorio = new Random(7);
+
+        assertEquals(0, contador.soma(BASE, BASE.plusDays(10)));
+        assertEquals(0, contador.total());
+        assertEquals(0, contador.contagem(BASE));
+
+        for (int i = 0; i < 5_000; i++) {
+            // começa perto de BASE e espalha para os dois lados, forçando o crescimento do intervalo
+            int alcance = Math.min(1_000, 10 + i / 4);
+            int dia = aleatorio.nextInt(2 * alcance) - alcance;
+            int delta = aleatorio.nextInt(4) == 0 ? -1 : 1;
+            contador.adicionar(BASE.plusDays(dia), delta);
+            esperado[dia + 1_000] += delta;
+
+            if (i % 250 == 0) {
+                for (int k = 0; k < 20; k++) {
+                    int de = aleatorio.nextInt(2_400) - 1_200;
+                    int ate = de + aleatorio.nextInt(600);
+                    assertEquals(somar(esperado, de, ate), contador.soma(BASE.plusDays(de), BASE.plusDays(ate)));
+                    int d = aleatorio.nextInt(2_400) - 1_200;
+                    assertEquals(d < -1_000 || d >= 1_000 ? 0 : esperado[d + 1_000], contador.contagem(BASE.plusDays(d)));
+                }
+            }
+        }
+        assertEquals(somar(esperado, -1_000, 999), contador.total());
+        assertEquals(0, contador.soma(BASE.plusDays(10), BASE.plusDays(5)));
+    }
+
+    private void compararComRelatorios() {
+        List<Reserva> ativas = gerenciador.listarReservas();
+        for (int topN : new int[]{1, 3, 100}) {
+            assertEquals(RelatoriosGerenciais.quartosMaisReservados(ativas, topN),
+                    agregados.quartosMaisReservados(topN));
+            assertEquals(RelatoriosGerenciais.quartosMenosReservados(ativas, catalogo, topN),
+                    agregados.quartosMenosReservados(topN));
+        }
+        for (int dia = 0; dia < 220; dia += 37) {
+            LocalDate de = BASE.plusDays(dia);
+            LocalDate ate = de.plusDays(45);
+            assertEquals(RelatoriosGerenciais.contarCancelamentos(historico, de, ate),
+                    agregados.contarCancelamentos(de, ate));
+        }
+    }
+
+    private Reserva reservar(Quarto quarto, int checkIn, int checkOut) {
+        Reserva r = new Reserva(cliente, quarto, BASE.plusDays(checkIn), BASE.plusDays(checkOut));
+        assertTrue(gerenciador.cadastrarReserva(r));
+        return r;
+    }
+
+    private static long somar(int[] esperado, int de, int ate) {
+        long soma = 0;
+        for (int d = Math.max(de, -1_000); d <= Math.min(ate, 999); d++) soma += esperado[d + 1_000];
+        return soma;
+    }
+}
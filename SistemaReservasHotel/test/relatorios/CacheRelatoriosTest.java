@@ -0,0 +1,158 @@
+package relatorios;
+
+import catalogo.CatalogoQuartos;
+import gerenciador.GerenciadorReservas;
+import historico.HistoricoReservas;
+import modelos.Cliente;
+import modelos.Quarto;
+import modelos.RegistroEntidades;
+import modelos.Reserva;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheRelatoriosTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2025, 1, 1);
+    private static final LocalDate JAN_31 = LocalDate.of(2025, 1, 31);
+
+    private CatalogoQuartos catalogo;
+    private HistoricoReservas historico;
+    private GerenciadorReservas gerenciador;
+    private CacheRelatorios cache;
+    private Cliente cliente;
+
+    @BeforeEach
+    void preparar() {
+        catalogo = new CatalogoQuartos(new RegistroEntidades());
+        for (int numero = 101; numero <= 104; numero++) catalogo.adicionarQuarto(numero, "Economico");
+        for (int numero = 201; numero <= 202; numero++) catalogo.adicionarQuarto(numero, "Luxo");
+        historico = new HistoricoReservas();
+        historico.setVerboso(false);
+        gerenciador = new GerenciadorReservas(historico);
+        gerenciador.setVerboso(false);
+        cache = CacheRelatorios.conectar(gerenciador, historico, catalogo, 64);
+        cliente = new Cliente("Ana", "529.982.247-25");
+    }
+
+    @Test
+    void alteracaoForaDoPeriodoMantemOResultadoEDentroInvalida() {
+        Reserva janeiro = reservar(101, JAN_1.plusDays(4), JAN_1.plusDays(6));
+        assertEquals(100.0 / 6, cache.calcularTaxaOcupacao(JAN_1, JAN_31), 1e-9);
+
+        // junho: janeiro continua válido
+        Reserva junho = reservar(102, LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 3));
+        long acertos = cache.getAcertos();
+        assertEquals(100.0 / 6, cache.calcularTaxaOcupacao(JAN_1, JAN_31), 1e-9);
+        assertEquals(acertos + 1, cache.getAcertos());
+
+        // estadia que só encosta no último dia do período
+        reservar(103, JAN_31, JAN_31.plusDays(2));
+        assertEquals(200.0 / 6, cache.calcularTaxaOcupacao(JAN_1, JAN_31), 1e-9);
+
+        // modificação de junho para janeiro: o período novo é registrado
+        assertNotNull(gerenciador.modificarReserva(junho, junho.getQuarto(), JAN_1.plusDays(10), JAN_1.plusDays(12)));
+        assertEquals(300.0 / 6, cache.calcularTaxaOcupacao(JAN_1, JAN_31), 1e-9);
+
+        // cancelamento em janeiro: ocupação e contagem de cancelamentos mudam
+        assertEquals(0, cache.contarCancelamentos(JAN_1, JAN_31));
+        assertTrue(gerenciador.cancelarReserva(janeiro));
+        assertEquals(200.0 / 6, cache.calcularTaxaOcupacao(JAN_1, JAN_31), 1e-9);
+        assertEquals(1, cache.contarCancelamentos(JAN_1, JAN_31));
+        assertTrue(cache.getInvalidacoes() >= 4);
+    }
+
+    @Test
+    void rankingsSaoInvalidadosPorQualquerAlteracao() {
+        reservar(101, JAN_1, JAN_1.plusDays(1));
+        assertEquals(List.of(RelatoriosGerenciais.quartosMaisReservados(gerenciador.listarReservas(), 1).get(0)),
+                cache.quartosMaisReservados(1));
+
+        reservar(102, LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 2));
+        reservar(102, LocalDate.of(2025, 7, 1), LocalDate.of(2025, 7, 2));
+        assertEquals(102, cache.quartosMaisReservados(1).get(0).getKey().getNumero());
+    }
+
+    @Test
+    void alteracaoNoCatalogoInvalidaTudo() {
+        reservar(101, JAN_1, JAN_1.plusDays(1));
+        assertEquals(100.0 / 6, cache.calcularTaxaOcupacao(JAN_1, JAN_31), 1e-9);
+
+        catalogo.adicionarQuarto(203, "Luxo");
+        assertEquals(100.0 / 7, cache.calcularTaxaOcupacao(JAN_1, JAN_31), 1e-9);
+    }
+
+    @Test
+    void registroDeAlteracoesEstouradoNaoDeixaPassarResultadoAntigo() {
+        assertEquals(0.0, cache.calcularTaxaOcupacao(JAN_1, JAN_31), 1e-9);
+        // mais alterações fora do período do que o cache registra
+        for (int i = 0; i < 2_100; i++) {
+            LocalDate dia = LocalDate.of(2026, 1, 1).plusDays(i);
+            Reserva r = reservar(101, dia, dia);
+            assertTrue(gerenciador.cancelarReserva(r));
+        }
+        reservar(101, JAN_1, JAN_1.plusDays(1));
+
+        assertEquals(100.0 / 6, cache.calcularTaxaOcupacao(JAN_1, JAN_31), 1e-9);
+    }
+
+    @Test
+    void nenhumAcertoDevolveResultadoDesatualizado() {
+        Random aleatorio = new Random(31);
+        List<Quarto> quartos = catalogo.listarQuartos();
+        LocalDate[][] periodos = {
+                {JAN_1, JAN_31},
+                {JAN_1.plusDays(10), JAN_1.plusDays(12)},
+                {LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31)},
+                {LocalDate.of(2025, 1, 25), LocalDate.of(2025, 2, 5)}
+        };
+
+        for (int i = 0; i < 1_500; i++) {
+            List<Reserva> ativas = gerenciador.listarReservas();
+            int operacao = aleatorio.nextInt(10);
+            // estadias entre janeiro e abril: umas caem nos períodos em cache, outras não
+            LocalDate checkIn = JAN_1.plusDays(aleatorio.nextInt(120));
+            LocalDate checkOut = checkIn.plusDays(aleatorio.nextInt(5));
+            Quarto quarto = quartos.get(aleatorio.nextInt(quartos.size()));
+            if (operacao < 5 || ativas.isEmpty()) {
+                gerenciador.cadastrarReserva(new Reserva(cliente, quarto, checkIn, checkOut));
+            } else if (operacao < 8) {
+                gerenciador.cancelarReserva(ativas.get(aleatorio.nextInt(ativas.size())));
+            } else {
+                gerenciador.modificarReserva(ativas.get(aleatorio.nextInt(ativas.size())), quarto, checkIn, checkOut);
+            }
+
+            List<Reserva> atuais = gerenciador.listarReservas();
+            for (LocalDate[] p : periodos) {
+                assertEquals(RelatoriosGerenciais.calcularTaxaOcupacao(atuais, catalogo, p[0], p[1]),
+                        cache.calcularTaxaOcupacao(p[0], p[1]), "operação " + i);
+                assertEquals(RelatoriosGerenciais.ocupacaoDiaria(atuais, catalogo, p[0], p[1]),
+                        cache.ocupacaoDiaria(p[0], p[1]), "operação " + i);
+                assertEquals(RelatoriosGerenciais.ocupacaoPorCategoria(atuais, catalogo, p[0], p[1]),
+                        cache.ocupacaoPorCategoria(p[0], p[1]), "operação " + i);
+                assertEquals(RelatoriosGerenciais.contarCancelamentos(historico, p[0], p[1]),
+                        cache.contarCancelamentos(p[0], p[1]), "operação " + i);
+            }
+            assertEquals(RelatoriosGerenciais.alertaCapacidade(atuais, catalogo, JAN_1.plusDays(11), 50.0),
+                    cache.alertaCapacidade(JAN_1.plusDays(11), 50.0), "operação " + i);
+            assertEquals(RelatoriosGerenciais.quartosMaisReservados(atuais, 3), cache.quartosMaisReservados(3));
+            assertEquals(RelatoriosGerenciais.quartosMenosReservados(atuais, catalogo, 3),
+                    cache.quartosMenosReservados(3));
+        }
+        // o teste só vale se o cache acertou de verdade em parte das consultas
+        assertTrue(cache.getAcertos() > 0);
+        assertTrue(cache.getInvalidacoes() > 0);
+    }
+
+    private Reserva reservar(int quarto, LocalDate checkIn, LocalDate checkOut) {
+        Reserva r = new Reserva(cliente, catalogo.buscarQuarto(quarto), checkIn, checkOut);
+        assertTrue(gerenciador.cadastrarReserva(r));
+        return r;
+    }
+}
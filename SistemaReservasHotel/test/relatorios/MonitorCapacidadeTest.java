@@ -0,0 +1,93 @@
+package relatorios;
+
+import catalogo.CatalogoQuartos;
+import gerenciador.GerenciadorReservas;
+import historico.HistoricoReservas;
+import modelos.Cliente;
+import modelos.RegistroEntidades;
+import modelos.Reserva;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonitorCapacidadeTest {
+
+    private static final LocalDate INICIO = LocalDate.of(2025, 1, 1);
+    private static final LocalDate FIM = LocalDate.of(2025, 1, 10);
+
+    private CatalogoQuartos catalogo;
+    private GerenciadorReservas gerenciador;
+    private MonitorCapacidade monitor;
+    private final List<MonitorCapacidade.AlertaCapacidade> recebidos = new ArrayList<>();
+
+    @BeforeEach
+    void preparar() {
+        catalogo = new CatalogoQuartos(new RegistroEntidades());
+        catalogo.adicionarQuarto(101, "Economico");
+        catalogo.adicionarQuarto(102, "Economico");
+        HistoricoReservas historico = new HistoricoReservas();
+        historico.setVerboso(false);
+        gerenciador = new GerenciadorReservas(historico);
+        gerenciador.setVerboso(false);
+        monitor = MonitorCapacidade.conectar(gerenciador, catalogo, INICIO, FIM, 50.0);
+        monitor.assinar(recebidos::add);
+    }
+
+    @Test
+    void cancelamentoDeQuartoRetiradoDescontaDaCategoriaContada() {
+        Reserva r = reservar(101, 2, 3);
+        catalogo.retirarQuarto(101);
+
+        assertTrue(gerenciador.cancelarReserva(r));
+
+        assertEquals(0.0, monitor.ocupacaoEm(LocalDate.of(2025, 1, 2)));
+        assertEquals(0.0, monitor.ocupacaoEm(LocalDate.of(2025, 1, 2), "Economico"));
+        assertTrue(monitor.alertasAtivos().isEmpty());
+    }
+
+    @Test
+    void categoriaCriadaDepoisDoMonitorGanhaContadores() {
+        catalogo.adicionarQuarto(301, "Suite");
+
+        reservar(301, 4, 4);
+
+        assertEquals(100.0, monitor.ocupacaoEm(LocalDate.of(2025, 1, 4), "Suite"));
+        assertTrue(recebidos.stream().anyMatch(a -> a.isAtivo() && "Suite".equals(a.getCategoria())));
+    }
+
+    @Test
+    void quartoAdicionadoReavaliaOsAlertas() {
+        reservar(101, 5, 5);
+        assertEquals(2, monitor.alertasAtivos().size()); // hotel e categoria em 50%
+
+        catalogo.adicionarQuarto(103, "Economico");
+
+        assertTrue(monitor.alertasAtivos().isEmpty());
+        assertTrue(recebidos.stream().anyMatch(a -> !a.isAtivo()));
+    }
+
+    @Test
+    void modificacaoNaoOscilaOsDiasComunsAsDuasEstadias() {
+        Reserva r = reservar(101, 5, 6);
+        recebidos.clear();
+
+        assertNotNull(gerenciador.modificarReserva(r, r.getQuarto(), LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 7)));
+
+        assertTrue(recebidos.stream().noneMatch(a -> a.getData().equals(LocalDate.of(2025, 1, 6))));
+        assertEquals(2, recebidos.stream().filter(a -> a.getData().equals(LocalDate.of(2025, 1, 5)) && !a.isAtivo()).count());
+        assertEquals(2, recebidos.stream().filter(a -> a.getData().equals(LocalDate.of(2025, 1, 7)) && a.isAtivo()).count());
+    }
+
+    private Reserva reservar(int quarto, int diaCheckIn, int diaCheckOut) {
+        Reserva r = new Reserva(new Cliente("Ana", "529.982.247-25"), catalogo.buscarQuarto(quarto),
+                LocalDate.of(2025, 1, diaCheckIn), LocalDate.of(2025, 1, diaCheckOut));
+        assertTrue(gerenciador.cadastrarReserva(r));
+        return r;
+    }
+}
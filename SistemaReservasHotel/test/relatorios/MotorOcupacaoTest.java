@@ -0,0 +1,158 @@
+package relatorios;
+
+import catalogo.CatalogoQuartos;
+import gerenciador.GerenciadorReservas;
+import historico.HistoricoReservas;
+import modelos.Cliente;
+import modelos.Quarto;
+import modelos.RegistroEntidades;
+import modelos.Reserva;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MotorOcupacaoTest {
+
+    private static final LocalDate BASE = LocalDate.of(2025, 1, 1);
+
+    private CatalogoQuartos catalogo;
+    private List<Reserva> reservas;
+
+    @BeforeEach
+    void preparar() {
+        catalogo = new CatalogoQuartos(new RegistroEntidades());
+        for (int numero = 101; numero <= 108; numero++) catalogo.adicionarQuarto(numero, "Economico");
+        for (int numero = 201; numero <= 204; numero++) catalogo.adicionarQuarto(numero, "Luxo");
+        HistoricoReservas historico = new HistoricoReservas();
+        historico.setVerboso(false);
+        GerenciadorReservas gerenciador = new GerenciadorReservas(historico);
+        gerenciador.setVerboso(false);
+
+        Random aleatorio = new Random(29);
+        Cliente cliente = new Cliente("Ana", "529.982.247-25");
+        List<Quarto> quartos = catalogo.listarQuartos();
+        for (int i = 0; i < 600; i++) {
+            LocalDate checkIn = BASE.plusDays(aleatorio.nextInt(90));
+            gerenciador.cadastrarReserva(new Reserva(cliente, quartos.get(aleatorio.nextInt(quartos.size())),
+                    checkIn, checkIn.plusDays(aleatorio.nextInt(6))));
+        }
+        // estadia longa, do começo ao fim dos dados
+        assertTrue(gerenciador.cadastrarReserva(
+                new Reserva(cliente, new Quarto(999, "Luxo"), BASE.minusDays(5), BASE.plusDays(120))));
+        catalogo.adicionarQuarto(999, "Luxo");
+
+        // fora de ordem de check-in
+        reservas = new ArrayList<>(gerenciador.listarReservas());
+        Collections.shuffle(reservas, aleatorio);
+        assertTrue(reservas.size() > 200);
+
+        // retirado depois de reservado: não conta em nenhum relatório
+        assertTrue(catalogo.retirarQuarto(103));
+    }
+
+    @Test
+    void taxaPorPeriodoIgualAosRelatoriosGerenciais() {
+        MotorOcupacao motor = MotorOcupacao.construir(reservas, catalogo);
+
+        for (LocalDate[] p : periodos()) {
+            assertEquals(RelatoriosGerenciais.calcularTaxaOcupacao(reservas, catalogo, p[0], p[1]),
+                    motor.calcularTaxaOcupacao(p[0], p[1]), 1e-9, p[0] + " a " + p[1]);
+            for (String categoria : List.of("Economico", "Luxo")) {
+                assertEquals(taxaPorPeriodo(categoria, p[0], p[1]),
+                        motor.calcularTaxaOcupacao(p[0], p[1], categoria), 1e-9, categoria + " " + p[0] + " a " + p[1]);
+            }
+        }
+    }
+
+    @Test
+    void serieDiariaIgualAOcupacaoDiariaEAContagemDireta() {
+        MotorOcupacao motor = MotorOcupacao.construir(reservas, catalogo);
+
+        for (LocalDate[] p : periodos()) {
+            // ocupacaoDiaria usa o próprio motor: a contagem direta é a referência independente
+            assertEquals(RelatoriosGerenciais.ocupacaoDiaria(reservas, catalogo, p[0], p[1]).values().stream()
+                    .map(t -> (int) Math.round(t * catalogo.totalQuartos() / 100)).toList(),
+                    paraLista(motor.serieDiaria(p[0], p[1])));
+
+            int[] serie = motor.serieDiaria(p[0], p[1]);
+            int[] luxo = motor.serieDiaria(p[0], p[1], "Luxo");
+            long diarias = 0;
+            for (int d = 0; d < serie.length; d++) {
+                LocalDate dia = p[0].plusDays(d);
+                assertEquals(ocupadosEm(null, dia), serie[d], dia.toString());
+                assertEquals(ocupadosEm("Luxo", dia), luxo[d], dia.toString());
+                assertEquals(serie[d], motor.quartosOcupadosEm(dia));
+                assertEquals(luxo[d], motor.quartosOcupadosEm(dia, "Luxo"));
+                diarias += serie[d];
+            }
+            double media = serie.length == 0 ? 0.0 : 100.0 * diarias / ((double) catalogo.totalQuartos() * serie.length);
+            assertEquals(media, motor.taxaOcupacaoMedia(p[0], p[1]), 1e-9);
+        }
+    }
+
+    @Test
+    void semReservasECategoriaDesconhecida() {
+        MotorOcupacao vazio = MotorOcupacao.construir(List.of(), catalogo);
+        assertEquals(0.0, vazio.calcularTaxaOcupacao(BASE, BASE.plusDays(30)), 0.0);
+        assertArrayEquals(new int[31], vazio.serieDiaria(BASE, BASE.plusDays(30)));
+        assertEquals(0.0, vazio.taxaOcupacaoMedia(BASE, BASE.plusDays(30)), 0.0);
+
+        MotorOcupacao motor = MotorOcupacao.construir(reservas, catalogo);
+        assertEquals(0.0, motor.calcularTaxaOcupacao(BASE, BASE.plusDays(30), "Presidencial"), 0.0);
+        assertEquals(0, motor.quartosOcupadosEm(BASE, "Presidencial"));
+        assertArrayEquals(new int[3], motor.serieDiaria(BASE, BASE.plusDays(2), "Presidencial"));
+        assertEquals(0, motor.serieDiaria(BASE.plusDays(2), BASE).length);
+    }
+
+    // Períodos dentro dos dados, cortando estadias nas bordas, e antes e depois de todas as reservas
+    private static List<LocalDate[]> periodos() {
+        return List.of(
+                new LocalDate[]{BASE, BASE.plusDays(95)},
+                new LocalDate[]{BASE.plusDays(10), BASE.plusDays(10)},
+                new LocalDate[]{BASE.plusDays(33), BASE.plusDays(47)},
+                new LocalDate[]{BASE.minusDays(30), BASE.plusDays(2)},
+                new LocalDate[]{BASE.plusDays(93), BASE.plusDays(130)},
+                new LocalDate[]{BASE.minusDays(60), BASE.minusDays(10)},
+                new LocalDate[]{BASE.plusDays(200), BASE.plusDays(210)});
+    }
+
+    // Contagem direta de quartos ativos ocupados no dia (categoria null = todas)
+    private int ocupadosEm(String categoria, LocalDate dia) {
+        Set<Integer> quartos = new HashSet<>();
+        for (Reserva r : reservas) {
+            if (!ativo(r.getQuarto(), categoria)) continue;
+            if (!r.getDataCheckIn().isAfter(dia) && !r.getDataCheckOut().isBefore(dia)) quartos.add(r.getQuarto().getNumero());
+        }
+        return quartos.size();
+    }
+
+    private double taxaPorPeriodo(String categoria, LocalDate inicio, LocalDate fim) {
+        Set<Integer> quartos = new HashSet<>();
+        for (Reserva r : reservas) {
+            if (!ativo(r.getQuarto(), categoria)) continue;
+            if (!r.getDataCheckIn().isAfter(fim) && !r.getDataCheckOut().isBefore(inicio)) quartos.add(r.getQuarto().getNumero());
+        }
+        return 100.0 * quartos.size() / catalogo.quartosDaCategoria(categoria).size();
+    }
+
+    private boolean ativo(Quarto quarto, String categoria) {
+        Quarto doCatalogo = catalogo.buscarQuarto(quarto.getNumero());
+        return doCatalogo != null && (categoria == null || doCatalogo.getCategoria().equals(categoria));
+    }
+
+    private static List<Integer> paraLista(int[] serie) {
+        List<Integer> lista = new ArrayList<>(serie.length);
+        for (int v : serie) lista.add(v);
+        return lista;
+    }
+}
@@ -0,0 +1,134 @@
+package relatorios;
+
+import catalogo.CatalogoQuartos;
+import historico.HistoricoReservas;
+import modelos.Cliente;
+import modelos.Quarto;
+import modelos.RegistroEntidades;
+import modelos.Reserva;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MotorRelatoriosParaleloTest {
+
+    private static final LocalDate BASE = LocalDate.of(2025, 1, 1);
+    private static final int[] TRABALHADORES = {1, 2, 3, 4, 8};
+
+    private CatalogoQuartos catalogo;
+    private HistoricoReservas historico;
+    private List<Reserva> ativas;
+    private List<Reserva> canceladas;
+    private final List<ForkJoinPool> pools = new ArrayList<>();
+
+    @BeforeEach
+    void preparar() {
+        RegistroEntidades registro = new RegistroEntidades();
+        catalogo = new CatalogoQuartos(registro);
+        for (int andar = 1; andar <= 4; andar++) {
+            for (int n = 1; n <= 10; n++) catalogo.adicionarQuarto(andar * 100 + n, andar <= 2 ? "Economico" : "Luxo");
+        }
+        historico = new HistoricoReservas(registro);
+        historico.setVerboso(false);
+
+        Random aleatorio = new Random(32);
+        List<Quarto> quartos = catalogo.listarQuartos();
+        Cliente cliente = new Cliente("Ana", "529.982.247-25");
+        ativas = new ArrayList<>();
+        for (int i = 0; i < 30_000; i++) {
+            // o quarto 999 nunca esteve no catálogo
+            Quarto quarto = i % 500 == 0 ? new Quarto(999, "Luxo") : quartos.get(aleatorio.nextInt(quartos.size()));
+            LocalDate checkIn = BASE.plusDays(aleatorio.nextInt(365));
+            Reserva r = new Reserva(cliente, quarto, checkIn, checkIn.plusDays(1 + aleatorio.nextInt(7)));
+            if (aleatorio.nextInt(10) == 0) historico.adicionarReservaCancelada(r);
+            else ativas.add(r);
+        }
+        // em ordem de check-in, como devolvida pelo gerenciador
+        ativas.sort(Comparator.naturalOrder());
+        canceladas = historico.listarReservasCanceladas();
+
+        // retirado depois de reservado: continua nas listas, mas fora da ocupação e do ranking de menos reservados
+        assertTrue(catalogo.retirarQuarto(105));
+        assertTrue(ativas.stream().anyMatch(r -> r.getQuarto().getNumero() == 105));
+    }
+
+    @AfterEach
+    void encerrar() {
+        for (ForkJoinPool pool : pools) pool.shutdown();
+    }
+
+    @Test
+    void mesmosResultadosQueOsRelatoriosSequenciaisParaQualquerPool() {
+        LocalDate[][] periodos = {
+                {BASE, BASE.plusDays(364)},
+                {BASE.plusDays(100), BASE.plusDays(130)},
+                {BASE.minusDays(10), BASE.plusDays(3)},
+                {BASE.plusDays(360), BASE.plusDays(400)},
+                {BASE.plusDays(500), BASE.plusDays(510)},
+                {BASE.plusDays(50), BASE.plusDays(50)}
+        };
+        int total = catalogo.capacidadeIds() + 1;
+
+        for (int trabalhadores : TRABALHADORES) {
+            MotorRelatoriosParalelo motor = new MotorRelatoriosParalelo(novoPool(trabalhadores));
+            String contexto = trabalhadores + " trabalhadores";
+
+            for (LocalDate[] p : periodos) {
+                assertEquals(RelatoriosGerenciais.calcularTaxaOcupacao(ativas, catalogo, p[0], p[1]),
+                        motor.calcularTaxaOcupacao(ativas, catalogo, p[0], p[1]), contexto);
+                assertEquals(RelatoriosGerenciais.ocupacaoDiaria(ativas, catalogo, p[0], p[1]),
+                        motor.ocupacaoDiaria(ativas, catalogo, p[0], p[1]), contexto);
+                assertEquals(RelatoriosGerenciais.contarCancelamentos(historico, p[0], p[1]),
+                        motor.contarCancelamentos(canceladas, p[0], p[1]), contexto);
+            }
+            for (int topN : new int[]{1, 5, total}) {
+                assertEquals(RelatoriosGerenciais.quartosMaisReservados(ativas, topN),
+                        motor.quartosMaisReservados(ativas, catalogo, topN), contexto);
+                assertEquals(RelatoriosGerenciais.quartosMenosReservados(ativas, catalogo, topN),
+                        motor.quartosMenosReservados(ativas, catalogo, topN), contexto);
+            }
+        }
+    }
+
+    @Test
+    void quartoRetiradoSemReservasSaiDoRankingDeMenosReservados() {
+        Quarto novo = catalogo.adicionarQuarto(501, "Luxo");
+        MotorRelatoriosParalelo motor = new MotorRelatoriosParalelo(novoPool(4));
+        assertEquals(Map.entry(novo, 0),
+                motor.quartosMenosReservados(ativas, catalogo, 1).get(0));
+
+        catalogo.retirarQuarto(501);
+        assertEquals(RelatoriosGerenciais.quartosMenosReservados(ativas, catalogo, 1),
+                motor.quartosMenosReservados(ativas, catalogo, 1));
+        assertNotEquals(novo, motor.quartosMenosReservados(ativas, catalogo, 1).get(0).getKey());
+    }
+
+    @Test
+    void listasVaziasECatalogoVazio() {
+        MotorRelatoriosParalelo motor = new MotorRelatoriosParalelo(novoPool(2));
+        CatalogoQuartos vazio = new CatalogoQuartos(new RegistroEntidades());
+
+        assertEquals(0.0, motor.calcularTaxaOcupacao(List.of(), catalogo, BASE, BASE.plusDays(10)), 0.0);
+        assertEquals(0, motor.contarCancelamentos(List.of(), BASE, BASE.plusDays(10)));
+        assertEquals(List.of(), motor.quartosMaisReservados(List.of(), catalogo, 3));
+        assertEquals(0.0, motor.calcularTaxaOcupacao(ativas, vazio, BASE, BASE.plusDays(10)), 0.0);
+        assertTrue(motor.ocupacaoDiaria(ativas, vazio, BASE, BASE.plusDays(10)).isEmpty());
+    }
+
+    private ForkJoinPool novoPool(int trabalhadores) {
+        ForkJoinPool pool = new ForkJoinPool(trabalhadores);
+        pools.add(pool);
+        return pool;
+    }
+}
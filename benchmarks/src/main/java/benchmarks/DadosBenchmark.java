@@ -0,0 +1,116 @@
+package benchmarks;
+
+import carga.PopulacaoHospedes;
+import catalogo.CatalogoQuartos;
+import gerenciador.GerenciadorReservas;
+import historico.HistoricoReservas;
+import modelos.Cliente;
+import modelos.Quarto;
+import modelos.RegistroEntidades;
+import modelos.Reserva;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Massa de dados sintética e determinística (semente fixa) usada pelos benchmarks.
+ *
+ * As reservas geradas não têm conflitos entre si: cada quarto recebe estadias de 1 a 7 dias
+ * em sequência, separadas por intervalos de 1 a 4 dias, a partir de {@link #DATA_BASE}.
+ */
+final class DadosBenchmark {
+
+    static final LocalDate DATA_BASE = LocalDate.of(2025, 1, 1);
+    static final String[] CATEGORIAS = {"Economico", "Luxo", "Suite"};
+    static final long SEMENTE = 42L;
+
+    final RegistroEntidades registro;
+    final CatalogoQuartos catalogo;
+    final List<Quarto> quartos;
+    final List<Reserva> reservas;
+
+    // último dia ocupado (epoch day) de cada quarto, para gerar novas reservas sem conflito
+    private final long[] ultimoDia;
+    private final SplittableRandom aleatorio;
+
+    private DadosBenchmark(int totalQuartos) {
+        this.registro = new RegistroEntidades();
+        this.catalogo = new CatalogoQuartos(registro);
+        for (int i = 0; i < totalQuartos; i++) {
+            catalogo.adicionarQuarto(100 + i, CATEGORIAS[i % CATEGORIAS.length]);
+        }
+        this.quartos = catalogo.listarQuartos();
+        this.reservas = new ArrayList<>();
+        this.ultimoDia = new long[totalQuartos];
+        Arrays.fill(ultimoDia, DATA_BASE.toEpochDay() - 1);
+        this.aleatorio = new SplittableRandom(SEMENTE);
+    }
+
+    /**
+     * @param totalReservas Reservas a gerar, distribuídas entre os quartos em rodízio
+     * @param totalQuartos  Quartos do catálogo
+     * @return massa de dados com reservas em ordem de geração
+     */
+    static DadosBenchmark gerar(int totalReservas, int totalQuartos) {
+        DadosBenchmark dados = new DadosBenchmark(totalQuartos);
+        for (int i = 0; i < totalReservas; i++) {
+            dados.reservas.add(dados.novaReserva(i % totalQuartos));
+        }
+        return dados;
+    }
+
+    /**
+     * Cria uma reserva no quarto logo após a última estadia gerada para ele.
+     */
+    Reserva novaReserva(int indiceQuarto) {
+        long checkIn = ultimoDia[indiceQuarto] + 1 + aleatorio.nextInt(4);
+        long checkOut = checkIn + aleatorio.nextInt(7);
+        ultimoDia[indiceQuarto] = checkOut;
+        Cliente cliente = registro.internarCliente("Cliente " + reservas.size(), PopulacaoHospedes.gerarCpf(reservas.size()));
+        return new Reserva(cliente, quartos.get(indiceQuarto),
+                LocalDate.ofEpochDay(checkIn), LocalDate.ofEpochDay(checkOut));
+    }
+
+    /**
+     * Gerenciador silencioso com todas as reservas cadastradas e as de índice múltiplo de
+     * {@code passoCancelamento} já canceladas (0 para não cancelar nenhuma).
+     */
+    GerenciadorReservas carregarGerenciador(HistoricoReservas historico, int passoCancelamento) {
+        historico.setVerboso(false);
+        GerenciadorReservas gerenciador = new GerenciadorReservas(historico);
+        gerenciador.setVerboso(false);
+        for (Reserva r : reservas) {
+            gerenciador.cadastrarReserva(r);
+        }
+        if (passoCancelamento > 0) {
+            for (int i = 0; i < reservas.size(); i += passoCancelamento) {
+                gerenciador.cancelarReserva(reservas.get(i));
+            }
+        }
+        return gerenciador;
+    }
+
+    LocalDate dataAleatoria() {
+        return DATA_BASE.plusDays(aleatorio.nextInt(diasCobertos()));
+    }
+
+    Quarto quartoAleatorio() {
+        return quartos.get(aleatorio.nextInt(quartos.size()));
+    }
+
+    int indiceAleatorio(int limite) {
+        return aleatorio.nextInt(limite);
+    }
+
+    /**
+     * @return dias entre {@link #DATA_BASE} e a última estadia gerada
+     */
+    int diasCobertos() {
+        long max = DATA_BASE.toEpochDay();
+        for (long d : ultimoDia) max = Math.max(max, d);
+        return (int) (max - DATA_BASE.toEpochDay() + 1);
+    }
+}
@@ -0,0 +1,92 @@
+package benchmarks;
+
+import gerenciador.GerenciadorReservas;
+import historico.HistoricoReservas;
+import modelos.Quarto;
+import modelos.Reserva;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cadastro, verificação de conflito e listagem de quartos disponíveis no {@link GerenciadorReservas}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GerenciadorReservasBenchmark {
+
+    @Param({"1000", "10000"})
+    int reservas;
+
+    @Param({"50", "500"})
+    int quartos;
+
+    private DadosBenchmark dados;
+    private GerenciadorReservas gerenciador;
+    private Reserva conflitante;
+    private LocalDate data;
+    private Quarto quarto;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        dados = DadosBenchmark.gerar(reservas, quartos);
+        gerenciador = dados.carregarGerenciador(new HistoricoReservas(), 0);
+        conflitante = dados.reservas.get(reservas / 2);
+    }
+
+    @Setup(Level.Iteration)
+    public void sortear() {
+        data = dados.dataAleatoria();
+        quarto = dados.quartoAleatorio();
+    }
+
+    /**
+     * Cadastro bem-sucedido seguido do cancelamento, para manter o volume de reservas ativas.
+     */
+    @Benchmark
+    public boolean cadastrarECancelar() {
+        Reserva nova = dados.novaReserva(dados.indiceAleatorio(quartos));
+        gerenciador.cadastrarReserva(nova);
+        return gerenciador.cancelarReserva(nova);
+    }
+
+    /**
+     * Cadastro recusado por conflito (sem alterar o estado).
+     */
+    @Benchmark
+    public boolean cadastrarComConflito() {
+        return gerenciador.cadastrarReserva(conflitante);
+    }
+
+    @Benchmark
+    public boolean verificarConflito() {
+        return gerenciador.verificarConflito(quarto, data, data.plusDays(3));
+    }
+
+    @Benchmark
+    public List<Quarto> listarQuartosDisponiveisLista() {
+        return gerenciador.listarQuartosDisponiveis(dados.quartos, data, "Luxo");
+    }
+
+    @Benchmark
+    public List<Quarto> listarQuartosDisponiveisCatalogo() {
+        return gerenciador.listarQuartosDisponiveis(dados.catalogo, data, "Luxo");
+    }
+}
@@ -0,0 +1,146 @@
+package benchmarks;
+
+import arevores.ArvoreBMais;
+import arevores.ArvoreRubroNegra;
+import arevores.IndiceOrdenado;
+import modelos.Quarto;
+import modelos.Reserva;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserção, busca, remoção, percurso em ordem e consulta por intervalo das estruturas de
+ * {@link IndiceOrdenado} com reservas: {@link ArvoreRubroNegra} contra {@link ArvoreBMais}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndiceOrdenadoBenchmark {
+
+    @Param({"1000", "100000"})
+    int tamanho;
+
+    @Param({"100"})
+    int quartos;
+
+    @Param({"rubroNegra", "bMais"})
+    String estrutura;
+
+    private List<Reserva> reservas;
+    private List<Reserva> reservasEmOrdem;
+    private IndiceOrdenado<Reserva> arvore;
+    private Reserva ausente;
+    private Reserva inicioIntervalo;
+    private Reserva fimIntervalo;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        DadosBenchmark dados = DadosBenchmark.gerar(tamanho + 1, quartos);
+        reservas = dados.reservas.subList(0, tamanho);
+        ausente = dados.reservas.get(tamanho);
+        arvore = novoIndice();
+        for (Reserva r : reservas) {
+            arvore.inserir(r);
+        }
+        reservasEmOrdem = new ArrayList<>(arvore.getElementosEmOrdem());
+
+        // janela de 30 dias no meio do período coberto
+        LocalDate meio = DadosBenchmark.DATA_BASE.plusDays(dados.diasCobertos() / 2);
+        inicioIntervalo = limite(dados, meio, 0);
+        fimIntervalo = limite(dados, meio.plusDays(30), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constrói a árvore inteira; o tempo por reserva é o resultado dividido por {@code tamanho}.
+     */
+    @Benchmark
+    public IndiceOrdenado<Reserva> construir() {
+        IndiceOrdenado<Reserva> nova = novoIndice();
+        for (Reserva r : reservas) {
+            nova.inserir(r);
+        }
+        return nova;
+    }
+
+    /**
+     * Constrói inserindo sempre no fim da ordem, como um histórico que só cresce.
+     */
+    @Benchmark
+    public IndiceOrdenado<Reserva> construirEmOrdem() {
+        IndiceOrdenado<Reserva> nova = novoIndice();
+        for (Reserva r : reservasEmOrdem) {
+            nova.inserir(r);
+        }
+        return nova;
+    }
+
+    @Benchmark
+    public boolean buscarExistente() {
+        return arvore.contem(proxima());
+    }
+
+    @Benchmark
+    public boolean buscarAusente() {
+        return arvore.contem(ausente);
+    }
+
+    /**
+     * Remove e reinsere a mesma reserva, mantendo o tamanho da árvore constante.
+     */
+    @Benchmark
+    public boolean removerEInserir() {
+        Reserva r = proxima();
+        arvore.remover(r);
+        return arvore.inserir(r);
+    }
+
+    @Benchmark
+    public List<Reserva> percorrerEmOrdem() {
+        return arvore.getElementosEmOrdem();
+    }
+
+    @Benchmark
+    public List<Reserva> intervalo() {
+        return arvore.intervalo(inicioIntervalo, fimIntervalo);
+    }
+
+    @Benchmark
+    public int altura() {
+        return arvore.altura();
+    }
+
+    private IndiceOrdenado<Reserva> novoIndice() {
+        return "bMais".equals(estrutura) ? new ArvoreBMais<>() : new ArvoreRubroNegra<>();
+    }
+
+    // Reserva-limite para o intervalo: compara por check-in e depois pelo número do quarto
+    private static Reserva limite(DadosBenchmark dados, LocalDate checkIn, int numeroQuarto) {
+        return new Reserva(dados.reservas.get(0).getCliente(), new Quarto(Math.max(numeroQuarto, 1), "Limite"),
+                checkIn, checkIn);
+    }
+
+    private Reserva proxima() {
+        Reserva r = reservas.get(cursor);
+        cursor = (cursor + 7919) % tamanho; // passo primo: visita todas sem seguir a ordem
+        return r;
+    }
+}
@@ -0,0 +1,70 @@
+package benchmarks;
+
+import historico.HistoricoReservas;
+import modelos.Reserva;
+import modelos.TabelaReservasCompactas;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bytes retidos no heap por reserva em cada representação: objetos {@link Reserva},
+ * {@link TabelaReservasCompactas} e o {@link HistoricoReservas} inteiro (tabela + índice).
+ *
+ * Quartos e clientes já estão internados no registro antes das medições, então só entra na conta
+ * o que cada representação acrescenta. Não é um benchmark JMH: mede o heap usado depois de coletas
+ * completas, antes e depois de montar cada estrutura. Para números estáveis use um coletor serial:
+ * <pre>
+ *     java -XX:+UseSerialGC -cp benchmarks/target/benchmarks.jar benchmarks.MemoriaReservasBenchmark 1000000
+ * </pre>
+ */
+public class MemoriaReservasBenchmark {
+
+    private static final int QUARTOS = 500;
+
+    public static void main(String[] args) {
+        int total = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        DadosBenchmark dados = DadosBenchmark.gerar(total, QUARTOS);
+        MemoryMXBean memoria = ManagementFactory.getMemoryMXBean();
+
+        long antes = heapUsado(memoria);
+        List<Reserva> objetos = new ArrayList<>(total);
+        for (Reserva r : dados.reservas) {
+            // datas novas, como as de reservas lidas da entrada
+            objetos.add(new Reserva(r.getCliente(), r.getQuarto(),
+                    LocalDate.ofEpochDay(r.getDataCheckIn().toEpochDay()),
+                    LocalDate.ofEpochDay(r.getDataCheckOut().toEpochDay())));
+        }
+        double bytesObjetos = (double) (heapUsado(memoria) - antes) / total;
+
+        antes = heapUsado(memoria);
+        TabelaReservasCompactas tabela = new TabelaReservasCompactas(dados.registro, total);
+        for (Reserva r : dados.reservas) tabela.adicionar(r);
+        double bytesTabela = (double) (heapUsado(memoria) - antes) / total;
+
+        antes = heapUsado(memoria);
+        HistoricoReservas historico = new HistoricoReservas(dados.registro);
+        historico.setVerboso(false);
+        for (Reserva r : dados.reservas) historico.adicionarReservaCancelada(r);
+        double bytesHistorico = (double) (heapUsado(memoria) - antes) / total;
+
+        System.out.printf("Reservas: %d%n", total);
+        System.out.printf("List<Reserva>:            %6.1f bytes/reserva%n", bytesObjetos);
+        System.out.printf("TabelaReservasCompactas:  %6.1f bytes/reserva (%.1fx menor)%n",
+                bytesTabela, bytesObjetos / bytesTabela);
+        System.out.printf("HistoricoReservas:        %6.1f bytes/reserva%n", bytesHistorico);
+
+        // mantém as estruturas vivas até o fim das medições
+        if (objetos.size() + tabela.tamanho() + historico.totalReservasCanceladas() < 0) {
+            System.out.println();
+        }
+    }
+
+    private static long heapUsado(MemoryMXBean memoria) {
+        for (int i = 0; i < 3; i++) System.gc();
+        return memoria.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,135 @@
+package benchmarks;
+
+import historico.HistoricoReservas;
+import modelos.Quarto;
+import modelos.Reserva;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import relatorios.MotorRelatoriosParalelo;
+import relatorios.RelatoriosGerenciais;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Escalabilidade do {@link MotorRelatoriosParalelo} com 1, 2, 4 e 8 trabalhadores, comparado às
+ * sobrecargas sequenciais (catálogo) de {@link RelatoriosGerenciais} sobre os mesmos dados.
+ * Os métodos sequenciais não usam o pool: o resultado deles é o mesmo para qualquer
+ * {@code trabalhadores} e serve de base para o ganho de cada contagem de trabalhadores.
+ *
+ * Para medir só o motor paralelo: {@code java -jar target/benchmarks.jar MotorRelatoriosParaleloBenchmark.paralelo}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MotorRelatoriosParaleloBenchmark {
+
+    private static final int TOP_N = 3;
+
+    @Param({"100000", "1000000"})
+    int reservas;
+
+    @Param({"1", "2", "4", "8"})
+    int trabalhadores;
+
+    private DadosBenchmark dados;
+    private HistoricoReservas historico;
+    private List<Reserva> ativas;
+    private List<Reserva> canceladas;
+    private ForkJoinPool pool;
+    private MotorRelatoriosParalelo motor;
+    private LocalDate inicio;
+    private LocalDate fim;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        dados = DadosBenchmark.gerar(reservas, 500);
+        historico = new HistoricoReservas();
+        ativas = dados.carregarGerenciador(historico, 10).listarReservas();
+        canceladas = historico.listarReservasCanceladas();
+        pool = new ForkJoinPool(trabalhadores);
+        motor = new MotorRelatoriosParalelo(pool);
+        inicio = DadosBenchmark.DATA_BASE.plusDays(dados.diasCobertos() / 2);
+        fim = inicio.plusDays(29);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        pool.shutdown();
+    }
+
+    // ==========================
+    // PARALELO
+    // ==========================
+
+    @Benchmark
+    public double paraleloCalcularTaxaOcupacao() {
+        return motor.calcularTaxaOcupacao(ativas, dados.catalogo, inicio, fim);
+    }
+
+    @Benchmark
+    public Map<LocalDate, Double> paraleloOcupacaoDiaria() {
+        return motor.ocupacaoDiaria(ativas, dados.catalogo, inicio, fim);
+    }
+
+    @Benchmark
+    public List<Map.Entry<Quarto, Integer>> paraleloQuartosMaisReservados() {
+        return motor.quartosMaisReservados(ativas, dados.catalogo, TOP_N);
+    }
+
+    @Benchmark
+    public List<Map.Entry<Quarto, Integer>> paraleloQuartosMenosReservados() {
+        return motor.quartosMenosReservados(ativas, dados.catalogo, TOP_N);
+    }
+
+    @Benchmark
+    public int paraleloContarCancelamentos() {
+        return motor.contarCancelamentos(canceladas, inicio, fim);
+    }
+
+    // ==========================
+    // SEQUENCIAL (BASE)
+    // ==========================
+
+    @Benchmark
+    public double sequencialCalcularTaxaOcupacao() {
+        return RelatoriosGerenciais.calcularTaxaOcupacao(ativas, dados.catalogo, inicio, fim);
+    }
+
+    @Benchmark
+    public Map<LocalDate, Double> sequencialOcupacaoDiaria() {
+        return RelatoriosGerenciais.ocupacaoDiaria(ativas, dados.catalogo, inicio, fim);
+    }
+
+    @Benchmark
+    public List<Map.Entry<Quarto, Integer>> sequencialQuartosMaisReservados() {
+        return RelatoriosGerenciais.quartosMaisReservados(ativas, TOP_N);
+    }
+
+    @Benchmark
+    public List<Map.Entry<Quarto, Integer>> sequencialQuartosMenosReservados() {
+        return RelatoriosGerenciais.quartosMenosReservados(ativas, dados.catalogo, TOP_N);
+    }
+
+    @Benchmark
+    public int sequencialContarCancelamentos() {
+        return RelatoriosGerenciais.contarCancelamentos(historico, inicio, fim);
+    }
+}
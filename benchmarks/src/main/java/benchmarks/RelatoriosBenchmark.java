@@ -0,0 +1,117 @@
+package benchmarks;
+
+import gerenciador.GerenciadorReservas;
+import historico.HistoricoReservas;
+import modelos.Quarto;
+import modelos.Reserva;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import relatorios.RelatoriosGerenciais;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Todos os métodos de {@link RelatoriosGerenciais}, sobre um período de 30 dias no meio dos dados.
+ * Uma em cada dez reservas é cancelada antes da medição, para alimentar o histórico.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RelatoriosBenchmark {
+
+    private static final int TOP_N = 3;
+    private static final double LIMITE = 90.0;
+
+    @Param({"1000", "10000"})
+    int reservas;
+
+    @Param({"50", "500"})
+    int quartos;
+
+    private DadosBenchmark dados;
+    private HistoricoReservas historico;
+    private List<Reserva> ativas;
+    private LocalDate inicio;
+    private LocalDate fim;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        dados = DadosBenchmark.gerar(reservas, quartos);
+        historico = new HistoricoReservas();
+        GerenciadorReservas gerenciador = dados.carregarGerenciador(historico, 10);
+        ativas = gerenciador.listarReservas();
+        inicio = DadosBenchmark.DATA_BASE.plusDays(dados.diasCobertos() / 2);
+        fim = inicio.plusDays(29);
+    }
+
+    @Benchmark
+    public double calcularTaxaOcupacaoLista() {
+        return RelatoriosGerenciais.calcularTaxaOcupacao(ativas, dados.quartos, inicio, fim);
+    }
+
+    @Benchmark
+    public double calcularTaxaOcupacaoCatalogo() {
+        return RelatoriosGerenciais.calcularTaxaOcupacao(ativas, dados.catalogo, inicio, fim);
+    }
+
+    @Benchmark
+    public Map<LocalDate, Double> ocupacaoDiaria() {
+        return RelatoriosGerenciais.ocupacaoDiaria(ativas, dados.catalogo, inicio, fim);
+    }
+
+    @Benchmark
+    public Map<String, Double> ocupacaoPorCategoria() {
+        return RelatoriosGerenciais.ocupacaoPorCategoria(ativas, dados.catalogo, inicio, fim);
+    }
+
+    @Benchmark
+    public List<Map.Entry<Quarto, Integer>> quartosMaisReservados() {
+        return RelatoriosGerenciais.quartosMaisReservados(ativas, TOP_N);
+    }
+
+    @Benchmark
+    public List<Map.Entry<Quarto, Integer>> quartosMenosReservadosLista() {
+        return RelatoriosGerenciais.quartosMenosReservados(ativas, dados.quartos, TOP_N);
+    }
+
+    @Benchmark
+    public List<Map.Entry<Quarto, Integer>> quartosMenosReservadosCatalogo() {
+        return RelatoriosGerenciais.quartosMenosReservados(ativas, dados.catalogo, TOP_N);
+    }
+
+    @Benchmark
+    public int contarCancelamentos() {
+        return RelatoriosGerenciais.contarCancelamentos(historico, inicio, fim);
+    }
+
+    @Benchmark
+    public String alertaCapacidadeLista() {
+        return RelatoriosGerenciais.alertaCapacidade(ativas, dados.quartos, inicio, LIMITE);
+    }
+
+    @Benchmark
+    public String alertaCapacidadeCatalogo() {
+        return RelatoriosGerenciais.alertaCapacidade(ativas, dados.catalogo, inicio, LIMITE);
+    }
+
+    @Benchmark
+    public List<String> alertasCapacidade() {
+        return RelatoriosGerenciais.alertasCapacidade(ativas, dados.catalogo, inicio, fim, LIMITE);
+    }
+}
@@ -0,0 +1,120 @@
+package carga;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parâmetros de um teste de carga, lidos da linha de comando no formato {@code --chave=valor}.
+ * Parâmetros omitidos ficam com o valor padrão; {@link #toString()} lista todos, para que a
+ * execução possa ser repetida exatamente.
+ */
+public class ConfiguracaoCarga {
+
+    public enum Modo { FECHADO, ABERTO }
+
+    long semente = 42;
+    int hoteis = 1;
+    int quartos = 200;                       // por hotel
+    Map<String, Integer> categorias = pesos("Economico:60,Luxo:30,Suite:10");
+    int hospedes = 50_000;
+    double expoenteZipf = 1.1;               // repetição de hóspedes (0 = uniforme)
+    int threads = 4;
+    Modo modo = Modo.FECHADO;
+    double taxa = 20_000;                    // chegadas por segundo no modo aberto (todas as threads)
+    int duracao = 30;                        // segundos medidos
+    int aquecimento = 5;                     // segundos descartados antes da medição
+    Map<String, Integer> mix = pesos("reservar:50,cancelar:15,consultar:30,relatorio:5");
+    double sazonalidade = 0.5;               // amplitude da variação anual (0 = sem estações)
+    int diaPico = 15;                        // dia do ano de maior procura
+    int operacoesPorDia = 200;               // operações de cada thread por dia simulado
+    int antecedenciaMaxima = 60;             // dias entre o dia simulado e o check-in
+    int estadiaMaxima = 7;
+    LocalDate dataInicial = LocalDate.of(2025, 1, 1);
+
+    /**
+     * @param args Argumentos {@code --chave=valor}
+     * @return configuração com os valores informados sobre os padrões
+     */
+    public static ConfiguracaoCarga ler(String[] args) {
+        ConfiguracaoCarga c = new ConfiguracaoCarga();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("="))
+                throw new IllegalArgumentException("Argumento inválido (use --chave=valor): " + arg);
+            String chave = arg.substring(2, arg.indexOf('='));
+            String valor = arg.substring(arg.indexOf('=') + 1);
+            switch (chave) {
+                case "semente" -> c.semente = Long.parseLong(valor);
+                case "hoteis" -> c.hoteis = positivo(chave, Integer.parseInt(valor));
+                case "quartos" -> c.quartos = positivo(chave, Integer.parseInt(valor));
+                case "categorias" -> c.categorias = pesos(valor);
+                case "hospedes" -> c.hospedes = positivo(chave, Integer.parseInt(valor));
+                case "zipf" -> c.expoenteZipf = Double.parseDouble(valor);
+                case "threads" -> c.threads = positivo(chave, Integer.parseInt(valor));
+                case "modo" -> c.modo = Modo.valueOf(valor.toUpperCase());
+                case "taxa" -> c.taxa = Double.parseDouble(valor);
+                case "duracao" -> c.duracao = positivo(chave, Integer.parseInt(valor));
+                case "aquecimento" -> c.aquecimento = Integer.parseInt(valor);
+                case "mix" -> c.mix = pesos(valor);
+                case "sazonalidade" -> c.sazonalidade = Double.parseDouble(valor);
+                case "diaPico" -> c.diaPico = Integer.parseInt(valor);
+                case "operacoesPorDia" -> c.operacoesPorDia = positivo(chave, Integer.parseInt(valor));
+                case "antecedencia" -> c.antecedenciaMaxima = Integer.parseInt(valor);
+                case "estadia" -> c.estadiaMaxima = positivo(chave, Integer.parseInt(valor));
+                case "dataInicial" -> c.dataInicial = LocalDate.parse(valor);
+                default -> throw new IllegalArgumentException("Parâmetro desconhecido: " + chave);
+            }
+        }
+        if (c.sazonalidade < 0 || c.sazonalidade >= 1)
+            throw new IllegalArgumentException("Sazonalidade deve estar em [0, 1).");
+        if (c.modo == Modo.ABERTO && c.taxa <= 0)
+            throw new IllegalArgumentException("Taxa deve ser maior que zero no modo aberto.");
+        for (String tipo : c.mix.keySet()) {
+            if (!tipo.equals("reservar") && !tipo.equals("cancelar") && !tipo.equals("consultar")
+                    && !tipo.equals("relatorio"))
+                throw new IllegalArgumentException("Operação desconhecida no mix: " + tipo);
+        }
+        return c;
+    }
+
+    @Override
+    public String toString() {
+        return "--semente=" + semente + " --hoteis=" + hoteis + " --quartos=" + quartos
+                + " --categorias=" + formatar(categorias) + " --hospedes=" + hospedes + " --zipf=" + expoenteZipf
+                + " --threads=" + threads + " --modo=" + modo.name().toLowerCase() + " --taxa=" + taxa
+                + " --duracao=" + duracao + " --aquecimento=" + aquecimento + " --mix=" + formatar(mix)
+                + " --sazonalidade=" + sazonalidade + " --diaPico=" + diaPico
+                + " --operacoesPorDia=" + operacoesPorDia + " --antecedencia=" + antecedenciaMaxima
+                + " --estadia=" + estadiaMaxima + " --dataInicial=" + dataInicial;
+    }
+
+    // ==========================
+    // MÉTODOS AUXILIARES
+    // ==========================
+
+    // "a:60,b:40" -> {a=60, b=40}, na ordem informada
+    private static Map<String, Integer> pesos(String texto) {
+        Map<String, Integer> pesos = new LinkedHashMap<>();
+        for (String parte : texto.split(",")) {
+            String[] campos = parte.trim().split(":");
+            if (campos.length != 2) throw new IllegalArgumentException("Peso inválido (use nome:peso): " + parte);
+            int peso = Integer.parseInt(campos[1].trim());
+            if (peso < 0) throw new IllegalArgumentException("Peso não pode ser negativo: " + parte);
+            pesos.put(campos[0].trim(), peso);
+        }
+        if (pesos.values().stream().mapToInt(Integer::intValue).sum() == 0)
+            throw new IllegalArgumentException("A soma dos pesos deve ser maior que zero: " + texto);
+        return pesos;
+    }
+
+    private static String formatar(Map<String, Integer> pesos) {
+        StringBuilder sb = new StringBuilder();
+        pesos.forEach((nome, peso) -> sb.append(sb.length() == 0 ? "" : ",").append(nome).append(':').append(peso));
+        return sb.toString();
+    }
+
+    private static int positivo(String chave, int valor) {
+        if (valor <= 0) throw new IllegalArgumentException(chave + " deve ser maior que zero.");
+        return valor;
+    }
+}
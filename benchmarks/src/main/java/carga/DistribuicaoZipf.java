@@ -0,0 +1,38 @@
+package carga;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Amostragem Zipf sobre {0, ..., n-1}: o elemento de posição k é sorteado com probabilidade
+ * proporcional a 1 / (k + 1)^s. A distribuição acumulada é pré-calculada e cada sorteio é
+ * uma busca binária.
+ */
+public class DistribuicaoZipf {
+
+    private final double[] acumulada;
+
+    /**
+     * @param n       Número de elementos
+     * @param expoente Expoente s (0 = uniforme; valores maiores concentram nos primeiros)
+     */
+    public DistribuicaoZipf(int n, double expoente) {
+        if (n <= 0) throw new IllegalArgumentException("Número de elementos deve ser maior que zero.");
+        if (expoente < 0) throw new IllegalArgumentException("Expoente não pode ser negativo.");
+        this.acumulada = new double[n];
+        double soma = 0;
+        for (int k = 0; k < n; k++) {
+            soma += 1.0 / Math.pow(k + 1, expoente);
+            acumulada[k] = soma;
+        }
+        for (int k = 0; k < n; k++) {
+            acumulada[k] /= soma;
+        }
+    }
+
+    public int sortear(SplittableRandom aleatorio) {
+        int pos = Arrays.binarySearch(acumulada, aleatorio.nextDouble());
+        int indice = pos >= 0 ? pos : -pos - 1;
+        return Math.min(indice, acumulada.length - 1);
+    }
+}
@@ -0,0 +1,197 @@
+package carga;
+
+import modelos.Cliente;
+import modelos.Quarto;
+import modelos.Reserva;
+import relatorios.RelatoriosGerenciais;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Gera e executa a sequência de operações de uma thread do teste de carga.
+ *
+ * Cada thread tem seu próprio gerador aleatório, derivado da semente e do índice da thread,
+ * então a sequência de operações sorteadas é a mesma a cada execução. Com mais de uma thread
+ * a intercalação entre elas (e portanto quais reservas conflitam) depende do escalonamento.
+ *
+ * A thread percorre um calendário simulado: a cada {@code operacoesPorDia} operações avança
+ * um dia. A procura por reservas e a escolha da data de check-in seguem uma curva anual
+ * (cosseno com pico em {@code diaPico}), e cada cancelamento desfaz uma reserva feita antes
+ * pela própria thread.
+ */
+public class GeradorCarga {
+
+    public enum TipoOperacao { RESERVAR, CANCELAR, CONSULTAR, RELATORIO }
+
+    private static final int TENTATIVAS_DATA = 10;
+    private static final int JANELA_RELATORIO = 30; // dias
+
+    private final ConfiguracaoCarga config;
+    private final List<HotelCarga> hoteis;
+    private final PopulacaoHospedes hospedes;
+    private final DistribuicaoZipf zipf;
+    private final SplittableRandom aleatorio;
+
+    private final double[] pesosMix;          // na ordem de TipoOperacao
+    private final List<Reserva> minhasReservas;
+    private final List<HotelCarga> hotelDasReservas;
+
+    private long operacoes;
+    private TipoOperacao ultimoTipo;
+
+    GeradorCarga(ConfiguracaoCarga config, List<HotelCarga> hoteis, PopulacaoHospedes hospedes,
+                 DistribuicaoZipf zipf, int indiceThread) {
+        this.config = config;
+        this.hoteis = hoteis;
+        this.hospedes = hospedes;
+        this.zipf = zipf;
+        this.aleatorio = new SplittableRandom(config.semente * 1_000_003L + indiceThread);
+        this.pesosMix = new double[]{
+                config.mix.getOrDefault("reservar", 0),
+                config.mix.getOrDefault("cancelar", 0),
+                config.mix.getOrDefault("consultar", 0),
+                config.mix.getOrDefault("relatorio", 0)};
+        this.minhasReservas = new ArrayList<>();
+        this.hotelDasReservas = new ArrayList<>();
+    }
+
+    /**
+     * Sorteia e executa a próxima operação, sincronizando no hotel sorteado.
+     *
+     * @return true se a operação teve sucesso (ex: false para reserva com conflito)
+     */
+    boolean executarProxima() {
+        LocalDate hoje = config.dataInicial.plusDays(operacoes++ / config.operacoesPorDia);
+        TipoOperacao tipo = sortearTipo(hoje);
+        if (tipo == TipoOperacao.CANCELAR && minhasReservas.isEmpty()) {
+            tipo = TipoOperacao.CONSULTAR; // nada a cancelar ainda
+        }
+        ultimoTipo = tipo;
+        return switch (tipo) {
+            case RESERVAR -> reservar(hoje);
+            case CANCELAR -> cancelar();
+            case CONSULTAR -> consultar(hoje);
+            case RELATORIO -> relatorio(hoje);
+        };
+    }
+
+    /**
+     * @return tipo da última operação executada
+     */
+    TipoOperacao getUltimoTipo() {
+        return ultimoTipo;
+    }
+
+    // ==========================
+    // OPERAÇÕES
+    // ==========================
+
+    private boolean reservar(LocalDate hoje) {
+        HotelCarga hotel = sortearHotel();
+        Quarto quarto = sortearQuarto(hotel);
+        Cliente cliente = hospedes.get(zipf.sortear(aleatorio));
+        LocalDate checkIn = sortearCheckIn(hoje);
+        LocalDate checkOut = checkIn.plusDays(1 + aleatorio.nextInt(config.estadiaMaxima));
+        Reserva reserva = new Reserva(cliente, quarto, checkIn, checkOut);
+        boolean cadastrada;
+        synchronized (hotel) {
+            cadastrada = hotel.gerenciador.cadastrarReserva(reserva);
+        }
+        if (cadastrada) {
+            minhasReservas.add(reserva);
+            hotelDasReservas.add(hotel);
+        }
+        return cadastrada;
+    }
+
+    private boolean cancelar() {
+        int i = aleatorio.nextInt(minhasReservas.size());
+        Reserva reserva = minhasReservas.get(i);
+        HotelCarga hotel = hotelDasReservas.get(i);
+        // remoção O(1): troca com a última
+        int ultima = minhasReservas.size() - 1;
+        minhasReservas.set(i, minhasReservas.get(ultima));
+        hotelDasReservas.set(i, hotelDasReservas.get(ultima));
+        minhasReservas.remove(ultima);
+        hotelDasReservas.remove(ultima);
+        synchronized (hotel) {
+            return hotel.gerenciador.cancelarReserva(reserva);
+        }
+    }
+
+    // Metade das consultas busca a reserva de um hóspede, a outra metade os quartos livres
+    private boolean consultar(LocalDate hoje) {
+        HotelCarga hotel = sortearHotel();
+        if (aleatorio.nextBoolean()) {
+            Cliente cliente = hospedes.get(zipf.sortear(aleatorio));
+            synchronized (hotel) {
+                return hotel.gerenciador.consultarReservaPorCliente(cliente.getCpfNumerico()) != null;
+            }
+        }
+        String categoria = hotel.categorias.get(aleatorio.nextInt(hotel.categorias.size()));
+        LocalDate data = sortearCheckIn(hoje);
+        synchronized (hotel) {
+            return !hotel.gerenciador.listarQuartosDisponiveis(hotel.catalogo, data, categoria).isEmpty();
+        }
+    }
+
+    private boolean relatorio(LocalDate hoje) {
+        HotelCarga hotel = sortearHotel();
+        LocalDate fim = hoje.plusDays(JANELA_RELATORIO - 1);
+        int qual = aleatorio.nextInt(4);
+        synchronized (hotel) {
+            switch (qual) {
+                case 0 -> RelatoriosGerenciais.calcularTaxaOcupacao(hotel.gerenciador.listarReservas(),
+                        hotel.catalogo, hoje, fim);
+                case 1 -> RelatoriosGerenciais.ocupacaoDiaria(hotel.gerenciador.listarReservas(),
+                        hotel.catalogo, hoje, fim);
+                case 2 -> RelatoriosGerenciais.quartosMaisReservados(hotel.gerenciador.listarReservas(), 3);
+                default -> RelatoriosGerenciais.contarCancelamentos(hotel.historico, hoje, fim);
+            }
+        }
+        return true;
+    }
+
+    // ==========================
+    // SORTEIOS
+    // ==========================
+
+    // Fator sazonal em [1 - A, 1 + A], máximo no dia de pico
+    private double fatorSazonal(LocalDate data) {
+        double angulo = 2 * Math.PI * (data.getDayOfYear() - config.diaPico) / 365.0;
+        return 1 + config.sazonalidade * Math.cos(angulo);
+    }
+
+    // A procura por reservas acompanha a estação; as demais operações têm peso fixo
+    private TipoOperacao sortearTipo(LocalDate hoje) {
+        double reservar = pesosMix[0] * fatorSazonal(hoje);
+        double total = reservar + pesosMix[1] + pesosMix[2] + pesosMix[3];
+        double x = aleatorio.nextDouble() * total;
+        if ((x -= reservar) < 0) return TipoOperacao.RESERVAR;
+        if ((x -= pesosMix[1]) < 0) return TipoOperacao.CANCELAR;
+        if ((x -= pesosMix[2]) < 0) return TipoOperacao.CONSULTAR;
+        return TipoOperacao.RELATORIO;
+    }
+
+    // Antecedência uniforme, aceita com probabilidade proporcional ao fator sazonal do check-in
+    private LocalDate sortearCheckIn(LocalDate hoje) {
+        LocalDate data = hoje;
+        for (int t = 0; t < TENTATIVAS_DATA; t++) {
+            data = hoje.plusDays(aleatorio.nextInt(config.antecedenciaMaxima + 1));
+            if (aleatorio.nextDouble() * (1 + config.sazonalidade) < fatorSazonal(data)) break;
+        }
+        return data;
+    }
+
+    private HotelCarga sortearHotel() {
+        return hoteis.get(aleatorio.nextInt(hoteis.size()));
+    }
+
+    // Procura uniforme entre os quartos: cada categoria é pedida na proporção em que existe no hotel
+    private Quarto sortearQuarto(HotelCarga hotel) {
+        return hotel.quartos.get(aleatorio.nextInt(hotel.quartos.size()));
+    }
+}
@@ -0,0 +1,60 @@
+package carga;
+
+import catalogo.CatalogoQuartos;
+import gerenciador.GerenciadorReservas;
+import historico.HistoricoReservas;
+import modelos.Quarto;
+import modelos.RegistroEntidades;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Um hotel sintético: catálogo com a composição de categorias pedida, gerenciador e histórico.
+ *
+ * O gerenciador não é seguro para uso concorrente; as threads do teste sincronizam no próprio
+ * hotel antes de cada operação.
+ */
+public class HotelCarga {
+
+    final int id;
+    final CatalogoQuartos catalogo;
+    final HistoricoReservas historico;
+    final GerenciadorReservas gerenciador;
+    final List<String> categorias;
+    final List<Quarto> quartos;
+
+    /**
+     * @param id         Índice do hotel
+     * @param quartos    Total de quartos
+     * @param categorias Peso de cada categoria na composição do hotel
+     */
+    HotelCarga(int id, int quartos, Map<String, Integer> categorias) {
+        this.id = id;
+        this.catalogo = new CatalogoQuartos(new RegistroEntidades());
+        this.historico = new HistoricoReservas(catalogo.getRegistro());
+        this.historico.setVerboso(false);
+        this.gerenciador = new GerenciadorReservas(historico);
+        this.gerenciador.setVerboso(false);
+        this.categorias = new ArrayList<>();
+        this.quartos = new ArrayList<>();
+
+        // divide os quartos proporcionalmente aos pesos; a última categoria fica com a sobra do arredondamento
+        int somaPesos = categorias.values().stream().mapToInt(Integer::intValue).sum();
+        int numero = 1;
+        int restantes = quartos;
+        int indice = 0;
+        for (Map.Entry<String, Integer> e : categorias.entrySet()) {
+            boolean ultima = ++indice == categorias.size();
+            int total = ultima ? restantes : Math.min(restantes, Math.max(e.getValue() > 0 ? 1 : 0,
+                    (int) Math.round((double) quartos * e.getValue() / somaPesos)));
+            restantes -= total;
+            if (total == 0) continue;
+            for (int i = 0; i < total; i++) {
+                this.quartos.add(catalogo.adicionarQuarto(numero++, e.getKey()));
+            }
+            this.categorias.add(e.getKey());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package carga;
+
+import modelos.Cliente;
+import modelos.Cpf;
+
+/**
+ * Hóspedes sintéticos com CPFs válidos gerados a partir da posição, de modo que a mesma
+ * posição corresponde sempre ao mesmo hóspede entre execuções e versões.
+ */
+public class PopulacaoHospedes {
+
+    private static final int MAIOR_SEQUENCIAL = 899_999_999;
+
+    private final Cliente[] clientes;
+
+    public PopulacaoHospedes(int total) {
+        this.clientes = new Cliente[total];
+        for (int i = 0; i < total; i++) {
+            clientes[i] = new Cliente("Hóspede " + i, gerarCpf(i));
+        }
+    }
+
+    public Cliente get(int posicao) {
+        return clientes[posicao];
+    }
+
+    public int total() {
+        return clientes.length;
+    }
+
+    /**
+     * Gera um CPF válido a partir de um número sequencial (dígitos verificadores calculados).
+     * A base de 9 dígitos é 100.000.000 + sequencial; as bases com um único dígito repetido
+     * (111.111.111, 222.222.222, ...), que não formam CPF válido, são trocadas por 000.000.00d,
+     * fora da faixa das demais. Assim cada sequencial tem um CPF distinto e os outros não mudam.
+     *
+     * @param sequencial Número entre 0 e 899.999.999 (inclusive)
+     * @return CPF correspondente
+     * @throws IllegalArgumentException se o sequencial estiver fora da faixa
+     */
+    public static Cpf gerarCpf(int sequencial) {
+        if (sequencial < 0 || sequencial > MAIOR_SEQUENCIAL)
+            throw new IllegalArgumentException("Sequencial fora da faixa 0.." + MAIOR_SEQUENCIAL + ": " + sequencial);
+        int[] d = new int[11];
+        long base = 100_000_000L + sequencial;
+        if (base % 111_111_111L == 0) base /= 111_111_111L; // ex: 333.333.333 -> 000.000.003
+        for (int i = 8; i >= 0; i--) {
+            d[i] = (int) (base % 10);
+            base /= 10;
+        }
+        d[9] = digitoVerificador(d, 9);
+        d[10] = digitoVerificador(d, 10);
+        StringBuilder sb = new StringBuilder(11);
+        for (int x : d) sb.append(x);
+        return Cpf.parse(sb);
+    }
+
+    private static int digitoVerificador(int[] d, int tamanho) {
+        int soma = 0;
+        for (int i = 0; i < tamanho; i++) {
+            soma += d[i] * (tamanho + 1 - i);
+        }
+        int resto = (soma * 10) % 11;
+        return resto == 10 ? 0 : resto;
+    }
+}
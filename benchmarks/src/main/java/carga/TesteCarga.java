@@ -0,0 +1,196 @@
+package carga;
+
+import carga.GeradorCarga.TipoOperacao;
+import metricas.HistogramaLatencia;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Teste de carga em processo sobre o {@link gerenciador.GerenciadorReservas}.
+ *
+ * Modos:
+ * - fechado: cada thread executa a próxima operação assim que a anterior termina
+ *   (mede a vazão máxima com N clientes);
+ * - aberto: as chegadas seguem uma taxa fixa, dividida entre as threads; a latência é medida
+ *   a partir do instante previsto da chegada, então filas formadas quando o sistema não
+ *   acompanha a taxa aparecem nos percentis (sem omissão coordenada).
+ *
+ * Ao fim são informadas a vazão, os percentis de latência por tipo de operação e o crescimento
+ * do heap. Exemplo, a partir da raiz do projeto depois de {@code mvn package}:
+ * <pre>
+ *     java -cp benchmarks/target/benchmarks.jar carga.TesteCarga --threads=8 --modo=aberto --taxa=50000
+ * </pre>
+ */
+public class TesteCarga {
+
+    private final ConfiguracaoCarga config;
+    private final List<HotelCarga> hoteis;
+    private final PopulacaoHospedes hospedes;
+    private final DistribuicaoZipf zipf;
+
+    private final HistogramaLatencia[] latencias;
+    private final LongAdder[] falhas;
+
+    public TesteCarga(ConfiguracaoCarga config) {
+        this.config = config;
+        this.hoteis = new ArrayList<>();
+        for (int h = 0; h < config.hoteis; h++) {
+            hoteis.add(new HotelCarga(h, config.quartos, config.categorias));
+        }
+        this.hospedes = new PopulacaoHospedes(config.hospedes);
+        this.zipf = new DistribuicaoZipf(config.hospedes, config.expoenteZipf);
+        int tipos = TipoOperacao.values().length;
+        this.latencias = new HistogramaLatencia[tipos];
+        this.falhas = new LongAdder[tipos];
+        for (int t = 0; t < tipos; t++) {
+            latencias[t] = new HistogramaLatencia();
+            falhas[t] = new LongAdder();
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        ConfiguracaoCarga config = ConfiguracaoCarga.ler(args);
+        System.out.println("Configuração: " + config);
+        new TesteCarga(config).executar();
+    }
+
+    /**
+     * Executa aquecimento e medição e imprime o relatório.
+     */
+    public void executar() throws InterruptedException {
+        MemoryMXBean memoria = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long heapInicial = memoria.getHeapMemoryUsage().getUsed();
+        long[] gcInicial = coletasDeLixo();
+
+        long inicio = System.nanoTime();
+        long inicioMedicao = inicio + config.aquecimento * 1_000_000_000L;
+        long fim = inicioMedicao + config.duracao * 1_000_000_000L;
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < config.threads; i++) {
+            GeradorCarga gerador = new GeradorCarga(config, hoteis, hospedes, zipf, i);
+            int indice = i;
+            Runnable laco = config.modo == ConfiguracaoCarga.Modo.FECHADO
+                    ? () -> lacoFechado(gerador, inicioMedicao, fim)
+                    : () -> lacoAberto(gerador, indice, inicio, inicioMedicao, fim);
+            Thread t = new Thread(laco, "carga-" + i);
+            threads.add(t);
+            t.start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+
+        long heapFinal = memoria.getHeapMemoryUsage().getUsed();
+        System.gc();
+        long heapRetido = memoria.getHeapMemoryUsage().getUsed();
+        long[] gcFinal = coletasDeLixo();
+
+        imprimirRelatorio(heapInicial, heapFinal, heapRetido,
+                gcFinal[0] - gcInicial[0], gcFinal[1] - gcInicial[1]);
+    }
+
+    // ==========================
+    // LAÇOS DAS THREADS
+    // ==========================
+
+    private void lacoFechado(GeradorCarga gerador, long inicioMedicao, long fim) {
+        long agora = System.nanoTime();
+        while (agora < fim) {
+            long inicioOperacao = agora;
+            boolean sucesso = gerador.executarProxima();
+            agora = System.nanoTime();
+            if (inicioOperacao >= inicioMedicao) {
+                registrar(gerador.getUltimoTipo(), agora - inicioOperacao, sucesso);
+            }
+        }
+    }
+
+    private void lacoAberto(GeradorCarga gerador, int indice, long inicio, long inicioMedicao, long fim) {
+        double intervalo = config.threads * 1e9 / config.taxa;
+        // chegadas das threads intercaladas, para não saírem todas no mesmo instante
+        double previsto = inicio + intervalo * indice / config.threads;
+        while (previsto < fim) {
+            long chegada = (long) previsto;
+            long espera = chegada - System.nanoTime();
+            if (espera > 0) LockSupport.parkNanos(espera);
+            boolean sucesso = gerador.executarProxima();
+            long termino = System.nanoTime();
+            if (chegada >= inicioMedicao) {
+                registrar(gerador.getUltimoTipo(), termino - chegada, sucesso);
+            }
+            previsto += intervalo;
+        }
+    }
+
+    private void registrar(TipoOperacao tipo, long nanos, boolean sucesso) {
+        latencias[tipo.ordinal()].registrar(nanos);
+        if (!sucesso) falhas[tipo.ordinal()].increment();
+    }
+
+    // ==========================
+    // RELATÓRIO
+    // ==========================
+
+    private void imprimirRelatorio(long heapInicial, long heapFinal, long heapRetido, long coletas, long tempoGc) {
+        System.out.println();
+        System.out.println("=== Teste de carga (" + config.modo.name().toLowerCase() + ", "
+                + config.threads + " threads, " + config.duracao + " s medidos) ===");
+        System.out.printf("%-10s %12s %10s %12s %10s %10s %10s %10s%n",
+                "Operação", "Total", "Falhas", "ops/s", "p50", "p99", "p99.9", "Máximo");
+        long total = 0;
+        HistogramaLatencia todas = new HistogramaLatencia();
+        for (TipoOperacao tipo : TipoOperacao.values()) {
+            HistogramaLatencia h = latencias[tipo.ordinal()];
+            long n = h.contagem();
+            total += n;
+            System.out.printf("%-10s %12d %10d %12.1f %10s %10s %10s %10s%n",
+                    tipo.name().toLowerCase(), n, falhas[tipo.ordinal()].sum(), (double) n / config.duracao,
+                    formatar(h.percentil(50)), formatar(h.percentil(99)), formatar(h.percentil(99.9)),
+                    formatar(h.maximo()));
+        }
+        System.out.printf("%-10s %12d %10s %12.1f%n", "total", total, "", (double) total / config.duracao);
+        if (config.modo == ConfiguracaoCarga.Modo.ABERTO) {
+            System.out.printf("Taxa pedida: %.1f ops/s%n", config.taxa);
+        }
+
+        int ativas = 0, canceladas = 0;
+        for (HotelCarga hotel : hoteis) {
+            synchronized (hotel) {
+                ativas += hotel.gerenciador.totalReservasAtivas();
+                canceladas += hotel.historico.totalReservasCanceladas();
+            }
+        }
+        System.out.println("Reservas ativas ao fim: " + ativas + ", no histórico: " + canceladas);
+        System.out.printf("Heap: inicial %.1f MB, final %.1f MB, retido após GC %.1f MB (crescimento %+.1f MB)%n",
+                mb(heapInicial), mb(heapFinal), mb(heapRetido), mb(heapRetido - heapInicial));
+        System.out.println("Coletas de lixo: " + coletas + " (" + tempoGc + " ms)");
+    }
+
+    private static long[] coletasDeLixo() {
+        long coletas = 0, tempo = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            coletas += Math.max(0, gc.getCollectionCount());
+            tempo += Math.max(0, gc.getCollectionTime());
+        }
+        return new long[]{coletas, tempo};
+    }
+
+    private static double mb(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+
+    private static String formatar(long nanos) {
+        if (nanos < 1_000) return nanos + "ns";
+        if (nanos < 1_000_000) return String.format("%.1fµs", nanos / 1e3);
+        if (nanos < 1_000_000_000) return String.format("%.2fms", nanos / 1e6);
+        return String.format("%.2fs", nanos / 1e9);
+    }
+}